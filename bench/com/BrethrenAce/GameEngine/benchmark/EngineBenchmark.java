@@ -0,0 +1,222 @@
+package com.BrethrenAce.GameEngine.benchmark;
+
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.TestBoards;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.player.Player;
+import com.BrethrenAce.GameEngine.simulation.GameStrategies;
+import com.BrethrenAce.GameEngine.simulation.SelfPlaySimulator;
+import com.BrethrenAce.GameEngine.simulation.SimulationResult;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the game engine hot paths: move evaluation of a Piece,
+ * Move evaluation and execution, Player moves, undo and redo, random builds
+ * and complete random games.
+ * Every benchmark that changes a Board reverts it within the same call, so
+ * each call starts from the same position and measures the same work. The
+ * Boards are not in debug mode, so the measured paths print nothing.
+ * main() runs the suite with the GC profiler, which reports the allocation
+ * rate and bytes allocated per call next to the time per call.
+ * Usage: EngineBenchmark [benchmark name regex]
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+  /** Seed of every benchmark position */
+  private static final long SEED = 7;
+
+  /** Moves played into the position of the undo and redo benchmark */
+  private static final int PLAYED_MOVES = 40;
+
+  /**
+   * Headless game on the demo build, started and ready for the ALLY or AXIS
+   * Player to move.
+   */
+  @State(Scope.Thread)
+  public static class GameState {
+    Board board;
+    List<Piece> pieces;
+    int[] moveBuffer;
+    Move move;
+
+    @Setup
+    public void setUp() {
+      board = TestBoards.demoBoard();
+      pieces = new ArrayList<>();
+      for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+        if (board.isTileOccupied(i))
+          pieces.add(board.getTile(i).getPiece());
+      }
+
+      // Any move into an empty tile that is not made by a Flag, so it never
+      // ends the game.
+      moveBuffer = new int[MoveGenerator.MAX_MOVES];
+      final Player player = board.getPlayer(board.getMoveMaker());
+      final int moveCount = MoveGenerator.generateMoves(board, player.getAlliance(), moveBuffer);
+      for (int i = 0; i < moveCount && move == null; i++) {
+        final int origin = Move.getPackedOrigin(moveBuffer[i]);
+        final int destination = Move.getPackedDestination(moveBuffer[i]);
+        if (board.isTileEmpty(destination) && board.getPieceRank(origin) != BitBoard.FLAG_RANK)
+          move = new Move(player, board, origin, destination);
+      }
+    }
+  }
+
+  /**
+   * Headless game on a random build with several random moves played, the
+   * last of them ready to be undone.
+   */
+  @State(Scope.Thread)
+  public static class PlayedGameState {
+    Board board;
+
+    @Setup
+    public void setUp() {
+      board = TestBoards.randomBoard(SEED);
+      TestBoards.playRandomMoves(board, PLAYED_MOVES, SEED);
+    }
+  }
+
+  /**
+   * Random source of the benchmarks creating new games.
+   */
+  @State(Scope.Thread)
+  public static class RandomState {
+    SplittableRandom random;
+    SelfPlaySimulator simulator;
+    long gameSeed;
+
+    @Setup
+    public void setUp() {
+      random = new SplittableRandom(SEED);
+      simulator = new SelfPlaySimulator(SelfPlaySimulator.randomSetup(),
+                                        GameStrategies.random(), GameStrategies.random());
+      gameSeed = SEED;
+    }
+  }
+
+  /**
+   * Evaluates the moves of every piece into Move instances.
+   */
+  @Benchmark
+  public void evaluateMoves(final GameState state, final Blackhole blackhole) {
+    for (final Piece piece : state.pieces)
+      blackhole.consume(piece.evaluateMoves(state.board));
+  }
+
+  /**
+   * Evaluates the moves of every piece into a packed move buffer.
+   */
+  @Benchmark
+  public int evaluatePackedMoves(final GameState state) {
+    int moveCount = 0;
+    for (final Piece piece : state.pieces)
+      moveCount += piece.evaluateMoves(state.board, state.moveBuffer, 0);
+    return moveCount;
+  }
+
+  /**
+   * Evaluates a Move and its combat outcome.
+   */
+  @Benchmark
+  public Object evaluateMove(final GameState state) {
+    state.move.evaluateMove();
+    return state.move.getMoveType();
+  }
+
+  /**
+   * Evaluates and executes a Move, then unmakes it on the Board.
+   */
+  @Benchmark
+  public boolean executeMove(final GameState state) {
+    state.move.evaluateMove();
+    final boolean executed = state.move.execute();
+    state.board.unmakeMove(state.move.getUndoRecord());
+    return executed;
+  }
+
+  /**
+   * Makes a Player move, then undoes it.
+   */
+  @Benchmark
+  public boolean makeMove(final GameState state) {
+    final Player player = state.board.getPlayer(state.board.getMoveMaker());
+    final boolean made = player.makeMove(state.move.getOriginCoords(),
+                                         state.move.getDestinationCoords());
+    state.board.getPlayer(state.board.getMoveMaker()).undoLastMove();
+    return made;
+  }
+
+  /**
+   * Undoes the last move, then redoes it.
+   */
+  @Benchmark
+  public boolean undoRedo(final PlayedGameState state) {
+    final boolean undone = state.board.getPlayer(state.board.getMoveMaker()).undoLastMove();
+    return state.board.getPlayer(state.board.getMoveMaker()).redoLastMove() && undone;
+  }
+
+  /**
+   * Creates a random build of both Alliances.
+   */
+  @Benchmark
+  public BoardBuilder createRandomBuild(final RandomState state) {
+    return new BoardBuilder().createRandomBuild(state.random);
+  }
+
+  /**
+   * Plays a complete game of random moves from a random build, a new game
+   * every call.
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public SimulationResult randomPlayout(final RandomState state) {
+    return state.simulator.playGame(state.gameSeed++);
+  }
+
+  /**
+   * Runs the benchmarks with the GC profiler.
+   * @param args optional regex of the benchmark names to run.
+   * @throws RunnerException if a benchmark fails.
+   */
+  public static void main(final String[] args) throws RunnerException {
+    final String include = args.length > 0 ? args[0] : EngineBenchmark.class.getSimpleName();
+    new Runner(new OptionsBuilder()
+      .include(include)
+      .addProfiler(GCProfiler.class)
+      .build()).run();
+  }
+}
@@ -3,8 +3,12 @@ package com.BrethrenAce.GUI;
 import com.BrethrenAce.GameEngine.Alliance;
 import com.BrethrenAce.GameEngine.Board;
 import com.BrethrenAce.GameEngine.Board.Tile;
+import com.BrethrenAce.GameEngine.LegalMoveCache;
 import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveType;
 import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.player.AIPlayer;
+import com.BrethrenAce.GameEngine.player.AlphaBetaSearch;
 import com.BrethrenAce.GameEngine.player.Player;
 import com.BrethrenAce.GameUtilities.BoardUtils;
 
@@ -18,9 +22,12 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntSupplier;
 /**
  * Board JPanel that displays the board game and all its components.
  *
@@ -35,7 +42,7 @@ public class BoardPanel extends JPanel {
 
   /** Menu bar and other buttons */
   private static JButton restartBtn,quitBtn, undoBtn,
-                         redoBtn,rulesBtn,
+                         redoBtn,rulesBtn,resultBtn,
                          doneArrangingBtn, startGameBtn;
 
   /** Player names assigned once game initialized. */
@@ -108,6 +115,7 @@ public class BoardPanel extends JPanel {
     undoBtn.setVisible(false);
     redoBtn.setVisible(false);
     rulesBtn.setVisible(false);
+    resultBtn.setVisible(false);
 
     doneArrangingBtn.setVisible(true);
     startGameBtn.setVisible(true);
@@ -121,10 +129,14 @@ public class BoardPanel extends JPanel {
     undoBtn.setVisible(true);
     redoBtn.setVisible(true);
     rulesBtn.setVisible(true);
+    resultBtn.setVisible(gameStateBoard.getTablebase() != null);
     setPlayerNamesVisibility(true);
 
     doneArrangingBtn.setVisible(false);
     startGameBtn.setVisible(false);
+
+    // Let the first move maker play if it is an AIPlayer.
+    playAIMove();
   }
 
   /**
@@ -193,6 +205,15 @@ public class BoardPanel extends JPanel {
     return rulesBtn;
   }
 
+  /**
+   * Gets the result button of the menu bar panel, shown in game if the Board
+   * has a tablebase.
+   * @return JButton resultBtn MenuBarPanel field.
+   */
+  public final JButton getResultBtn() {
+    return resultBtn;
+  }
+
   /**
    * Gets the done arranging button of the move history panel.
    * @return JButton doneArrangingBtn MoveHistoryPanel field.
@@ -241,6 +262,69 @@ public class BoardPanel extends JPanel {
     moveHistoryPanel.appendToMoveHistory(gameStateBoard.getLastMove());
   }
 
+  /**
+   * Appends the last executed move to the move history text area, announces
+   * the winner if the game has concluded, and refreshes the piece icons of
+   * the tiles the move changed.
+   */
+  private static void announceLastMove() {
+    // The executed move will now be the last move after being
+    // executed. Append move to mov history panel.
+    if (gameStateBoard.getLastMove() != null) {
+      final Move lastMove = gameStateBoard.getLastMove();
+      moveHistoryPanel.appendToMoveHistory(lastMove);
+      boardPanel.markDirty(lastMove.getOriginCoords());
+      boardPanel.markDirty(lastMove.getDestinationCoords());
+    }
+
+    // If game has concluded or has a winner, announce to move
+    // history text area.
+    if (gameStateBoard.isEndGame()) {
+      final String endGameMessage = "GAME OVER, " +
+        gameStateBoard.getEndGameWinner() + " PLAYER WON!";
+      final String separator = "\n**********************************\n";
+      moveHistoryPanel.appendTextToMoveHistory("\n" + separator +
+                                      endGameMessage + separator);
+      boardPanel.refreshTilesBackgroundColor();
+      boardPanel.refreshInnerBoardPanelIcons();
+    }
+
+    boardPanel.refreshDirtyTiles();
+  }
+
+  /**
+   * Lets the move maker play its move if it is an AIPlayer. The search runs
+   * on a SwingWorker thread with a snapshot of the board state, and the chosen
+   * move is executed back on the Swing thread.
+   */
+  public static void playAIMove() {
+    if (gameStateBoard.isEndGame() || !gameStateBoard.isGameStarted() ||
+        !(gameStateBoard.getPlayer(gameStateBoard.getMoveMaker()) instanceof AIPlayer))
+      return;
+
+    final AIPlayer aiPlayer = (AIPlayer) gameStateBoard.getPlayer(gameStateBoard.getMoveMaker());
+    final IntSupplier moveSearch = aiPlayer.createMoveSearch();
+
+    new SwingWorker<Integer, Void>() {
+      @Override
+      protected Integer doInBackground() {
+        return moveSearch.getAsInt();
+      }
+
+      @Override
+      protected void done() {
+        try {
+          final int bestMove = get();
+          if (bestMove != AlphaBetaSearch.NO_MOVE &&
+              aiPlayer.makeMove(Move.getPackedOrigin(bestMove), Move.getPackedDestination(bestMove)))
+            announceLastMove();
+        } catch (final InterruptedException | ExecutionException e) {
+          e.printStackTrace();
+        }
+      }
+    }.execute();
+  }
+
   /**
    * Print opening message in move history text area.
    */
@@ -255,7 +339,7 @@ public class BoardPanel extends JPanel {
   public static class MenuBarPanel extends JPanel {
 
     /** Menu bar buttons */
-    private final JButton restart, quit, undo, redo,rules;
+    private final JButton restart, quit, undo, redo,rules,result;
 
     /** Player names label */
     private final JLabel playerAxisName, playerAllyName;
@@ -298,6 +382,9 @@ public class BoardPanel extends JPanel {
       rules = new JButton("Game Rules");
       this.add(rules);
       rules.setVisible(false);
+      result = new JButton("Show Result");
+      this.add(result);
+      result.setVisible(false);
 
       this.add(new JSeparator(SwingConstants.HORIZONTAL));
       this.add(new JSeparator(SwingConstants.HORIZONTAL));
@@ -321,6 +408,7 @@ public class BoardPanel extends JPanel {
       undoBtn = this.undo;
       redoBtn = this.redo;
       rulesBtn = this.rules;
+      resultBtn = this.result;
     }
 
   } // MenuBarPanel
@@ -395,17 +483,17 @@ public class BoardPanel extends JPanel {
     public String convertMoveToString(final Move move) {
       String moveString = "";
 
-      if (move.getMoveType() == "attacking") {
+      if (move.getMoveType() == MoveType.ATTACKING) {
         final Alliance superiorPieceAlliance =
           move.getEliminatedPiece().getPieceAlliance() ==
           Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
 
         moveString = "\nTurn " + move.getTurnId() + ": " + move.getOriginCoords() +
                    " to " + move.getDestinationCoords() + " " + superiorPieceAlliance;
-      } else if (move.getMoveType() == "draw") {
+      } else if (move.getMoveType() == MoveType.DRAW) {
         moveString = "\nTurn " + move.getTurnId() + ": " + move.getOriginCoords() +
                    " to " + move.getDestinationCoords() + " DRAW";
-      } else if (move.getMoveType() == "normal") {
+      } else if (move.getMoveType() == MoveType.NORMAL) {
         moveString = "\nTurn " + move.getTurnId() + ": " + move.getOriginCoords() +
                    " to " + move.getDestinationCoords();
       } else {
@@ -523,6 +611,12 @@ public class BoardPanel extends JPanel {
     /** Hovered tile ID. */
     private int hoveredTileId;
 
+    /** Tiles whose piece icon may have changed since the last refresh. */
+    private final BitSet dirtyTiles = new BitSet(BoardUtils.ALL_TILES_COUNT);
+
+    /** Move maker the piece icons were last assigned for. */
+    private Alliance iconMoveMaker;
+
     /** Current active tile ID. -1 if no active */
     private int activeTileId = -1;
 
@@ -567,24 +661,24 @@ public class BoardPanel extends JPanel {
      */
     // TODO: add tileId on top left of tile panel
     private void highlightPieceMoves(final int tileId) {
-      final Tile sourceTile = gameStateBoard.getTile(tileId);
-
-      if (sourceTile.isTileOccupied()) {
-        /* HashMap of all current active piece Moves. */
-        Map<String, Move> currentPieceMoves = sourceTile.getPiece().evaluateMoves(gameStateBoard);
-
-        for (final Map.Entry<String, Move> entry : currentPieceMoves.entrySet()) {
-          final int destinationCoords = entry.getValue().getDestinationCoords();
-
-          if (entry.getValue().getMoveType() == "attacking" ||
-              entry.getValue().getMoveType() == "draw") {
-            boardTiles.get(destinationCoords).setBackground(ENEMY_TILE_COLOR);
-
-          } else if (entry.getValue().getMoveType() == "normal") {
-            boardTiles.get(destinationCoords).setBackground(VALID_TILE_COLOR);
-
-          } else if (entry.getValue().getMoveType() == "invalid") {
-            boardTiles.get(destinationCoords).setBackground(INVALID_TILE_COLOR);
+      if (gameStateBoard.isTileOccupied(tileId)) {
+        /* Packed candidate moves of the current board state, generated once per state. */
+        final LegalMoveCache legalMoves = gameStateBoard.getLegalMoveCache();
+
+        for (int i = 0; i < legalMoves.getMoveCount(tileId); i++) {
+          final int move = legalMoves.getMove(tileId, i);
+          final int destinationCoords = Move.getPackedDestination(move);
+          switch (Move.getPackedMoveType(move)) {
+            case ATTACKING:
+            case DRAW:
+              boardTiles.get(destinationCoords).setBackground(ENEMY_TILE_COLOR);
+              break;
+            case NORMAL:
+              boardTiles.get(destinationCoords).setBackground(VALID_TILE_COLOR);
+              break;
+            case INVALID:
+              boardTiles.get(destinationCoords).setBackground(INVALID_TILE_COLOR);
+              break;
           }
           // Sets highlighted tile as candidate move tile.
           candidateMoveTiles.add(destinationCoords);
@@ -672,24 +766,59 @@ public class BoardPanel extends JPanel {
     }
 
     /**
-     * Refresh tile pieces icons.
+     * Refresh tile pieces icons. Only tiles whose icon changed are repainted.
      */
     private void refreshInnerBoardPanelIcons() {
-      for (int i = 0; i < boardTiles.size(); i++) {
+      dirtyTiles.set(0, boardTiles.size());
+      refreshDirtyTiles();
+    }
+
+    /**
+     * Marks a tile whose piece may have changed, e.g. the origin or
+     * destination of a move, to be refreshed by refreshDirtyTiles().
+     * @param tileId tile id of the changed tile.
+     */
+    private void markDirty(final int tileId) {
+      dirtyTiles.set(tileId);
+    }
+
+    /**
+     * Refresh the piece icons of the marked tiles. If the move maker changed,
+     * the occupied tiles are refreshed as well since their pieces switch
+     * between normal and hidden icons.
+     */
+    private void refreshDirtyTiles() {
+      if (gameStateBoard.getMoveMaker() != iconMoveMaker) {
+        for (final Alliance alliance : Alliance.values()) {
+          long bits = gameStateBoard.getLowOccupancy(alliance);
+          while (bits != 0) {
+            dirtyTiles.set(Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+          }
+          bits = gameStateBoard.getHighOccupancy(alliance);
+          while (bits != 0) {
+            dirtyTiles.set(64 + Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+          }
+        }
+        this.iconMoveMaker = gameStateBoard.getMoveMaker();
+      }
+
+      for (int i = dirtyTiles.nextSetBit(0); i >= 0; i = dirtyTiles.nextSetBit(i + 1)) {
         boardTiles.get(i).loadPieceIcons();
         boardTiles.get(i).assignTilePieceIcon();
-        boardTiles.get(i).validate();
       }
+      dirtyTiles.clear();
     }
 
     /**
-     * Refresh all instance of TilePanel background color.
+     * Refresh all instance of TilePanel background color. Tiles repaint
+     * themselves only if their color changed, and colors do not affect the
+     * layout, so no validation is needed.
      */
     private void refreshTilesBackgroundColor() {
-      for (int i = 0; i < boardTiles.size(); i++) {
+      for (int i = 0; i < boardTiles.size(); i++)
         boardTiles.get(i).assignTileColor();
-        boardTiles.get(i).validate();
-      }
     }
 
     /**
@@ -802,6 +931,9 @@ public class BoardPanel extends JPanel {
     /** Current contained piece normal icon */
     private Image iconNormal;
 
+    /** Icon currently displayed, null if none */
+    private Image displayedIcon;
+
     /**
      * Constructor method that takes in tile ID.
      */
@@ -900,10 +1032,9 @@ public class BoardPanel extends JPanel {
             // Ensures TilePanel can only be clicked by respective player.
             if (isOccupyingPieceOwnedByMoveMaker()) {
               // Ensures TilePanel will only activate if theres an occupying piece
-              if (gameStateBoard.getTile(tileId).isTileOccupied() && !isCandidateMoveTile) {
+              if (gameStateBoard.isTileOccupied(tileId) && !isCandidateMoveTile) {
                 // Ensures TilePanel can only be clicked by the move maker
-                if (gameStateBoard.getTile(tileId).getPiece().getPieceAlliance() ==
-                    gameStateBoard.getMoveMaker()) {
+                if (gameStateBoard.getPieceAlliance(tileId) == gameStateBoard.getMoveMaker()) {
 
                   boardPanel.clearHighlights();
 
@@ -932,9 +1063,9 @@ public class BoardPanel extends JPanel {
               if (isTileActive) {
                 boardPanel.deactivateActiveTile();
               } else if (boardPanel.getActiveTileId() != -1 &&
-                        gameStateBoard.getTile(boardPanel.getActiveTileId()).isTileOccupied()) {
+                        gameStateBoard.isTileOccupied(boardPanel.getActiveTileId())) {
                 boardPanel.deactivateTile(tileId);
-              } else if (gameStateBoard.getTile(tileId).isTileOccupied()) {
+              } else if (gameStateBoard.isTileOccupied(tileId)) {
                 boardPanel.setActiveTile(tileId);
                 setBackground(ACTIVE_TILE_COLOR);
               }
@@ -965,29 +1096,14 @@ public class BoardPanel extends JPanel {
                 // Get player and execute move.
                 final Player player = gameStateBoard.getPlayer(activePiece.getPieceAlliance());
                 player.makeMove(activePiece.getPieceCoords(), tileId);
-
-                // The executed move will now be the last move after being
-                // executed. Append move to mov history panel.
-                if (gameStateBoard.getLastMove() != null) {
-                  final Move lastMove = gameStateBoard.getLastMove();
-                  moveHistoryPanel.appendToMoveHistory(lastMove);
-                }
-
-                // If game has concluded or has a winner, announce to move
-                // history text area.
-                if (gameStateBoard.isEndGame()) {
-                  final String endGameMessage = "GAME OVER, " +
-                    gameStateBoard.getEndGameWinner() + " PLAYER WON!";
-                  final String separator = "\n**********************************\n";
-                  moveHistoryPanel.appendTextToMoveHistory("\n" + separator +
-                                                  endGameMessage + separator);
-                  boardPanel.refreshTilesBackgroundColor();
-                }
+                announceLastMove();
 
                 // Refresh BoardPanel
-                boardPanel.refreshInnerBoardPanelIcons();
                 boardPanel.deactivateActiveTile();
                 boardPanel.setHoverHighlight(true);
+
+                // Let the opposing AIPlayer respond, if any.
+                playAIMove();
               }
             }
             // If game is in arrange mode, move piece freely without restriction.
@@ -1002,7 +1118,7 @@ public class BoardPanel extends JPanel {
               final int hoveredTileId = boardPanel.getHoveredTileId();
               final int activeTileId = boardPanel.getActiveTileId();
 
-              if (Board.isDebugMode()) {
+              if (gameStateBoard.isDebugMode()) {
                 System.out.println("hoveredTileId=" + hoveredTileId +
                                    ";activeTileId=" + activeTileId +
                                    ";currenttileId=" + tileId);
@@ -1012,17 +1128,17 @@ public class BoardPanel extends JPanel {
               if (hoveredTileId == tileId && hoveredTileId != activeTileId &&
                   activeTileId != -1) {
                 // If TilePanel is empty moved the active tile piece over it
-                if (gameStateBoard.getTile(tileId).isTileEmpty()) {
+                if (gameStateBoard.isTileEmpty(tileId)) {
                   gameStateBoard.movePiece(activeTileId, tileId);
 
-                  if (Board.isDebugMode())
+                  if (gameStateBoard.isDebugMode())
                     System.out.println(gameStateBoard.getTile(tileId).getPiece().getRank() +
                         " at " + activeTileId + " moved to " + tileId + "\n");
                   // Else, TilePanel is occupied and swapped with active tile piece.
                 } else {
                   gameStateBoard.swapPiece(activeTileId, tileId);
 
-                  if (Board.isDebugMode())
+                  if (gameStateBoard.isDebugMode())
                     System.out.println(gameStateBoard.getTile(tileId).getPiece().getRank() +
                         " at " + activeTileId + " swapped with " +
                         gameStateBoard.getTile(activeTileId).getPiece().getRank() +
@@ -1030,7 +1146,9 @@ public class BoardPanel extends JPanel {
                 }
 
                 // Refresh BoardPanel and disables active if piece have been moved.
-                boardPanel.refreshInnerBoardPanelIcons();
+                boardPanel.markDirty(activeTileId);
+                boardPanel.markDirty(tileId);
+                boardPanel.refreshDirtyTiles();
                 boardPanel.deactivateActiveTile();
               }
             }
@@ -1044,10 +1162,10 @@ public class BoardPanel extends JPanel {
      */
     private void loadPieceIcons() {
       // Pre-load piece image
-      if (gameStateBoard.getTile(tileId).isTileOccupied()) {
+      if (gameStateBoard.isTileOccupied(tileId)) {
         final Tile currTile = gameStateBoard.getTile(tileId);
-        final Alliance pieceAlliance = currTile.getPiece().getPieceAlliance();
-        final String pieceRank = currTile.getPiece().getRank();
+        final Alliance pieceAlliance = gameStateBoard.getPieceAlliance(tileId);
+        final String pieceRank = currTile.getPiece().getRank().getName();
 
         if (pieceAlliance == Alliance.AXIS) {
           this.iconNormal = boardPanel.getAxisPieceIcons().get(pieceRank);
@@ -1057,10 +1175,10 @@ public class BoardPanel extends JPanel {
           this.iconHidden = boardPanel.getAllyPieceIcons().get("Hidden");
         }
 
-        if (Board.isDebugMode() && gameStateBoard.isGameInitialized())
+        if (gameStateBoard.isDebugMode() && gameStateBoard.isGameInitialized())
           System.out.println("Tile " + tileId + " icons loaded");
       } else {
-        if (Board.isDebugMode() && gameStateBoard.isGameInitialized())
+        if (gameStateBoard.isDebugMode() && gameStateBoard.isGameInitialized())
           System.out.println("Tile " + tileId + " icons empty");
       }
     }
@@ -1069,38 +1187,46 @@ public class BoardPanel extends JPanel {
      * Checks if occupying piece is owned by the current move maker.
      */
     private boolean isOccupyingPieceOwnedByMoveMaker() {
-      if (gameStateBoard.getTile(tileId).isTileOccupied()) {
-        return gameStateBoard.getTile(tileId).getPiece().getPieceAlliance() ==
-                gameStateBoard.getMoveMaker();
-      }
-      return false;
+      return gameStateBoard.isTileOccupied(tileId) &&
+             gameStateBoard.getPieceAlliance(tileId) == gameStateBoard.getMoveMaker() &&
+             !(gameStateBoard.getPlayer(gameStateBoard.getMoveMaker()) instanceof AIPlayer);
     }
 
     /**
-     * Assign tile piece icon to display in this TilePanel if occupied.
+     * Assign tile piece icon to display in this TilePanel if occupied. The
+     * TilePanel is only rebuilt and repainted if the icon changed.
      */
     private void assignTilePieceIcon() {
-      this.removeAll();
-
-      if (gameStateBoard.getTile(tileId).isTileOccupied()) {
-        final Tile currTile = gameStateBoard.getTile(tileId);
+      final Image icon;
 
+      if (gameStateBoard.isTileOccupied(tileId)) {
         if (gameStateBoard.getEndGameWinner() == null) {
           // Load normal icon if isMoveMaker, else hidden icon
-          if (currTile.getPiece().getPieceAlliance() == gameStateBoard.getMoveMaker())
-            add(new JLabel(new ImageIcon(iconNormal)));
+          if (gameStateBoard.getPieceAlliance(tileId) == gameStateBoard.getMoveMaker())
+            icon = iconNormal;
           else
-            add(new JLabel(new ImageIcon(iconHidden)));
+            icon = iconHidden;
 
         } else {
-          add(new JLabel(new ImageIcon(iconNormal)));
+          icon = iconNormal;
         }
-        if (Board.isDebugMode() && gameStateBoard.isGameInitialized())
+        if (gameStateBoard.isDebugMode() && gameStateBoard.isGameInitialized())
           System.out.println("Tile " + tileId + " piece icon assigned");
       } else {
-        if (Board.isDebugMode() && gameStateBoard.isGameInitialized())
+        icon = null;
+        if (gameStateBoard.isDebugMode() && gameStateBoard.isGameInitialized())
           System.out.println("Tile " + tileId + " piece icon NOT assigned");
       }
+
+      if (icon == displayedIcon)
+        return;
+
+      this.removeAll();
+      if (icon != null)
+        add(new JLabel(new ImageIcon(icon)));
+      this.displayedIcon = icon;
+      revalidate();
+      repaint();
     }
 
     /**
@@ -1149,14 +1275,14 @@ public class BoardPanel extends JPanel {
         else
           setBackground(LIGHT_TILE_COLOR);
 
-        if (Board.isDebugMode() && gameStateBoard.isGameInitialized())
+        if (gameStateBoard.isDebugMode() && gameStateBoard.isGameInitialized())
           System.out.println("Tile " + tileId + " color assigned");
 
       } else {
         setBackground(gameStateBoard.getEndGameWinner() == Alliance.AXIS ?
             DARK_TILE_COLOR : LIGHT_TILE_COLOR);
 
-        if (Board.isDebugMode())
+        if (gameStateBoard.isDebugMode())
           System.out.println("Tile " + tileId + " color assigned");
       }
     }
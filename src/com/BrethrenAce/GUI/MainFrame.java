@@ -2,6 +2,7 @@ package com.BrethrenAce.GUI;
 
 import com.BrethrenAce.GameEngine.Alliance;
 import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.tablebase.Tablebase;
 import org.jetbrains.annotations.NotNull;
 
 import javax.imageio.ImageIO;
@@ -54,6 +55,7 @@ public class MainFrame {
   private JButton menuBarUndoBtn;
   private JButton menuBarRedoBtn;
   private JButton menuBarGameRulesBtn;
+  private JButton menuBarResultBtn;
   private JLabel menuBarPlayerAxisLbl, menuBarPlayerAllyLbl;
 
   /** Stores Player names */
@@ -215,6 +217,19 @@ public class MainFrame {
     });
 
     menuBarGameRulesBtn.addActionListener(e -> displayGameInstructions());
+
+    // Result button action listener.
+    menuBarResultBtn.addActionListener(e -> displayTablebaseResult());
+  }
+
+  /**
+   * Displays the tablebase result of the current position for the move maker.
+   */
+  private void displayTablebaseResult() {
+    final int result = gameStateBoard.probeTablebase();
+    JOptionPane.showMessageDialog(frame, gameStateBoard.getMoveMaker() + ": " +
+                                  Tablebase.describe(result), "Result",
+                                  JOptionPane.INFORMATION_MESSAGE);
   }
 
   /**
@@ -267,6 +282,7 @@ public class MainFrame {
     menuBarUndoBtn = boardPanel.getUndoBtn();
     menuBarRedoBtn = boardPanel.getRedoBtn();
     menuBarGameRulesBtn = boardPanel.getGameRulesBtn();
+    menuBarResultBtn = boardPanel.getResultBtn();
   }
 
   /**
@@ -362,7 +378,7 @@ public class MainFrame {
       playerAxisName = playerAxisTextField.getText();
       playerAllyName = playerAllyTextField.getText();
 
-      if (Board.isDebugMode()) {
+      if (gameStateBoard.isDebugMode()) {
         System.out.println("Axis player: " + playerAxisName + " designated!");
         System.out.println("Ally player: " + playerAllyName + " designated!");
       }
@@ -0,0 +1,492 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.Arrays;
+
+/**
+ * Compact board state that packs the 9x8 board into per-alliance occupancy
+ * bitmasks and a rank code per tile.
+ * Tiles 0 to 63 are stored in the low long and tiles 64 to 71 in the high long
+ * of each Alliance. Rank codes are given by Rank.getCode(), 1 for Flag up to 14
+ * for GeneralFive, and 15 for Agent. 0 means the tile is empty.
+ * Piece counts per rank, material and Flag advancement of each Alliance are
+ * kept current on every piece mutation, so reading them is constant time.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class BitBoard implements BoardState {
+
+  /** Rank code of an empty tile */
+  public static final byte EMPTY_RANK = 0;
+
+  /** Rank code of the Flag piece */
+  public static final byte FLAG_RANK = 1;
+
+  /** Rank code of the Agent piece */
+  public static final byte AGENT_RANK = 15;
+
+  /** Number of rank codes, including the empty code 0 */
+  public static final int RANK_CODE_COUNT = AGENT_RANK + 1;
+
+  /** Material value of each rank code, Flag being scored by its advancement */
+  private static final int[] MATERIAL_VALUES = {
+    0,   // empty
+    0,   // Flag
+    15,  // Private
+    20,  // Sergeant
+    25,  // LtTwo
+    30,  // LtOne
+    35,  // Captain
+    40,  // Major
+    45,  // LtCol
+    50,  // Colonel
+    60,  // GeneralOne
+    70,  // GeneralTwo
+    80,  // GeneralThree
+    90,  // GeneralFour
+    100, // GeneralFive
+    75   // Agent
+  };
+
+  /** Occupancy bits of tiles 0 to 63 indexed by Alliance ordinal */
+  private final long[] lowOccupancy;
+
+  /** Occupancy bits of tiles 64 to 71 indexed by Alliance ordinal */
+  private final long[] highOccupancy;
+
+  /** Rank code of each tile. 0 if empty. */
+  private final byte[] ranks;
+
+  /** Zobrist hash of all pieces, kept current by setPiece() and clearPiece() */
+  private long zobristHash;
+
+  /** Pieces of each rank indexed by Alliance ordinal * RANK_CODE_COUNT + rank code */
+  private final int[] rankCounts;
+
+  /** Pieces of each Alliance indexed by Alliance ordinal */
+  private final int[] pieceCounts;
+
+  /** Material value of each Alliance indexed by Alliance ordinal */
+  private final int[] materials;
+
+  /** Rows advanced by the Flags of each Alliance indexed by Alliance ordinal */
+  private final int[] flagAdvances;
+
+  /** No argument constructor that creates an empty board state. */
+  public BitBoard() {
+    this.lowOccupancy = new long[2];
+    this.highOccupancy = new long[2];
+    this.ranks = new byte[BoardUtils.ALL_TILES_COUNT];
+    this.rankCounts = new int[2 * RANK_CODE_COUNT];
+    this.pieceCounts = new int[2];
+    this.materials = new int[2];
+    this.flagAdvances = new int[2];
+  }
+
+  /**
+   * Copy constructor.
+   * @param other BitBoard to copy from.
+   */
+  public BitBoard(final BitBoard other) {
+    this.lowOccupancy = other.lowOccupancy.clone();
+    this.highOccupancy = other.highOccupancy.clone();
+    this.ranks = other.ranks.clone();
+    this.zobristHash = other.zobristHash;
+    this.rankCounts = other.rankCounts.clone();
+    this.pieceCounts = other.pieceCounts.clone();
+    this.materials = other.materials.clone();
+    this.flagAdvances = other.flagAdvances.clone();
+  }
+
+  /**
+   * Copies another board state into this BitBoard without allocating.
+   * @param other BitBoard to copy from.
+   */
+  public void copyFrom(final BitBoard other) {
+    System.arraycopy(other.lowOccupancy, 0, this.lowOccupancy, 0, 2);
+    System.arraycopy(other.highOccupancy, 0, this.highOccupancy, 0, 2);
+    System.arraycopy(other.ranks, 0, this.ranks, 0, BoardUtils.ALL_TILES_COUNT);
+    this.zobristHash = other.zobristHash;
+    System.arraycopy(other.rankCounts, 0, this.rankCounts, 0, 2 * RANK_CODE_COUNT);
+    System.arraycopy(other.pieceCounts, 0, this.pieceCounts, 0, 2);
+    System.arraycopy(other.materials, 0, this.materials, 0, 2);
+    System.arraycopy(other.flagAdvances, 0, this.flagAdvances, 0, 2);
+  }
+
+  /**
+   * Converts a Piece into its rank code.
+   * @param piece Piece to convert.
+   * @return byte rank code of the piece.
+   */
+  public static byte rankCodeOf(final Piece piece) {
+    return piece.getRank().getCode();
+  }
+
+  /**
+   * Empties all tiles.
+   */
+  public void clear() {
+    lowOccupancy[0] = lowOccupancy[1] = 0L;
+    highOccupancy[0] = highOccupancy[1] = 0L;
+    Arrays.fill(ranks, EMPTY_RANK);
+    zobristHash = 0L;
+    Arrays.fill(rankCounts, 0);
+    Arrays.fill(pieceCounts, 0);
+    Arrays.fill(materials, 0);
+    Arrays.fill(flagAdvances, 0);
+  }
+
+  /**
+   * Sets a piece into a tile, replacing any existing piece.
+   * @param tileId tile index or ID.
+   * @param alliance Alliance of the piece.
+   * @param rank rank code of the piece.
+   */
+  public void setPiece(final int tileId, final Alliance alliance, final byte rank) {
+    clearPiece(tileId);
+    if (tileId < 64)
+      lowOccupancy[alliance.ordinal()] |= 1L << tileId;
+    else
+      highOccupancy[alliance.ordinal()] |= 1L << (tileId - 64);
+    ranks[tileId] = rank;
+    zobristHash ^= Zobrist.pieceKey(tileId, alliance, rank);
+    count(tileId, alliance, rank, 1);
+  }
+
+  /**
+   * Sets a Piece into a tile, replacing any existing piece.
+   * @param tileId tile index or ID.
+   * @param piece Piece to set.
+   */
+  public void setPiece(final int tileId, final Piece piece) {
+    setPiece(tileId, piece.getPieceAlliance(), rankCodeOf(piece));
+  }
+
+  /**
+   * Empties a tile.
+   * @param tileId tile index or ID.
+   */
+  public void clearPiece(final int tileId) {
+    if (ranks[tileId] != EMPTY_RANK) {
+      final Alliance alliance = getPieceAlliance(tileId);
+      zobristHash ^= Zobrist.pieceKey(tileId, alliance, ranks[tileId]);
+      count(tileId, alliance, ranks[tileId], -1);
+    }
+
+    if (tileId < 64) {
+      final long mask = ~(1L << tileId);
+      lowOccupancy[0] &= mask;
+      lowOccupancy[1] &= mask;
+    } else {
+      final long mask = ~(1L << (tileId - 64));
+      highOccupancy[0] &= mask;
+      highOccupancy[1] &= mask;
+    }
+    ranks[tileId] = EMPTY_RANK;
+  }
+
+  /**
+   * Adds or removes a piece from the counters.
+   * @param delta 1 if the piece is set, else -1 if cleared.
+   */
+  private void count(final int tileId, final Alliance alliance, final byte rank,
+                     final int delta) {
+    final int side = alliance.ordinal();
+    rankCounts[side * RANK_CODE_COUNT + rank] += delta;
+    pieceCounts[side] += delta;
+    materials[side] += delta * MATERIAL_VALUES[rank];
+    if (rank == FLAG_RANK) {
+      final int row = tileId / BoardUtils.TILE_COLUMN_COUNT;
+      flagAdvances[side] += delta * (alliance == Alliance.AXIS ?
+        row : BoardUtils.TILE_ROW_COUNT - 1 - row);
+    }
+  }
+
+  /**
+   * Gets the material value of a rank code.
+   * @param rank rank code, 0 to 15.
+   * @return int material value, 0 if empty or Flag.
+   */
+  public static int getMaterialValue(final byte rank) {
+    return MATERIAL_VALUES[rank];
+  }
+
+  /**
+   * Counts the pieces of a rank of an Alliance left in the board.
+   * @param alliance Alliance of the pieces.
+   * @param rank rank code, 1 to 15.
+   * @return int pieces count.
+   */
+  public int countPieces(final Alliance alliance, final byte rank) {
+    return rankCounts[alliance.ordinal() * RANK_CODE_COUNT + rank];
+  }
+
+  /**
+   * Gets the material value of the pieces of an Alliance left in the board.
+   * @param alliance Alliance of the pieces.
+   * @return int sum of getMaterialValue() of every piece.
+   */
+  public int getMaterial(final Alliance alliance) {
+    return materials[alliance.ordinal()];
+  }
+
+  /**
+   * Gets how far the Flags of an Alliance have advanced.
+   * @param alliance Alliance of the Flags.
+   * @return int rows between each Flag and its own end row, summed.
+   */
+  public int getFlagAdvance(final Alliance alliance) {
+    return flagAdvances[alliance.ordinal()];
+  }
+
+  /**
+   * Moves a piece into another tile, replacing any existing piece.
+   * @param sourceTileId tile of the piece to move.
+   * @param targetTileId destination tile.
+   */
+  public void movePiece(final int sourceTileId, final int targetTileId) {
+    final Alliance alliance = getPieceAlliance(sourceTileId);
+    final byte rank = ranks[sourceTileId];
+    clearPiece(sourceTileId);
+    setPiece(targetTileId, alliance, rank);
+  }
+
+  /**
+   * Swaps the pieces of two tiles.
+   * @param firstTileId first tile.
+   * @param secondTileId second tile.
+   */
+  public void swapPiece(final int firstTileId, final int secondTileId) {
+    final Alliance firstAlliance = getPieceAlliance(firstTileId);
+    final byte firstRank = ranks[firstTileId];
+    final Alliance secondAlliance = getPieceAlliance(secondTileId);
+    final byte secondRank = ranks[secondTileId];
+
+    clearPiece(firstTileId);
+    clearPiece(secondTileId);
+    if (secondAlliance != null)
+      setPiece(firstTileId, secondAlliance, secondRank);
+    if (firstAlliance != null)
+      setPiece(secondTileId, firstAlliance, firstRank);
+  }
+
+  /**
+   * Applies a packed move in place. The move type of the packed move is not
+   * trusted and is evaluated again from the current occupancy, with attacks
+   * resolved by CombatOutcome.
+   * @param packedMove packed move from Move.packMove().
+   * @return long undo record to pass into unmakeMove().
+   */
+  public long makeMove(final int packedMove) {
+    final int origin = Move.getPackedOrigin(packedMove);
+    final int destination = Move.getPackedDestination(packedMove);
+    final Alliance alliance = getPieceAlliance(origin);
+    final byte sourceRank = ranks[origin];
+    final byte targetRank = ranks[destination];
+    final MoveType moveType;
+
+    clearPiece(origin);
+    if (targetRank == EMPTY_RANK) {
+      moveType = MoveType.NORMAL;
+      setPiece(destination, alliance, sourceRank);
+    } else {
+      final CombatOutcome outcome = CombatOutcome.resolve(sourceRank, targetRank);
+      moveType = outcome == CombatOutcome.BOTH_REMOVED ? MoveType.DRAW : MoveType.ATTACKING;
+      if (outcome.isDefenderEliminated())
+        clearPiece(destination);
+      if (!outcome.isAttackerEliminated())
+        setPiece(destination, alliance, sourceRank);
+    }
+
+    return Move.packMove(origin, destination, moveType) |
+           ((long) sourceRank << 16) |
+           ((long) targetRank << 24) |
+           ((long) alliance.ordinal() << 32);
+  }
+
+  /**
+   * Reverts a move applied by makeMove(). Moves must be reverted in the
+   * reverse order they were made.
+   * @param undoRecord undo record returned by makeMove().
+   */
+  public void unmakeMove(final long undoRecord) {
+    final int packedMove = getRecordMove(undoRecord);
+    final int origin = Move.getPackedOrigin(packedMove);
+    final int destination = Move.getPackedDestination(packedMove);
+    final Alliance alliance = getRecordAlliance(undoRecord);
+    final byte targetRank = getRecordTargetRank(undoRecord);
+
+    clearPiece(destination);
+    setPiece(origin, alliance, getRecordSourceRank(undoRecord));
+    if (targetRank != EMPTY_RANK)
+      setPiece(destination, alliance == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS, targetRank);
+  }
+
+  /**
+   * Gets the packed move of an undo record, with its evaluated move type.
+   * @param undoRecord undo record returned by makeMove().
+   * @return int packed move.
+   */
+  public static int getRecordMove(final long undoRecord) {
+    return (int) (undoRecord & 0xFFFF);
+  }
+
+  /**
+   * Gets the rank code of the moved piece of an undo record.
+   * @param undoRecord undo record returned by makeMove().
+   * @return byte rank code of the source piece.
+   */
+  public static byte getRecordSourceRank(final long undoRecord) {
+    return (byte) ((undoRecord >>> 16) & 0xFF);
+  }
+
+  /**
+   * Gets the rank code of the attacked piece of an undo record.
+   * @param undoRecord undo record returned by makeMove().
+   * @return byte rank code of the target piece, 0 if the target tile was empty.
+   */
+  public static byte getRecordTargetRank(final long undoRecord) {
+    return (byte) ((undoRecord >>> 24) & 0xFF);
+  }
+
+  /**
+   * Gets the Alliance of the moved piece of an undo record.
+   * @param undoRecord undo record returned by makeMove().
+   * @return Alliance of the source piece.
+   */
+  public static Alliance getRecordAlliance(final long undoRecord) {
+    return ((undoRecord >>> 32) & 1L) == 0 ? Alliance.ALLY : Alliance.AXIS;
+  }
+
+  /**
+   * Gets the engagement outcome of an undo record.
+   * @param undoRecord undo record returned by makeMove().
+   * @return CombatOutcome of the move, else null if the target tile was empty.
+   */
+  public static CombatOutcome getRecordOutcome(final long undoRecord) {
+    final byte targetRank = getRecordTargetRank(undoRecord);
+    return targetRank == EMPTY_RANK ?
+      null : CombatOutcome.resolve(getRecordSourceRank(undoRecord), targetRank);
+  }
+
+  /**
+   * Gets the Alliance that won the game by the move of an undo record, the
+   * same way Move.execute() concludes the game. A Flag is captured, a Flag
+   * attacks and is eliminated, or a Flag reaches the opposite end row.
+   * @param undoRecord undo record returned by makeMove().
+   * @return Alliance of the winner, else null if the game goes on.
+   */
+  public static Alliance getRecordWinner(final long undoRecord) {
+    final Alliance alliance = getRecordAlliance(undoRecord);
+    final CombatOutcome outcome = getRecordOutcome(undoRecord);
+
+    if (outcome == CombatOutcome.ATTACKER_WINS_GAME)
+      return alliance;
+    else if (outcome == CombatOutcome.DEFENDER_WINS_GAME)
+      return alliance == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+    else if (outcome == null && getRecordSourceRank(undoRecord) == FLAG_RANK) {
+      final int destination = Move.getPackedDestination(getRecordMove(undoRecord));
+      if ((alliance == Alliance.AXIS && destination >= BoardUtils.LAST_ROW_INIT) ||
+          (alliance == Alliance.ALLY && destination < BoardUtils.SECOND_ROW_INIT))
+        return alliance;
+    }
+    return null;
+  }
+
+  /**
+   * Gets the Zobrist hash of all pieces, without the side to move.
+   * @return long zobristHash field.
+   */
+  public long getZobristHash() {
+    return this.zobristHash;
+  }
+
+  /**
+   * Gets the tile of the Flag of an Alliance.
+   * @param alliance Alliance of the Flag.
+   * @return int tile index of the Flag, else -1 if eliminated.
+   */
+  public int getFlagCoords(final Alliance alliance) {
+    long bits = lowOccupancy[alliance.ordinal()];
+    while (bits != 0) {
+      final int tileId = Long.numberOfTrailingZeros(bits);
+      if (ranks[tileId] == FLAG_RANK)
+        return tileId;
+      bits &= bits - 1;
+    }
+    bits = highOccupancy[alliance.ordinal()];
+    while (bits != 0) {
+      final int tileId = 64 + Long.numberOfTrailingZeros(bits);
+      if (ranks[tileId] == FLAG_RANK)
+        return tileId;
+      bits &= bits - 1;
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean isTileOccupied(final int tileId) {
+    return ranks[tileId] != EMPTY_RANK;
+  }
+
+  @Override
+  public boolean isTileEmpty(final int tileId) {
+    return ranks[tileId] == EMPTY_RANK;
+  }
+
+  @Override
+  public Alliance getPieceAlliance(final int tileId) {
+    final long axisBits = tileId < 64 ?
+      lowOccupancy[Alliance.AXIS.ordinal()] >>> tileId :
+      highOccupancy[Alliance.AXIS.ordinal()] >>> (tileId - 64);
+    final long allyBits = tileId < 64 ?
+      lowOccupancy[Alliance.ALLY.ordinal()] >>> tileId :
+      highOccupancy[Alliance.ALLY.ordinal()] >>> (tileId - 64);
+
+    if ((axisBits & 1L) != 0)
+      return Alliance.AXIS;
+    else if ((allyBits & 1L) != 0)
+      return Alliance.ALLY;
+
+    return null;
+  }
+
+  @Override
+  public byte getPieceRank(final int tileId) {
+    return ranks[tileId];
+  }
+
+  @Override
+  public long getLowOccupancy(final Alliance alliance) {
+    return lowOccupancy[alliance.ordinal()];
+  }
+
+  @Override
+  public long getHighOccupancy(final Alliance alliance) {
+    return highOccupancy[alliance.ordinal()];
+  }
+
+  @Override
+  public int countPieces(final Alliance alliance) {
+    return pieceCounts[alliance.ordinal()];
+  }
+
+  @Override
+  public String toString() {
+    String debugBoard = "";
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      if (isTileEmpty(i))
+        debugBoard += "-";
+      else if (getPieceAlliance(i) == Alliance.AXIS)
+        debugBoard += Integer.toHexString(ranks[i]).toUpperCase();
+      else
+        debugBoard += Integer.toHexString(ranks[i]);
+      debugBoard += (i + 1) % BoardUtils.TILE_COLUMN_COUNT == 0 ? "\n" : " ";
+    }
+    return debugBoard;
+  }
+}
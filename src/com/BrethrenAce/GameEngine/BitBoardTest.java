@@ -0,0 +1,177 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    private BitBoard bitBoard;
+
+    @BeforeEach
+    void setUp() {
+        bitBoard = new BitBoard();
+    }
+
+    @Test
+    void setPiece() {
+        bitBoard.setPiece(3, Alliance.AXIS, BitBoard.FLAG_RANK);
+        bitBoard.setPiece(70, Alliance.ALLY, BitBoard.AGENT_RANK);
+
+        assertTrue(bitBoard.isTileOccupied(3));
+        assertEquals(Alliance.AXIS, bitBoard.getPieceAlliance(3));
+        assertEquals(Alliance.ALLY, bitBoard.getPieceAlliance(70));
+        assertEquals(BitBoard.AGENT_RANK, bitBoard.getPieceRank(70));
+        assertEquals(1L << 3, bitBoard.getLowOccupancy(Alliance.AXIS));
+        assertEquals(1L << 6, bitBoard.getHighOccupancy(Alliance.ALLY));
+    }
+
+    @Test
+    void movePiece() {
+        bitBoard.setPiece(60, Alliance.AXIS, (byte) 5);
+        bitBoard.movePiece(60, 69);
+
+        assertTrue(bitBoard.isTileEmpty(60));
+        assertEquals(Alliance.AXIS, bitBoard.getPieceAlliance(69));
+        assertEquals(5, bitBoard.getPieceRank(69));
+        assertEquals(0L, bitBoard.getLowOccupancy(Alliance.AXIS));
+    }
+
+    @Test
+    void swapPiece() {
+        bitBoard.setPiece(10, Alliance.ALLY, (byte) 2);
+        bitBoard.setPiece(11, Alliance.AXIS, (byte) 9);
+        bitBoard.swapPiece(10, 11);
+
+        assertEquals(Alliance.AXIS, bitBoard.getPieceAlliance(10));
+        assertEquals(9, bitBoard.getPieceRank(10));
+        assertEquals(Alliance.ALLY, bitBoard.getPieceAlliance(11));
+        assertEquals(2, bitBoard.getPieceRank(11));
+    }
+
+    @Test
+    void countPieces() {
+        bitBoard.setPiece(0, Alliance.AXIS, (byte) 2);
+        bitBoard.setPiece(71, Alliance.AXIS, (byte) 2);
+        bitBoard.setPiece(40, Alliance.ALLY, (byte) 2);
+        bitBoard.clearPiece(0);
+
+        assertEquals(1, bitBoard.countPieces(Alliance.AXIS));
+        assertEquals(1, bitBoard.countPieces(Alliance.ALLY));
+    }
+
+    @Test
+    void getFlagCoords() {
+        bitBoard.setPiece(66, Alliance.ALLY, BitBoard.FLAG_RANK);
+
+        assertEquals(66, bitBoard.getFlagCoords(Alliance.ALLY));
+        assertEquals(-1, bitBoard.getFlagCoords(Alliance.AXIS));
+    }
+
+    @Test
+    void makeMove() {
+        bitBoard.setPiece(40, Alliance.ALLY, (byte) 5);
+        bitBoard.setPiece(31, Alliance.AXIS, (byte) 3);
+        final long undoRecord = bitBoard.makeMove(Move.packMove(40, 31, MoveType.NORMAL));
+
+        assertEquals(MoveType.ATTACKING, Move.getPackedMoveType(BitBoard.getRecordMove(undoRecord)));
+        assertEquals(CombatOutcome.ATTACKER_WINS, BitBoard.getRecordOutcome(undoRecord));
+        assertTrue(bitBoard.isTileEmpty(40));
+        assertEquals(Alliance.ALLY, bitBoard.getPieceAlliance(31));
+        assertEquals(5, bitBoard.getPieceRank(31));
+    }
+
+    @Test
+    void unmakeMove() {
+        bitBoard.setPiece(40, Alliance.ALLY, (byte) 7);
+        bitBoard.setPiece(31, Alliance.AXIS, (byte) 7);
+        final BitBoard before = new BitBoard(bitBoard);
+        final long undoRecord = bitBoard.makeMove(Move.packMove(40, 31, MoveType.DRAW));
+
+        assertEquals(0, bitBoard.countPieces(Alliance.ALLY) + bitBoard.countPieces(Alliance.AXIS));
+        bitBoard.unmakeMove(undoRecord);
+        assertEquals(before.toString(), bitBoard.toString());
+        assertEquals(Alliance.AXIS, bitBoard.getPieceAlliance(31));
+    }
+
+    @Test
+    void getZobristHash() {
+        bitBoard.setPiece(40, Alliance.ALLY, (byte) 5);
+        bitBoard.setPiece(31, Alliance.AXIS, (byte) 3);
+        final long hash = bitBoard.getZobristHash();
+        final long undoRecord = bitBoard.makeMove(Move.packMove(40, 41, MoveType.NORMAL));
+
+        assertEquals(hash ^ Zobrist.pieceKey(40, Alliance.ALLY, (byte) 5) ^
+                     Zobrist.pieceKey(41, Alliance.ALLY, (byte) 5), bitBoard.getZobristHash());
+        bitBoard.unmakeMove(undoRecord);
+        assertEquals(hash, bitBoard.getZobristHash());
+        bitBoard.clear();
+        assertEquals(0L, bitBoard.getZobristHash());
+    }
+
+    /**
+     * Checks the counters against a count of every tile.
+     */
+    private static void assertCounters(final BitBoard board) {
+        for (final Alliance alliance : Alliance.values()) {
+            final int[] rankCounts = new int[BitBoard.RANK_CODE_COUNT];
+            int material = 0;
+            for (int i = 0; i < 72; i++) {
+                if (board.getPieceAlliance(i) == alliance) {
+                    rankCounts[board.getPieceRank(i)]++;
+                    material += BitBoard.getMaterialValue(board.getPieceRank(i));
+                }
+            }
+            final int flag = board.getFlagCoords(alliance);
+            final int flagAdvance = flag == -1 ? 0 :
+                alliance == Alliance.AXIS ? flag / 9 : 7 - flag / 9;
+            for (byte rank = 1; rank < BitBoard.RANK_CODE_COUNT; rank++)
+                assertEquals(rankCounts[rank], board.countPieces(alliance, rank));
+            assertEquals(material, board.getMaterial(alliance));
+            assertEquals(flagAdvance, board.getFlagAdvance(alliance));
+        }
+    }
+
+    @Test
+    void counters() {
+        for (final Map.Entry<Integer, Piece> entry :
+             new BoardBuilder().createRandomBuild(new SplittableRandom(1)).getBoardConfig().entrySet())
+            bitBoard.setPiece(entry.getKey(), entry.getValue());
+        assertEquals(9, bitBoard.countPieces(Alliance.AXIS, (byte) 2));
+        assertCounters(bitBoard);
+
+        final SplittableRandom random = new SplittableRandom(2);
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        final long[] undoRecords = new long[200];
+        Alliance side = Alliance.ALLY;
+        int plies = 0;
+        while (plies < undoRecords.length) {
+            final int moveCount = MoveGenerator.generateMoves(bitBoard, side, moves);
+            if (moveCount == 0)
+                break;
+            undoRecords[plies++] = bitBoard.makeMove(moves[random.nextInt(moveCount)]);
+            assertCounters(bitBoard);
+            if (BitBoard.getRecordWinner(undoRecords[plies - 1]) != null)
+                break;
+            side = side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+        }
+        final BitBoard copy = new BitBoard();
+        copy.copyFrom(bitBoard);
+        assertCounters(copy);
+
+        while (plies > 0) {
+            bitBoard.unmakeMove(undoRecords[--plies]);
+            assertCounters(bitBoard);
+        }
+        assertEquals(27, bitBoard.countPieces(Alliance.ALLY));
+
+        bitBoard.clear();
+        assertEquals(0, bitBoard.getMaterial(Alliance.AXIS) + bitBoard.countPieces(Alliance.AXIS));
+    }
+}
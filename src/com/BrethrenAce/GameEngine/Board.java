@@ -3,13 +3,19 @@ package com.BrethrenAce.GameEngine;
 import com.BrethrenAce.GUI.BoardPanel;
 import com.BrethrenAce.GameEngine.pieces.*;
 import com.BrethrenAce.GameEngine.player.Player;
+import com.BrethrenAce.GameEngine.record.GameRecordWriter;
+import com.BrethrenAce.GameEngine.setup.SetupBook;
+import com.BrethrenAce.GameEngine.tablebase.Tablebase;
+import com.BrethrenAce.GameEngine.setup.SetupLayout;
 import com.BrethrenAce.GameUtilities.BoardUtils;
-import com.BrethrenAce.GameUtilities.Utils;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 /**
  * The backbone of the entire project, which can be considered a God class since it is not polished yet.
@@ -24,37 +30,55 @@ import java.util.Map;
  * Date: 2021-01-07
  */
 @SuppressWarnings("unused")
-public class Board {
+public class Board implements BoardState {
+
+  /** Turns between board checkpoints used by seek() */
+  public static final int CHECKPOINT_INTERVAL = 32;
 
   /** List of all Tiles that contains data of each piece */
-  private static List<Tile> gameBoard;
+  private List<Tile> gameBoard;
+
+  /** Bitboard mirror of gameBoard used for fast occupancy and rank queries */
+  private final BitBoard bitBoard = new BitBoard();
+
+  /** Incremented on every piece mutation, so caches of a board state can tell it changed */
+  private long version;
+
+  /** Candidate moves of every tile of the current board state, created on first use */
+  private LegalMoveCache legalMoveCache;
 
   /** Player instance that all contains all infos on axis pieces */
-  private static Player playerAxis;
+  private Player playerAxis;
 
   /** Player instance that all contains all infos on ally pieces */
-  private static Player playerAlly;
+  private Player playerAlly;
 
   /** Axis player's name assigned when game initialized */
-  private static String playerAxisName;
+  private String playerAxisName;
 
   /** Ally player's name assigned when game initialized */
-  private static String playerAllyName;
-
-  /** Axis pieces counter */
-  private static int axisPiecesLeft = 0;
-
-  /** Ally pieces counter */
-  private static int allyPiecesLeft = 0;
+  private String playerAllyName;
 
   /** Board builder instance */
   private BoardBuilder customBuilder;
 
+  /** Book of the layouts of random builds, null for fully random builds */
+  private SetupBook setupBook;
+
+  /** Endgame tablebase of the AIPlayers and result hints, else null */
+  private Tablebase tablebase;
+
   /** BoardPanel gui instance */
   private BoardPanel boardPanel;
 
   /** Board initial configurations for saving game state */
-  private List<Tile> initBoardConfig;
+  private BitBoard initBoardConfig;
+
+  /** Pieces removed by makeMove(), popped back in reverse order by unmakeMove() */
+  private final Piece[] capturedPieces = new Piece[BoardUtils.ALL_TILES_COUNT];
+
+  /** Number of pieces in capturedPieces field */
+  private int capturedPiecesCount = 0;
 
   /** Game initialization checker */
   private boolean gameInitialized = false;
@@ -63,7 +87,25 @@ public class Board {
   private boolean gameStarted = false;
 
   /** Debug mode toggle for debugging purposes */
-  private static boolean debugMode;
+  private boolean debugMode;
+
+  /** Headless mode toggle, no BoardPanel or dialogs are shown if true */
+  private boolean headless;
+
+  /** Random source of the game, e.g. random builds and engine players */
+  private SplittableRandom random = new SplittableRandom();
+
+  /** Streaming writer of the game record, null if not recording */
+  private GameRecordWriter recordWriter;
+
+  /** Executed moves of both Players indexed by turn */
+  private final MoveLog moveLog = new MoveLog();
+
+  /** Board state every CHECKPOINT_INTERVAL turns of the move log, index 0 being the start */
+  private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+  /** Number of checkpoints matching the current move log */
+  private int checkpointCount;
 
   /** Current turn counter */
   private int currentTurn;
@@ -96,8 +138,8 @@ public class Board {
   public Board(final Player playerAxis, final Player playerAlly) {
     playerAxis.setBoard(this);
     playerAlly.setBoard(this);
-    Board.playerAxis = playerAxis;
-    Board.playerAlly = playerAlly;
+    this.playerAxis = playerAxis;
+    this.playerAlly = playerAlly;
   }
 
   /**
@@ -105,6 +147,10 @@ public class Board {
    */
   public void emptyBoard() {
     gameBoard = new ArrayList<Tile>();
+    bitBoard.clear();
+    version++;
+    Arrays.fill(capturedPieces, null);
+    capturedPiecesCount = 0;
     // Add new empty Tiles in board
     for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
       // Set Tile territory
@@ -122,19 +168,29 @@ public class Board {
   public void buildBoard() {
     this.emptyBoard();
 
-    // Use custom build if exists, else randomly placed pieces build.
-    final BoardBuilder builder = this.customBuilder == null ?
-      new BoardBuilder().createRandomBuild() : this.customBuilder;
+    // Use custom build if exists, else a strong layout of the setup book or
+    // randomly placed pieces build.
+    final BoardBuilder builder;
+    if (this.customBuilder != null)
+      builder = this.customBuilder;
+    else if (this.setupBook != null)
+      builder = new BoardBuilder().setDebugMode(isDebugMode()).createBookBuild(setupBook, random.split());
+    else
+      builder = new BoardBuilder().setDebugMode(isDebugMode()).createRandomBuild(random.split());
 
-    // Insert pieces to Board Tiles based on build config.
+    // Insert pieces to Board Tiles based on build config. Pieces are created
+    // again for this Board's Players, since a builder may be shared by Boards.
     for (final Map.Entry<Integer, Piece> entry : builder.boardConfig.entrySet()) {
       // insert piece to Tile if empty
       if (gameBoard.get(entry.getKey()).isTileEmpty()) {
-        gameBoard.get(entry.getKey()).insertPiece(entry.getValue());
+        final Alliance alliance = entry.getValue().getPieceAlliance();
+        final Piece piece = entry.getValue().getRank().createPiece(getPlayer(alliance), alliance);
+        piece.setPieceCoords(entry.getKey());
+        gameBoard.get(entry.getKey()).insertPiece(piece);
+        bitBoard.setPiece(entry.getKey(), piece);
+        version++;
       }
     }
-      axisPiecesLeft = builder.getAxisPiecesCount();
-    allyPiecesLeft = builder.getAllyPiecesCount();
   }
 
   /**
@@ -145,6 +201,44 @@ public class Board {
     this.customBuilder = builder;
   }
 
+  /**
+   * Sets the book of the layouts used when no builder is set, so each random
+   * build takes a strong layout of the book for both Alliances.
+   * @param setupBook SetupBook of scored layouts, null for fully random builds.
+   */
+  public void setSetupBook(final SetupBook setupBook) {
+    this.setupBook = setupBook;
+  }
+
+  /**
+   * Sets the endgame tablebase the AIPlayers of this Board search with and
+   * probeTablebase() reads.
+   * @param tablebase Tablebase to probe, else null.
+   */
+  public void setTablebase(final Tablebase tablebase) {
+    this.tablebase = tablebase;
+  }
+
+  /**
+   * Gets the endgame tablebase of this Board.
+   * @return Tablebase tablebase field, else null if not set.
+   */
+  public Tablebase getTablebase() {
+    return this.tablebase;
+  }
+
+  /**
+   * Probes the result of the current position for the move maker.
+   * @return int result from Tablebase.probe(), else Tablebase.UNKNOWN if no
+   * tablebase is set or it does not hold the position.
+   */
+  public int probeTablebase() {
+    if (tablebase == null || moveMaker == null)
+      return Tablebase.UNKNOWN;
+
+    return tablebase.probe(bitBoard, moveMaker);
+  }
+
   /**
    * Method that initializes game. Enters initialize mode where players may
    * arrange their respective board pieces.
@@ -168,8 +262,10 @@ public class Board {
     setMoveMaker(playerAlly); // TODO: Option to pick first move
 
     // Displays Board GUI
-    displayBoard();
-    this.boardPanel.arrangeMode();
+    if (!isHeadless()) {
+      displayBoard();
+      this.boardPanel.arrangeMode();
+    }
 
     if (isDebugMode())
       System.out.println("Board:\n" + this);
@@ -195,7 +291,11 @@ public class Board {
     this.gameInitialized = false;
     this.currentTurn = 1;
     this.lastExecutedTurn = 0;
-    this.boardPanel.startMode();
+    this.moveLog.clear();
+    this.checkpointCount = 0;
+    saveCheckpoint(0);
+    if (!isHeadless())
+      this.boardPanel.startMode();
 
     if (getMoveMaker() == Alliance.AXIS)
       this.firstMoveMaker = Alliance.AXIS;
@@ -203,16 +303,14 @@ public class Board {
       this.firstMoveMaker = Alliance.ALLY;
 
     // Save initial board arrangement for saving and loading game state.
-    this.initBoardConfig = new ArrayList<>();
-    for (int i = 0; i < gameBoard.size(); i++) {
-      // Make copies of all Tiles in gameBoard into initBoardConfig.
-      initBoardConfig.add(gameBoard.get(i).clone());
-    }
+    this.initBoardConfig = new BitBoard(bitBoard);
+    startRecord();
 
     if (isDebugMode()) {
       System.out.println(this);
       System.out.println("CurrentTurn: " + currentTurn + "\n" +
-                         "TotalPieces: " + (axisPiecesLeft + allyPiecesLeft) + "\n");
+                         "TotalPieces: " + (countPieces(Alliance.AXIS) + countPieces(Alliance.ALLY)) +
+                         "\n");
     }
   }
 
@@ -239,7 +337,8 @@ public class Board {
     setMoveMaker(playerAlly);
 
     // Go into arrange mode
-    this.boardPanel.arrangeMode();
+    if (!isHeadless())
+      this.boardPanel.arrangeMode();
   }
 
   /**
@@ -260,10 +359,35 @@ public class Board {
 
   /**
    * Gets List of Tile that contains initial board
-   * pieces arrangement.
-   * @return List<Tile> initBoardConfig field.
+   * pieces arrangement. Tiles are created from the initBoardConfig field
+   * snapshot on every call.
+   * @return List<Tile> initial board arrangement, else null if game not started.
    */
   public List<Tile> getInitBoardConfig() {
+    if (this.initBoardConfig == null)
+      return null;
+
+    final List<Tile> initTiles = new ArrayList<>();
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      final Tile tile = new Tile(this, i, i < BoardUtils.ALL_TILES_COUNT / 2 ?
+                                 Alliance.AXIS : Alliance.ALLY);
+      if (initBoardConfig.isTileOccupied(i)) {
+        final Alliance alliance = initBoardConfig.getPieceAlliance(i);
+        final Piece piece = Rank.fromCode(initBoardConfig.getPieceRank(i))
+          .createPiece(getPlayer(alliance), alliance);
+        piece.setPieceCoords(i);
+        tile.insertPiece(piece);
+      }
+      initTiles.add(tile);
+    }
+    return initTiles;
+  }
+
+  /**
+   * Gets the initial board pieces arrangement without creating Tiles.
+   * @return BoardState initBoardConfig field, else null if game not started.
+   */
+  public BoardState getInitBoardState() {
     return this.initBoardConfig;
   }
 
@@ -290,12 +414,164 @@ public class Board {
   }
 
   /**
-   * Debug mode checker method. Used in static way by other classes.
+   * Debug mode checker method.
+   * @return boolean debugMode field.
    */
-  public static boolean isDebugMode() {
+  public boolean isDebugMode() {
     return debugMode;
   }
 
+  /**
+   * Method that sets headless mode state, e.g. for servers and simulations.
+   * Must be set before initGame().
+   */
+  public void setHeadless(final boolean headless) {
+    this.headless = headless;
+  }
+
+  /**
+   * Seeds the random source of the game, so the same seed and players give
+   * the same random builds and engine moves. Engine players must search with
+   * fixed limits instead of time budgets to be reproducible.
+   * @param seed seed of the game.
+   */
+  public void setSeed(final long seed) {
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * Gets the random source of the game. Must only be used on the thread that
+   * owns the Board, splitting it for work on other threads.
+   * @return SplittableRandom random field.
+   */
+  public SplittableRandom getRandom() {
+    return this.random;
+  }
+
+  /**
+   * Sets the streaming writer of the game record. Its header is written when
+   * the game starts, or right away if already started.
+   * @param recordWriter GameRecordWriter, null to stop recording.
+   */
+  public void setRecordWriter(final GameRecordWriter recordWriter) {
+    this.recordWriter = recordWriter;
+    if (isGameStarted())
+      startRecord();
+  }
+
+  /**
+   * Gets the streaming writer of the game record.
+   * @return GameRecordWriter recordWriter field, null if not recording.
+   */
+  public GameRecordWriter getRecordWriter() {
+    return this.recordWriter;
+  }
+
+  /**
+   * Gets the executed moves of both Players.
+   * @return MoveLog moveLog field.
+   */
+  public MoveLog getMoveLog() {
+    return this.moveLog;
+  }
+
+  /**
+   * Logs an executed Move into the move log, dropping the undone moves after
+   * it, and saves a checkpoint every CHECKPOINT_INTERVAL turns.
+   * @param move executed Move whose turn ID is the current turn.
+   */
+  public void logMove(final Move move) {
+    final int turn = move.getTurnId();
+    moveLog.record(turn, move);
+
+    // Checkpoints after the previous turn belong to the dropped branch.
+    checkpointCount = Math.min(checkpointCount, (turn - 1) / CHECKPOINT_INTERVAL + 1);
+    if (turn % CHECKPOINT_INTERVAL == 0)
+      saveCheckpoint(turn / CHECKPOINT_INTERVAL);
+  }
+
+  /**
+   * Saves the current board state as a checkpoint.
+   * @param index checkpoint index, the number of moves divided by CHECKPOINT_INTERVAL.
+   */
+  private void saveCheckpoint(final int index) {
+    if (index == checkpoints.size())
+      checkpoints.add(new Checkpoint());
+    checkpoints.get(index).save(this);
+    checkpointCount = index + 1;
+  }
+
+  /**
+   * Moves the game to any logged turn, like undoing or redoing every move in
+   * between. The nearest of the current state and the checkpoint before the
+   * turn is used, so at most CHECKPOINT_INTERVAL moves are replayed when
+   * going forward. Does not refresh the BoardPanel, which is up to the caller.
+   * @param turn number of moves to keep applied, 0 to getMoveLog().size().
+   * @return boolean true if successful, else false if the game has not started
+   * or the turn is not logged.
+   */
+  public boolean seek(final int turn) {
+    if (!isGameStarted() || turn < 0 || turn > moveLog.size())
+      return false;
+
+    final int appliedTurn = currentTurn - 1;
+    final int checkpointIndex = Math.min(turn / CHECKPOINT_INTERVAL, checkpointCount - 1);
+    final int checkpointTurn = checkpointIndex * CHECKPOINT_INTERVAL;
+
+    if (appliedTurn > turn && appliedTurn - turn <= turn - checkpointTurn) {
+      for (int i = appliedTurn; i > turn; i--)
+        unmakeMove(moveLog.getMove(i).getUndoRecord());
+    } else {
+      int replayFrom = appliedTurn;
+      if (appliedTurn > turn || appliedTurn < checkpointTurn) {
+        checkpoints.get(checkpointIndex).restore(this);
+        replayFrom = checkpointTurn;
+      }
+      for (int i = replayFrom + 1; i <= turn; i++)
+        moveLog.getMove(i).setUndoRecord(makeMove(moveLog.getPackedMove(i)));
+    }
+
+    // Moves up to the turn are executed, the rest can be redone.
+    for (int i = Math.min(appliedTurn, turn) + 1; i <= Math.max(appliedTurn, turn); i++)
+      moveLog.getMove(i).setExecutionState(i <= turn);
+
+    this.currentTurn = turn + 1;
+    this.lastMove = moveLog.getMove(turn);
+    final Alliance nextMoveMaker = turn % 2 == 0 ? firstMoveMaker :
+      firstMoveMaker == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+    if (this.moveMaker != nextMoveMaker)
+      setMoveMaker(getPlayer(nextMoveMaker));
+
+    final Alliance winner = lastMove == null ? null : BitBoard.getRecordWinner(lastMove.getUndoRecord());
+    if (winner != null || turn < moveLog.size())
+      this.endGameWinner = winner;
+
+    if (isDebugMode())
+      System.out.println("Seek to turn " + turn + "\n" + this);
+    return true;
+  }
+
+  /**
+   * Writes the game record header if recording.
+   */
+  private void startRecord() {
+    if (recordWriter == null)
+      return;
+    try {
+      recordWriter.start(this);
+    } catch (final IOException e) {
+      System.out.println("E: Game record failed. " + e.getMessage());
+    }
+  }
+
+  /**
+   * Headless mode checker method.
+   * @return boolean headless field.
+   */
+  public boolean isHeadless() {
+    return headless;
+  }
+
   /**
    * Gets specific tile from gameBoard field.
    * @param tileId tile number.
@@ -313,6 +589,69 @@ public class Board {
     return gameBoard;
   }
 
+  /**
+   * Gets the bitboard mirror of the current board state.
+   * @return BitBoard bitBoard field.
+   */
+  public BitBoard getBitBoard() {
+    return this.bitBoard;
+  }
+
+  @Override
+  public boolean isTileOccupied(final int tileId) {
+    return bitBoard.isTileOccupied(tileId);
+  }
+
+  @Override
+  public boolean isTileEmpty(final int tileId) {
+    return bitBoard.isTileEmpty(tileId);
+  }
+
+  @Override
+  public Alliance getPieceAlliance(final int tileId) {
+    return bitBoard.getPieceAlliance(tileId);
+  }
+
+  @Override
+  public byte getPieceRank(final int tileId) {
+    return bitBoard.getPieceRank(tileId);
+  }
+
+  @Override
+  public long getLowOccupancy(final Alliance alliance) {
+    return bitBoard.getLowOccupancy(alliance);
+  }
+
+  @Override
+  public long getHighOccupancy(final Alliance alliance) {
+    return bitBoard.getHighOccupancy(alliance);
+  }
+
+  @Override
+  public int countPieces(final Alliance alliance) {
+    return bitBoard.countPieces(alliance);
+  }
+
+  /**
+   * Counts the pieces of a rank of an Alliance left in the board, kept current
+   * by the BitBoard on every capture, undo and redo.
+   * @param alliance Alliance of the pieces.
+   * @param rank Rank of the pieces.
+   * @return int pieces count.
+   */
+  public int countPieces(final Alliance alliance, final Rank rank) {
+    return bitBoard.countPieces(alliance, rank.getCode());
+  }
+
+  /**
+   * Gets the material value of the pieces of an Alliance left in the board.
+   * @param alliance Alliance of the pieces.
+   * @return int material value from BitBoard.getMaterialValue().
+   */
+  public int getMaterial(final Alliance alliance) {
+    return bitBoard.getMaterial(alliance);
+  }
+
   /**
    * Swaps two pieces and update piece coordinates.
    * @param sourcePieceCoords source piece coordinates.
@@ -328,6 +667,8 @@ public class Board {
       targetPiece.setPieceCoords(sourcePieceCoords);
       this.getBoard().get(sourcePieceCoords).replacePiece(targetPiece);
       this.getBoard().get(targetPieceCoords).replacePiece(sourcePiece);
+      bitBoard.swapPiece(sourcePieceCoords, targetPieceCoords);
+      version++;
 
       return true;
     }
@@ -344,8 +685,9 @@ public class Board {
     if (this.getTile(targetCoords).isTileOccupied()) {
       // TODO: improve piece manipulation efficiency
       sourcePiece.setPieceCoords(targetCoords);
-      this.getBoard().get(targetCoords).replacePiece(sourcePiece);
       this.getTile(targetCoords).replacePiece(sourcePiece);
+      bitBoard.setPiece(targetCoords, sourcePiece);
+      version++;
 
       return true;
     }
@@ -366,6 +708,8 @@ public class Board {
       this.getTile(targetPieceCoords).insertPiece(sourcePieceCopy);
       // delete source piece
       this.getTile(sourcePieceCoords).removePiece();
+      bitBoard.movePiece(sourcePieceCoords, targetPieceCoords);
+      version++;
 
       return true;
     }
@@ -381,8 +725,9 @@ public class Board {
   public boolean insertPiece(final int sourcePieceCoords, final Piece piece) {
     if (this.getTile(sourcePieceCoords).isTileEmpty()) {
       piece.setPieceCoords(sourcePieceCoords);
-      this.getBoard().get(sourcePieceCoords).insertPiece(piece);
       this.getTile(sourcePieceCoords).insertPiece(piece);
+      bitBoard.setPiece(sourcePieceCoords, piece);
+      version++;
       return true;
     }
     return false;
@@ -396,6 +741,8 @@ public class Board {
   public boolean deletePiece(final int pieceCoords) {
     if (this.getTile(pieceCoords).isTileOccupied()) {
       this.getTile(pieceCoords).removePiece();
+      bitBoard.clearPiece(pieceCoords);
+      version++;
 
       if (isDebugMode())
         System.out.println(this);
@@ -405,6 +752,66 @@ public class Board {
     return false;
   }
 
+  /**
+   * Applies a packed move in place without cloning any Piece. Eliminated
+   * pieces are kept in the capturedPieces field until the move is reverted.
+   * Does not check turns, legality or end game, which is up to the caller.
+   * @param packedMove packed move from Move.packMove().
+   * @return long undo record to pass into unmakeMove().
+   */
+  public long makeMove(final int packedMove) {
+    final long undoRecord = bitBoard.makeMove(packedMove);
+    version++;
+    final CombatOutcome outcome = BitBoard.getRecordOutcome(undoRecord);
+    final Tile sourceTile = this.getTile(Move.getPackedOrigin(packedMove));
+    final Tile targetTile = this.getTile(Move.getPackedDestination(packedMove));
+    final Piece sourcePiece = sourceTile.getPiece();
+
+    sourceTile.removePiece();
+    if (outcome != null && outcome.isDefenderEliminated()) {
+      capturedPieces[capturedPiecesCount++] = targetTile.getPiece();
+      targetTile.removePiece();
+    }
+    if (outcome != null && outcome.isAttackerEliminated()) {
+      capturedPieces[capturedPiecesCount++] = sourcePiece;
+    } else {
+      sourcePiece.setPieceCoords(targetTile.getTileId());
+      targetTile.insertPiece(sourcePiece);
+    }
+
+    return undoRecord;
+  }
+
+  /**
+   * Reverts a move applied by makeMove() in place. Moves must be reverted in
+   * the reverse order they were made.
+   * @param undoRecord undo record returned by makeMove().
+   */
+  public void unmakeMove(final long undoRecord) {
+    final int packedMove = BitBoard.getRecordMove(undoRecord);
+    final CombatOutcome outcome = BitBoard.getRecordOutcome(undoRecord);
+    final Tile sourceTile = this.getTile(Move.getPackedOrigin(packedMove));
+    final Tile targetTile = this.getTile(Move.getPackedDestination(packedMove));
+    final Piece sourcePiece;
+
+    bitBoard.unmakeMove(undoRecord);
+    version++;
+    if (outcome != null && outcome.isAttackerEliminated()) {
+      sourcePiece = capturedPieces[--capturedPiecesCount];
+      capturedPieces[capturedPiecesCount] = null;
+    } else {
+      sourcePiece = targetTile.getPiece();
+      targetTile.removePiece();
+    }
+    if (outcome != null && outcome.isDefenderEliminated()) {
+      final Piece targetPiece = capturedPieces[--capturedPiecesCount];
+      capturedPieces[capturedPiecesCount] = null;
+      targetTile.insertPiece(targetPiece);
+    }
+    sourcePiece.setPieceCoords(sourceTile.getTileId());
+    sourceTile.insertPiece(sourcePiece);
+  }
+
   /**
    * Method that adds Tile into gameBoard field.
    * @param tileId tile id.
@@ -412,7 +819,7 @@ public class Board {
    * @param occupied is tile occupied by a piece.
    */
   private void addTile(final int tileId, final Alliance territory) {
-    gameBoard.add(new Tile(tileId, territory));
+    gameBoard.add(new Tile(this, tileId, territory));
   }
 
   /**
@@ -647,6 +1054,34 @@ public class Board {
     return this.moveMaker;
   }
 
+  /**
+   * Gets the version of the board state, incremented on every piece mutation.
+   * @return long version field.
+   */
+  public long getVersion() {
+    return this.version;
+  }
+
+  /**
+   * Gets the candidate moves of every tile of the current board state,
+   * generated again only after the board state changes.
+   * @return LegalMoveCache legalMoveCache field.
+   */
+  public LegalMoveCache getLegalMoveCache() {
+    if (this.legalMoveCache == null)
+      this.legalMoveCache = new LegalMoveCache(this);
+    return this.legalMoveCache;
+  }
+
+  /**
+   * Gets the Zobrist hash of the current position, including the move maker.
+   * Pieces are hashed incrementally by the BitBoard on every piece mutation.
+   * @return long position hash.
+   */
+  public long getZobristHash() {
+    return bitBoard.getZobristHash() ^ Zobrist.sideKey(this.moveMaker);
+  }
+
   /**
    * Set the current move maker player.
    * @param player Player to replace current move maker.
@@ -712,10 +1147,10 @@ public class Board {
       else
         debugBoard += i + " |";
       for (int j = i; j < i + 9; j++) {
-        if (this.getTile(j).isTileEmpty()) {
+        if (this.isTileEmpty(j)) {
           debugBoard += "-";
         } else {
-          final String rank = this.getTile(j).getPiece().getRank();
+          final String rank = this.getTile(j).getPiece().getRank().getName();
           debugBoard += rank.substring(0, 1);
         }
         debugBoard += " ";
@@ -731,10 +1166,10 @@ public class Board {
       else
         debugBoard += i + " |";
       for (int j = i; j < i + 9; j++) {
-        if (this.getTile(j).isTileEmpty()) {
+        if (this.isTileEmpty(j)) {
           debugBoard += "-";
         } else {
-          final String rank = this.getTile(j).getPiece().getRank();
+          final String rank = this.getTile(j).getPiece().getRank().getName();
           debugBoard += rank.substring(0, 1);
         }
         debugBoard += " ";
@@ -748,6 +1183,49 @@ public class Board {
   public void buildBoard(BoardBuilder demoBoardBuild) {
   }
 
+  /**
+   * Compact copy of the board state at a turn: the BitBoard, the Piece of
+   * every Tile and the captured pieces stack. Pieces are shared with the
+   * Board, so restoring keeps every Move and Piece reference valid.
+   */
+  private static final class Checkpoint {
+    private final BitBoard bitBoard = new BitBoard();
+    private final Piece[] tilePieces = new Piece[BoardUtils.ALL_TILES_COUNT];
+    private Piece[] capturedPieces = new Piece[0];
+
+    /**
+     * Copies the board state into this checkpoint.
+     */
+    void save(final Board board) {
+      bitBoard.copyFrom(board.bitBoard);
+      for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+        final Tile tile = board.gameBoard.get(i);
+        tilePieces[i] = tile.isTileOccupied() ? tile.getPiece() : null;
+      }
+      capturedPieces = Arrays.copyOf(board.capturedPieces, board.capturedPiecesCount);
+    }
+
+    /**
+     * Copies this checkpoint into the board state.
+     */
+    void restore(final Board board) {
+      board.bitBoard.copyFrom(bitBoard);
+      board.version++;
+      for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+        final Tile tile = board.gameBoard.get(i);
+        if (tile.isTileOccupied())
+          tile.removePiece();
+        if (tilePieces[i] != null) {
+          tilePieces[i].setPieceCoords(i);
+          tile.insertPiece(tilePieces[i]);
+        }
+      }
+      Arrays.fill(board.capturedPieces, null);
+      System.arraycopy(capturedPieces, 0, board.capturedPieces, 0, capturedPieces.length);
+      board.capturedPiecesCount = capturedPieces.length;
+    }
+  }
+
   /**
    * Class for building board configurations. This class sets and arranges the
    * piece of each Tile of the Board. Required for Board initialization.
@@ -758,17 +1236,57 @@ public class Board {
     /** HashMap of board configuration that contains all designated pieces */
     private final Map<Integer, Piece> boardConfig;
 
+    /** Pieces set of each rank indexed by Alliance ordinal * rank count + rank ordinal */
+    private final int[] rankCounts = new int[2 * Rank.values().length];
+
     /** Axis pieces counter */
     private int axisPiecesCount;
 
     /** Ally pieces counter */
     private int allyPiecesCount;
 
+    /** Owner of the built axis pieces. Board assigns its own when built. */
+    private final Player playerAxis;
+
+    /** Owner of the built ally pieces. Board assigns its own when built. */
+    private final Player playerAlly;
+
+    /** Debug mode toggle for debugging purposes */
+    private boolean debugMode;
+
     /** No argument constructor that initializes all class fields. */
     public BoardBuilder() {
+      this(null, null);
+    }
+
+    /**
+     * Constructor that takes in the owners of the built pieces.
+     * @param playerAxis owner of the axis pieces.
+     * @param playerAlly owner of the ally pieces.
+     */
+    public BoardBuilder(final Player playerAxis, final Player playerAlly) {
       this.boardConfig = new HashMap<>();
       this.axisPiecesCount = 0;
       this.allyPiecesCount = 0;
+      this.playerAxis = playerAxis;
+      this.playerAlly = playerAlly;
+    }
+
+    /**
+     * Method that sets debug mode state.
+     * @return this with debug mode set.
+     */
+    public BoardBuilder setDebugMode(final boolean debug) {
+      this.debugMode = debug;
+      return this;
+    }
+
+    /**
+     * Debug mode checker method.
+     * @return boolean debugMode field.
+     */
+    public boolean isDebugMode() {
+      return this.debugMode;
     }
 
     /**
@@ -784,7 +1302,7 @@ public class Board {
      * @return int allyPiecesCount field.
      */
     public int getAllyPiecesCount() {
-      return axisPiecesCount;
+      return allyPiecesCount;
     }
 
     /**
@@ -863,67 +1381,78 @@ public class Board {
      * @return this with random board configuration.
      */
     public BoardBuilder createRandomBuild() {
-      final int[] occupiedTiles = {};
+      return createRandomBuild(new SplittableRandom());
+    }
 
+    /**
+     * Method that creates random board configuration from a random source, the
+     * same seed giving the same configuration. Pieces already set are kept and
+     * only the missing legal instances are added.
+     * @param random random source of the placement.
+     * @return this with random board configuration.
+     */
+    public BoardBuilder createRandomBuild(final SplittableRandom random) {
       if (isDebugMode())
         System.out.println("Inserting random pieces...");
 
-      // Axis pieces
-      final int[] axisTerritoryBounds = {0, (BoardUtils.ALL_TILES_COUNT / 2) - 1};
-      final List<Piece> unsetAxisPieces = new ArrayList<>();
-
-      unsetAxisPieces.add(new GeneralFive(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new GeneralFour(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new GeneralThree(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new GeneralTwo(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new GeneralOne(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Colonel(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new LtCol(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Major(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Captain(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new LtOne(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new LtTwo(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Sergeant(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Private(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Flag(playerAxis, Alliance.AXIS));
-      unsetAxisPieces.add(new Agent(playerAxis, Alliance.AXIS));
-
-      // Sets axis pieces randomly excluding already occupied tiles.
-      for (final Piece unsetPiece : unsetAxisPieces) {
-        setAllPieceInstanceRandomly(
-            this, unsetPiece, axisTerritoryBounds[0],
-            axisTerritoryBounds[1], occupiedTiles);
+      setAllPiecesRandomly(playerAxis, Alliance.AXIS, 0, random);
+      setAllPiecesRandomly(playerAlly, Alliance.ALLY, BoardUtils.ALL_TILES_COUNT / 2, random);
+      return this;
+    }
+
+    /**
+     * Method that creates a board configuration of a strong layout of a setup
+     * book for each Alliance, picked from the scored layouts without playing
+     * any game. Missing pieces are placed randomly, e.g. if the book is empty.
+     * @param book SetupBook of scored layouts.
+     * @param random random source of the picks and placement.
+     * @return this with book board configuration.
+     */
+    public BoardBuilder createBookBuild(final SetupBook book, final SplittableRandom random) {
+      for (final Alliance alliance : Alliance.values()) {
+        final SetupLayout layout = book.getStrongLayout(random);
+        if (layout != null)
+          layout.placeOn(this, alliance);
       }
+      return createRandomBuild(random);
+    }
 
-      // Ally pieces
-      final int[] allyTerritoryBounds = {BoardUtils.ALL_TILES_COUNT / 2,
-        (BoardUtils.ALL_TILES_COUNT) - 1};
-      final List<Piece> unsetAllyPieces = new ArrayList<>();
-
-      unsetAllyPieces.add(new GeneralFive(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new GeneralFour(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new GeneralThree(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new GeneralTwo(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new GeneralOne(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Colonel(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new LtCol(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Major(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Captain(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new LtOne(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new LtTwo(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Sergeant(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Private(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Flag(playerAlly, Alliance.ALLY));
-      unsetAllyPieces.add(new Agent(playerAlly, Alliance.ALLY));
-
-      // Sets ally pieces randomly excluding already occupied tiles.
-      for (final Piece unsetPiece : unsetAllyPieces) {
-        setAllPieceInstanceRandomly(
-            this, unsetPiece, allyTerritoryBounds[0],
-            allyTerritoryBounds[(1)], occupiedTiles);
+    /**
+     * Sets all missing legal piece instances of an Alliance in a single pass
+     * over its territory tiles, shuffled once with Fisher-Yates.
+     * @param owner Player owning the pieces.
+     * @param alliance Alliance of the pieces.
+     * @param territoryStart first tile ID of the Alliance territory.
+     * @param random random source of the placement.
+     */
+    private void setAllPiecesRandomly(final Player owner, final Alliance alliance,
+                                      final int territoryStart, final SplittableRandom random) {
+      final int territorySize = BoardUtils.ALL_TILES_COUNT / 2;
+      final int[] tiles = new int[territorySize];
+      for (int i = 0; i < territorySize; i++) {
+        final int j = random.nextInt(i + 1);
+        tiles[i] = tiles[j];
+        tiles[j] = territoryStart + i;
       }
 
-      return this;
+      int next = 0;
+      for (final Rank rank : Rank.values()) {
+        final int missing = rank.getLegalPieceInstanceCount() - countPieceInstances(rank, alliance);
+        for (int i = 0; i < missing; i++) {
+          while (next < territorySize && boardConfig.containsKey(tiles[next]))
+            next++;
+          if (next == territorySize)
+            return;
+
+          final Piece piece = rank.createPiece(owner, alliance);
+          piece.setPieceCoords(tiles[next++]);
+          putPiece(piece);
+
+          if (isDebugMode())
+            System.out.println(alliance + " " + rank + " piece inserted at " +
+                               piece.getPieceCoords());
+        }
+      }
     }
 
     /**
@@ -937,12 +1466,7 @@ public class Board {
           isPieceInCorrectTerritory(piece) &&
           isLegalPieceInstanceChecker(piece) &&
           isTileEmpty(piece.getPieceCoords())) {
-        boardConfig.put(piece.getPieceCoords(), piece);
-
-        if (piece.getPieceAlliance() == Alliance.AXIS)
-          this.axisPiecesCount++;
-        else
-          this.allyPiecesCount++;
+        putPiece(piece);
 
         if (isDebugMode())
           System.out.println(
@@ -956,37 +1480,18 @@ public class Board {
     }
 
     /**
-     * Method thats sets all available amount of a single pieces in random
-     * locations within its respective Alliance territory.
-     * @param builder BoardBuilder to set the Piece into
-     * @param piece Piece to set all legal amount of instance randomly.
-     * @param from start index bounds to set the piece/pieces within.
-     * @param to end index bounds to set the piece/pieces within.
-     * @param occupiedTiles int array that contains all Tile exclusions to stop
-     * inserting piece in.
+     * Puts a checked Piece into boardConfig field and counts it.
+     * @param piece Piece to put at its coordinates.
      */
-    public void setAllPieceInstanceRandomly(final BoardBuilder builder, final Piece piece,
-                                            final int from, final int to,
-                                            final int[] occupiedTiles) {
-      Piece pieceCopy = piece.clone();
-      int pieceInstanceCounter = countPieceInstances(piece.getRank(),
-                                                     piece.getPieceAlliance());
-      int randomEmptyTile;
-
-      while (pieceInstanceCounter < piece.getLegalPieceInstanceCount()) {
-        randomEmptyTile = Utils.getRandomWithExclusion(from, to, occupiedTiles);
-        pieceCopy.setPieceCoords(randomEmptyTile);
-        // TODO: Fix to check if randomEmptyTile is empty
-        if (builder.setPiece(pieceCopy)) {
-          pieceCopy = piece.clone();
-          Utils.appendToIntArray(occupiedTiles, randomEmptyTile);
-          pieceInstanceCounter++;
-
-          if (debugMode)
-            System.out.println(piece.getPieceAlliance() + " " +
-                piece.getRank() + " random placement successful");
-        }
-      }
+    private void putPiece(final Piece piece) {
+      boardConfig.put(piece.getPieceCoords(), piece);
+      rankCounts[piece.getPieceAlliance().ordinal() * Rank.values().length +
+                 piece.getRank().ordinal()]++;
+
+      if (piece.getPieceAlliance() == Alliance.AXIS)
+        this.axisPiecesCount++;
+      else
+        this.allyPiecesCount++;
     }
 
     /**
@@ -996,17 +1501,8 @@ public class Board {
      * @param alliance Alliance of the piece to be counted.
      * @return int the count of the specified piece.
      */
-    public int countPieceInstances(final String rank, final Alliance alliance) {
-      int pieceInstanceCounter = 0;
-
-      // Count all pieces from boardConfig HashMap field.
-      for (final Map.Entry<Integer, Piece> entry : boardConfig.entrySet()) {
-        if (entry.getValue().getRank() == rank &&
-            entry.getValue().getPieceAlliance() == alliance)
-          pieceInstanceCounter++;
-      }
-
-      return pieceInstanceCounter;
+    public int countPieceInstances(final Rank rank, final Alliance alliance) {
+      return rankCounts[alliance.ordinal() * Rank.values().length + rank.ordinal()];
     }
 
     /**
@@ -1039,7 +1535,7 @@ public class Board {
       if ((piece.getPieceAlliance() == Alliance.AXIS &&
             piece.getPieceCoords() < BoardUtils.ALL_TILES_COUNT / 2) ||
           (piece.getPieceAlliance() == Alliance.ALLY &&
-            piece.getPieceCoords() > BoardUtils.ALL_TILES_COUNT / 2)) {
+            piece.getPieceCoords() >= BoardUtils.ALL_TILES_COUNT / 2)) {
         return true;
       }
 
@@ -1059,14 +1555,8 @@ public class Board {
      * of allowed instance of the specific piece.
      */
     public boolean isLegalPieceInstanceChecker(final Piece piece) {
-      int pieceInstanceCounter = 0;
-      for (final Map.Entry<Integer, Piece> entry : this.boardConfig.entrySet()) {
-        if (piece.getRank() == entry.getValue().getRank() &&
-            piece.getPieceAlliance() == entry.getValue().getPieceAlliance())
-          pieceInstanceCounter++;
-      }
-
-      if (pieceInstanceCounter <= piece.getLegalPieceInstanceCount())
+      if (countPieceInstances(piece.getRank(), piece.getPieceAlliance()) <=
+          piece.getLegalPieceInstanceCount())
         return true;
 
       if (isDebugMode())
@@ -1137,16 +1627,36 @@ public class Board {
     /** Containing piece. Null if empty or remains uninitialized. */
     private Piece piece;
 
+    /** Board of this Tile for debug mode. Null if standalone. */
+    private final Board board;
+
     /**
      * Constructor that takes in the tileId and territorial Alliance, and sets
      * the tile as empty.
      */
     public Tile(final int tileId, final Alliance territory) {
+      this(null, tileId, territory);
+    }
+
+    /**
+     * Constructor that takes in the Board, tileId and territorial Alliance,
+     * and sets the tile as empty.
+     */
+    public Tile(final Board board, final int tileId, final Alliance territory) {
+      this.board = board;
       this.tileId = tileId;
       this.territory = territory;
       this.occupied = false;
     }
 
+    /**
+     * Debug mode checker method of the Board of this Tile.
+     * @return boolean true if the Board is in debug mode, else false.
+     */
+    private boolean isDebugMode() {
+      return board != null && board.isDebugMode();
+    }
+
     /**
      * Checks if this Tile is empty of Piece instance.
      * @return boolean true if this Tile is empty, else false.
@@ -1251,7 +1761,7 @@ public class Board {
      */
     @Override
     public Tile clone() {
-      final Tile tileCopy = new Tile(this.tileId, this.territory);
+      final Tile tileCopy = new Tile(this.board, this.tileId, this.territory);
 
       if (isTileOccupied())
         tileCopy.insertPiece(getPiece().clone());
@@ -0,0 +1,62 @@
+package com.BrethrenAce.GameEngine;
+
+/**
+ * Read-only view of the board occupancy that the engine and gui can query
+ * without going through Tile and Piece instances.
+ * Tiles are addressed the same way as the Board, 0 to 71 from the top left
+ * corner of the axis territory.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+public interface BoardState {
+
+  /**
+   * Checks if the tile contains a piece.
+   * @param tileId tile index or ID.
+   * @return boolean true if occupied, else false.
+   */
+  boolean isTileOccupied(int tileId);
+
+  /**
+   * Checks if the tile does not contain a piece.
+   * @param tileId tile index or ID.
+   * @return boolean true if empty, else false.
+   */
+  boolean isTileEmpty(int tileId);
+
+  /**
+   * Gets the Alliance of the piece occupying the tile.
+   * @param tileId tile index or ID.
+   * @return Alliance of the occupying piece. Null if tile is empty.
+   */
+  Alliance getPieceAlliance(int tileId);
+
+  /**
+   * Gets the rank code of the piece occupying the tile.
+   * @param tileId tile index or ID.
+   * @return byte rank code of the occupying piece. 0 if tile is empty.
+   */
+  byte getPieceRank(int tileId);
+
+  /**
+   * Gets the occupancy bits of tiles 0 to 63 of an Alliance.
+   * @param alliance Alliance of the pieces.
+   * @return long bitmask where bit n is set if tile n is occupied.
+   */
+  long getLowOccupancy(Alliance alliance);
+
+  /**
+   * Gets the occupancy bits of tiles 64 to 71 of an Alliance.
+   * @param alliance Alliance of the pieces.
+   * @return long bitmask where bit n is set if tile 64 + n is occupied.
+   */
+  long getHighOccupancy(Alliance alliance);
+
+  /**
+   * Counts all pieces of an Alliance left in the board.
+   * @param alliance Alliance of the pieces.
+   * @return int pieces count.
+   */
+  int countPieces(Alliance alliance);
+}
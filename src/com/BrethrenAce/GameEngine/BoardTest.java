@@ -1,9 +1,19 @@
 package com.BrethrenAce.GameEngine;
 
+import com.BrethrenAce.GameEngine.pieces.Flag;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameEngine.player.Player;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 class BoardTest {
 
     @BeforeEach
@@ -285,4 +295,124 @@ class BoardTest {
     @Test
     void testPieceAllianceCheck1() {
     }
-}
\ No newline at end of file
+
+    @Test
+    void separateBoardStates() {
+        final Board.BoardBuilder builder = new Board.BoardBuilder().createDemoBoardBuild();
+        final Player firstAxis = new Player(null, Alliance.AXIS);
+        final Board first = new Board(firstAxis, new Player(null, Alliance.ALLY));
+        final Board second = new Board(new Player(null, Alliance.AXIS), new Player(null, Alliance.ALLY));
+        first.setBoardBuilder(builder);
+        second.setBoardBuilder(builder);
+        first.buildBoard();
+        second.buildBoard();
+        first.setDebugMode(true);
+
+        assertTrue(first.deletePiece(4));
+        assertTrue(first.isTileEmpty(4));
+        assertFalse(second.isTileEmpty(4));
+        assertNotSame(first.getTile(5).getPiece(), second.getTile(5).getPiece());
+        assertSame(firstAxis, first.getTile(5).getPiece().getPieceOwner());
+        assertSame(firstAxis, first.getAxisPlayer());
+        assertFalse(second.isDebugMode());
+    }
+
+    @Test
+    void parallelBoards() throws InterruptedException {
+        final List<Thread> threads = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(() -> {
+                final Board board = new Board(new Player(null, Alliance.AXIS),
+                                              new Player(null, Alliance.ALLY));
+                for (int j = 0; j < 50; j++) {
+                    board.buildBoard();
+                    for (int k = 0; k < 72; k++) {
+                        if (board.getTile(k).isTileEmpty() != board.isTileEmpty(k))
+                            synchronized (errors) {
+                                errors.add(new AssertionError(board.toString()));
+                            }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads)
+            thread.join();
+
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void seek() {
+        final Board board = TestBoards.demoBoard();
+        final List<Long> hashes = new ArrayList<>();
+        hashes.add(board.getZobristHash());
+        final SplittableRandom random = new SplittableRandom(5);
+        hashes.addAll(TestBoards.playRandomMoves(board, 150, random));
+
+        for (int i = 0; i < 40; i++) {
+            final int turn = random.nextInt(hashes.size());
+            assertTrue(board.seek(turn));
+            assertEquals(turn + 1, board.getCurrentTurn());
+            assertEquals(hashes.get(turn), board.getZobristHash());
+            for (int k = 0; k < 72; k++) {
+                assertEquals(board.getTile(k).isTileEmpty(), board.isTileEmpty(k));
+                if (board.getTile(k).isTileOccupied())
+                    assertEquals(k, board.getTile(k).getPiece().getPieceCoords());
+            }
+        }
+        assertFalse(board.seek(hashes.size()));
+
+        // Branch off an earlier turn, checkpoints of the dropped moves are not used.
+        assertTrue(board.seek(70));
+        final List<Long> branch = TestBoards.playRandomMoves(board, 40, random);
+        assertEquals(110, board.getMoveLog().size());
+        assertTrue(board.seek(0));
+        assertEquals(hashes.get(0), board.getZobristHash());
+        assertTrue(board.seek(100));
+        assertEquals(branch.get(29), board.getZobristHash());
+        assertTrue(board.getPlayer(board.getMoveMaker()).undoLastMove());
+        assertEquals(branch.get(28), board.getZobristHash());
+    }
+
+    @Test
+    void createRandomBuild() {
+        final Board.BoardBuilder builder = new Board.BoardBuilder().createRandomBuild(new SplittableRandom(9));
+        for (final Alliance alliance : Alliance.values()) {
+            for (final Rank rank : Rank.values())
+                assertEquals(rank.getLegalPieceInstanceCount(), builder.countPieceInstances(rank, alliance));
+        }
+        for (final Piece piece : builder.getBoardConfig().values())
+            assertTrue(builder.isPieceInCorrectTerritory(piece));
+        assertEquals(builder.getBoardConfig().size(),
+                     builder.getAxisPiecesCount() + builder.getAllyPiecesCount());
+
+        final Board.BoardBuilder same = new Board.BoardBuilder().createRandomBuild(new SplittableRandom(9));
+        for (final int tileId : builder.getBoardConfig().keySet())
+            assertEquals(builder.getBoardConfig().get(tileId).getRank(),
+                         same.getBoardConfig().get(tileId).getRank());
+
+        // Pieces already set are kept.
+        final Board.BoardBuilder partial = new Board.BoardBuilder();
+        assertTrue(partial.setPiece(new Flag(null, Alliance.AXIS, 4)));
+        partial.createRandomBuild(new SplittableRandom(9));
+        assertEquals(Rank.FLAG, partial.getBoardConfig().get(4).getRank());
+        assertEquals(1, partial.countPieceInstances(Rank.FLAG, Alliance.AXIS));
+        assertEquals(builder.getAxisPiecesCount(), partial.getAxisPiecesCount());
+    }
+
+    @Test
+    void setSeed() {
+        final Board[] boards = new Board[2];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new Board(new Player(null, Alliance.AXIS), new Player(null, Alliance.ALLY));
+            boards[i].setHeadless(true);
+            boards[i].setSeed(7);
+            boards[i].initGame();
+        }
+        assertEquals(boards[0].getZobristHash(), boards[1].getZobristHash());
+        assertEquals(boards[0].getRandom().nextLong(), boards[1].getRandom().nextLong());
+    }
+}
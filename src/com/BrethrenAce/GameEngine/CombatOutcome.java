@@ -0,0 +1,117 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.pieces.Rank;
+
+/**
+ * Enum class that holds the result of an attacking engagement between two
+ * opposing pieces, together with the precomputed outcome table of every
+ * attacker and defender rank pair.
+ * The table is built once from the Rank power levels and the special cases,
+ * i.e. Private eliminates Agent, same ranks eliminate each other, and any
+ * engagement with a Flag concludes the game. Resolving an engagement is a
+ * single array load.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+public enum CombatOutcome {
+  /** Defender piece is eliminated and the attacker takes its Tile. */
+  ATTACKER_WINS(false, true),
+  /** Attacker piece is eliminated and the defender stays. */
+  DEFENDER_WINS(true, false),
+  /** Both pieces are eliminated. */
+  BOTH_REMOVED(true, true),
+  /** Defender Flag is captured and the attacker Alliance wins the game. */
+  ATTACKER_WINS_GAME(false, true),
+  /** Attacker Flag is eliminated and the defender Alliance wins the game. */
+  DEFENDER_WINS_GAME(true, false);
+
+  /** Number of ranks, one side of the outcome table */
+  public static final int RANK_COUNT = Rank.values().length;
+
+  /** Outcome table indexed by attacker rank ordinal * RANK_COUNT + defender rank ordinal */
+  private static final CombatOutcome[] OUTCOMES = new CombatOutcome[RANK_COUNT * RANK_COUNT];
+
+  static {
+    for (final Rank attacker : Rank.values())
+      for (final Rank defender : Rank.values())
+        OUTCOMES[attacker.ordinal() * RANK_COUNT + defender.ordinal()] =
+          computeOutcome(attacker, defender);
+  }
+
+  /** true if the attacking piece is removed from the Board */
+  private final boolean attackerEliminated;
+
+  /** true if the defending piece is removed from the Board */
+  private final boolean defenderEliminated;
+
+  CombatOutcome(final boolean attackerEliminated, final boolean defenderEliminated) {
+    this.attackerEliminated = attackerEliminated;
+    this.defenderEliminated = defenderEliminated;
+  }
+
+  /**
+   * Resolves the engagement of an attacking rank into a defending rank.
+   * @param attacker Rank of the attacking or source piece.
+   * @param defender Rank of the defending or target piece.
+   * @return CombatOutcome of the engagement.
+   */
+  public static CombatOutcome resolve(final Rank attacker, final Rank defender) {
+    return OUTCOMES[attacker.ordinal() * RANK_COUNT + defender.ordinal()];
+  }
+
+  /**
+   * Resolves the engagement of two BitBoard rank codes.
+   * @param attackerCode rank code of the attacking or source piece, 1 to 15.
+   * @param defenderCode rank code of the defending or target piece, 1 to 15.
+   * @return CombatOutcome of the engagement.
+   */
+  public static CombatOutcome resolve(final byte attackerCode, final byte defenderCode) {
+    return OUTCOMES[(attackerCode - 1) * RANK_COUNT + (defenderCode - 1)];
+  }
+
+  /**
+   * Computes an outcome table entry from the rank rules.
+   * @return CombatOutcome of the engagement.
+   */
+  private static CombatOutcome computeOutcome(final Rank attacker, final Rank defender) {
+    if (defender == Rank.FLAG)
+      return ATTACKER_WINS_GAME;
+    else if (attacker == Rank.FLAG)
+      return DEFENDER_WINS_GAME;
+    else if (attacker == defender)
+      return BOTH_REMOVED;
+    else if (attacker == Rank.PRIVATE && defender == Rank.AGENT)
+      return ATTACKER_WINS;
+    else if (attacker == Rank.AGENT && defender == Rank.PRIVATE)
+      return DEFENDER_WINS;
+    else if (attacker.getPiecePower() > defender.getPiecePower())
+      return ATTACKER_WINS;
+    else
+      return DEFENDER_WINS;
+  }
+
+  /**
+   * Checks if the attacking piece is removed from the Board.
+   * @return boolean attackerEliminated field.
+   */
+  public boolean isAttackerEliminated() {
+    return this.attackerEliminated;
+  }
+
+  /**
+   * Checks if the defending piece is removed from the Board.
+   * @return boolean defenderEliminated field.
+   */
+  public boolean isDefenderEliminated() {
+    return this.defenderEliminated;
+  }
+
+  /**
+   * Checks if the engagement concludes the game.
+   * @return boolean true if a Flag is involved, else false.
+   */
+  public boolean isGameOver() {
+    return this == ATTACKER_WINS_GAME || this == DEFENDER_WINS_GAME;
+  }
+}
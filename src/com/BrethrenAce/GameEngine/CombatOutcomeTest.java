@@ -0,0 +1,39 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombatOutcomeTest {
+
+    @Test
+    void resolve() {
+        assertEquals(CombatOutcome.ATTACKER_WINS, CombatOutcome.resolve(Rank.GENERAL_FIVE, Rank.MAJOR));
+        assertEquals(CombatOutcome.DEFENDER_WINS, CombatOutcome.resolve(Rank.SERGEANT, Rank.CAPTAIN));
+        assertEquals(CombatOutcome.BOTH_REMOVED, CombatOutcome.resolve(Rank.COLONEL, Rank.COLONEL));
+    }
+
+    @Test
+    void resolvePrivateAndAgent() {
+        assertEquals(CombatOutcome.ATTACKER_WINS, CombatOutcome.resolve(Rank.PRIVATE, Rank.AGENT));
+        assertEquals(CombatOutcome.DEFENDER_WINS, CombatOutcome.resolve(Rank.AGENT, Rank.PRIVATE));
+        assertEquals(CombatOutcome.ATTACKER_WINS, CombatOutcome.resolve(Rank.AGENT, Rank.GENERAL_FIVE));
+    }
+
+    @Test
+    void resolveFlag() {
+        assertEquals(CombatOutcome.ATTACKER_WINS_GAME, CombatOutcome.resolve(Rank.FLAG, Rank.FLAG));
+        assertEquals(CombatOutcome.ATTACKER_WINS_GAME, CombatOutcome.resolve(Rank.PRIVATE, Rank.FLAG));
+        assertEquals(CombatOutcome.DEFENDER_WINS_GAME, CombatOutcome.resolve(Rank.FLAG, Rank.PRIVATE));
+        assertTrue(CombatOutcome.resolve(Rank.FLAG, Rank.AGENT).isGameOver());
+    }
+
+    @Test
+    void resolveRankCode() {
+        for (final Rank attacker : Rank.values())
+            for (final Rank defender : Rank.values())
+                assertEquals(CombatOutcome.resolve(attacker, defender),
+                             CombatOutcome.resolve(attacker.getCode(), defender.getCode()));
+    }
+}
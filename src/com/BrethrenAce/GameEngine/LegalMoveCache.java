@@ -0,0 +1,80 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+/**
+ * Candidate moves of every tile of a Board, generated once per board state.
+ * The cache keeps the Board version it was generated at and generates all
+ * tiles again on the first read after the Board changes, so repeated reads
+ * of the same position, e.g. hovering over the pieces, do not generate moves.
+ * Moves are packed by MoveGenerator.generatePieceMoves(), moves into friendly
+ * pieces included. Not thread safe, read it from the thread owning the Board.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class LegalMoveCache {
+
+  /** Board the moves are generated from */
+  private final Board board;
+
+  /** Packed moves of each tile, MAX_PIECE_MOVES slots per tile */
+  private final int[] moves = new int[BoardUtils.ALL_TILES_COUNT * MoveGenerator.MAX_PIECE_MOVES];
+
+  /** Number of packed moves of each tile */
+  private final int[] moveCounts = new int[BoardUtils.ALL_TILES_COUNT];
+
+  /** Board version the moves were generated at, -1 if never */
+  private long version = -1;
+
+  /**
+   * Constructor that takes in the Board of the cached moves.
+   */
+  public LegalMoveCache(final Board board) {
+    this.board = board;
+  }
+
+  /**
+   * Gets the number of candidate moves of the piece of a tile.
+   * @param tileId tile of the piece.
+   * @return int number of moves, 0 if the tile is empty.
+   */
+  public int getMoveCount(final int tileId) {
+    refresh();
+    return moveCounts[tileId];
+  }
+
+  /**
+   * Gets a candidate move of the piece of a tile.
+   * @param tileId tile of the piece.
+   * @param index index of the move, below getMoveCount().
+   * @return int packed move.
+   */
+  public int getMove(final int tileId, final int index) {
+    refresh();
+    return moves[tileId * MoveGenerator.MAX_PIECE_MOVES + index];
+  }
+
+  /**
+   * Checks if the cached moves are of the current board state.
+   * @return boolean true if no move generation is needed, else false.
+   */
+  public boolean isValid() {
+    return version == board.getVersion();
+  }
+
+  /**
+   * Generates the moves of every tile if the Board changed.
+   */
+  private void refresh() {
+    if (isValid())
+      return;
+
+    final BitBoard bitBoard = board.getBitBoard();
+    for (int tileId = 0; tileId < BoardUtils.ALL_TILES_COUNT; tileId++)
+      moveCounts[tileId] = MoveGenerator.generatePieceMoves(
+        bitBoard, tileId, moves, tileId * MoveGenerator.MAX_PIECE_MOVES);
+    this.version = board.getVersion();
+  }
+}
@@ -0,0 +1,82 @@
+package com.BrethrenAce.GameEngine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LegalMoveCacheTest {
+
+    /**
+     * Checks the cached moves of every tile against MoveGenerator.
+     */
+    private static void assertCachedMoves(final Board board) {
+        final LegalMoveCache cache = board.getLegalMoveCache();
+        final int[] moves = new int[MoveGenerator.MAX_PIECE_MOVES];
+        for (int tileId = 0; tileId < 72; tileId++) {
+            final int moveCount = MoveGenerator.generatePieceMoves(board.getBitBoard(), tileId, moves, 0);
+            assertEquals(moveCount, cache.getMoveCount(tileId));
+            for (int i = 0; i < moveCount; i++)
+                assertEquals(moves[i], cache.getMove(tileId, i));
+
+            // The buffer free check of Move agrees with the generated moves.
+            for (int destination = 0; destination < 72; destination++) {
+                boolean generated = false;
+                for (int i = 0; i < moveCount; i++)
+                    generated |= Move.getPackedDestination(moves[i]) == destination;
+                assertEquals(generated, MoveGenerator.isCandidateMove(board, tileId, destination));
+            }
+        }
+        assertTrue(cache.isValid());
+    }
+
+    @Test
+    void invalidate() {
+        final Board board = TestBoards.demoBoard();
+        assertCachedMoves(board);
+
+        // Reads of the same board state do not generate again.
+        final long version = board.getVersion();
+        board.getLegalMoveCache().getMoveCount(0);
+        assertEquals(version, board.getVersion());
+
+        assertTrue(board.deletePiece(4));
+        assertFalse(board.getLegalMoveCache().isValid());
+        assertCachedMoves(board);
+        assertTrue(board.movePiece(13, 4));
+        assertFalse(board.getLegalMoveCache().isValid());
+        assertCachedMoves(board);
+        assertTrue(board.insertPiece(13, board.getTile(4).getPiece().getRank().createPiece(null, Alliance.AXIS)));
+        assertCachedMoves(board);
+        assertTrue(board.swapPiece(4, 13));
+        assertCachedMoves(board);
+
+        // Moves made and reverted in place.
+        final SplittableRandom random = new SplittableRandom(2);
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        Alliance side = Alliance.ALLY;
+        for (int i = 0; i < 20; i++) {
+            final int moveCount = MoveGenerator.generateMoves(board.getBitBoard(), side, moves);
+            final long undoRecord = board.makeMove(moves[random.nextInt(moveCount)]);
+            assertCachedMoves(board);
+            board.unmakeMove(undoRecord);
+            assertCachedMoves(board);
+            board.makeMove(moves[random.nextInt(moveCount)]);
+            side = side == Alliance.ALLY ? Alliance.AXIS : Alliance.ALLY;
+        }
+    }
+
+    @Test
+    void candidateMoveOutsideBoard() {
+        final Board board = TestBoards.demoBoard();
+        for (int tileId = 0; tileId < 72; tileId++) {
+            if (board.getBitBoard().isTileEmpty(tileId))
+                continue;
+            for (final int destination : new int[] {-72, -64, -9, -1, 72, 81, 127, 128, 136})
+                assertFalse(MoveGenerator.isCandidateMove(board, tileId, destination));
+        }
+        for (final int origin : new int[] {-1, 72, 128})
+            assertFalse(MoveGenerator.isCandidateMove(board, origin, 0));
+    }
+}
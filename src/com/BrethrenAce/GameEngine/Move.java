@@ -2,18 +2,18 @@ package com.BrethrenAce.GameEngine;
 
 import com.BrethrenAce.GameEngine.Board.Tile;
 import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.pieces.Rank;
 import com.BrethrenAce.GameEngine.player.Player;
 import com.BrethrenAce.GameUtilities.BoardUtils;
 
 import javax.swing.*;
-import java.util.Map;
 
 /**
  * A class that decides the mobility of all pieces and has several functions, mainly to
  * check current game scenario(e.g. winning). All pieces movement are
  * the same, i.e. a step forwards, backwards and sidewards. Also, Move class
  * evaluates all the four possible moves and categorized them as one of the
- * following, "attacking", "draw", "normal", and "invalid." Finally, Move class
+ * MoveType, ATTACKING, DRAW, NORMAL, and INVALID. Finally, Move class
  * checks to see if the executing move will conclude the game and declase the
  * winner.
  *
@@ -42,17 +42,23 @@ public class Move {
   private boolean isExecuted = false;
 
   /** Move type to determine the behavior of piece relocation */
-  private String moveType;
+  private MoveType moveType;
 
-  /** Deep copy of the source piece */
+  /** Source piece to be moved */
   private Piece sourcePieceCopy;
 
-  /** Deep copy of the target piece if move type is attacking or draw */
+  /** Target piece if move type is attacking or draw */
   private Piece targetPieceCopy;
 
-  /** Deep copy of the eliminated piece if move type is attacking */
+  /** Eliminated piece if move type is attacking */
   private Piece eliminatedPiece;
 
+  /** Undo record returned by Board.makeMove() when this Move was executed */
+  private long undoRecord;
+
+  /** Outcome of the engagement if move type is attacking or draw */
+  private CombatOutcome combatOutcome;
+
   /**
    * Constructor that takes in the player who will move the piece, board, source
    * tile coordinates and target tile coordinates.
@@ -75,31 +81,33 @@ public class Move {
   /**
    * Evaluates the move for this Move instance based on the target tile location
    * and the source piece to be moved.
-   * "attacking" = if target Tile contains opposing piece Alliance.
-   * "normal"     = if target Tile is empty.
-   * "invalid"    = if target Tile contains friendly piece Alliance.
-   * "draw"       = if target Tile contains opposing piece Alliance and has the
-   *                same rank, with the exception of Flag rank.
+   * ATTACKING = if target Tile contains opposing piece Alliance.
+   * NORMAL    = if target Tile is empty.
+   * INVALID   = if target Tile contains friendly piece Alliance.
+   * DRAW      = if target Tile contains opposing piece Alliance and has the
+   *             same rank, with the exception of Flag rank.
+   * The outcome of ATTACKING and DRAW moves is looked up from CombatOutcome.
    */
   public void evaluateMove() {
-    this.sourcePieceCopy = this.board.getTile(sourceTileCoords).getPiece().clone();
-    if (this.board.getTile(targetTileCoords).isTileOccupied())
-      this.targetPieceCopy = this.board.getTile(targetTileCoords).getPiece().clone();
+    this.sourcePieceCopy = this.board.getTile(sourceTileCoords).getPiece();
+    if (this.board.isTileOccupied(targetTileCoords))
+      this.targetPieceCopy = this.board.getTile(targetTileCoords).getPiece();
     else
       this.targetPieceCopy = null;
-
-    if (board.getTile(targetTileCoords).isTileOccupied())
-      if (targetPieceCopy.getPieceAlliance() != sourcePieceCopy.getPieceAlliance())
-        if (isSameRank() && isTargetPieceFlag())
-          this.moveType = "attacking";
-        else if (isSameRank())
-          this.moveType = "draw";
+    this.combatOutcome = null;
+
+    if (board.isTileOccupied(targetTileCoords))
+      if (board.getPieceAlliance(targetTileCoords) != board.getPieceAlliance(sourceTileCoords)) {
+        this.combatOutcome = CombatOutcome.resolve(sourcePieceCopy.getRank(),
+                                                   targetPieceCopy.getRank());
+        if (combatOutcome == CombatOutcome.BOTH_REMOVED)
+          this.moveType = MoveType.DRAW;
         else
-          this.moveType = "attacking";
-      else
-        this.moveType = "invalid";
+          this.moveType = MoveType.ATTACKING;
+      } else
+        this.moveType = MoveType.INVALID;
     else
-      this.moveType = "normal";
+      this.moveType = MoveType.NORMAL;
   }
 
   /**
@@ -113,50 +121,46 @@ public class Move {
 
       switch (this.moveType) {
 
-        case "attacking":
+        case ATTACKING:
           // Check if source or target piece is Flag rank, then conclude the game.
-          if (isTargetPieceFlag()) {
-            JOptionPane.showMessageDialog(null, "\n" + sourcePieceCopy.getPieceAlliance() +
-                    " player WON!\n");
+          if (combatOutcome == CombatOutcome.ATTACKER_WINS_GAME) {
+            if (!board.isHeadless())
+              JOptionPane.showMessageDialog(null, "\n" + sourcePieceCopy.getPieceAlliance() +
+                      " player WON!\n");
             board.setEndGameWinner(sourcePieceCopy.getPieceAlliance());
-          } else if (isSourcePieceFlag() && !isTargetPieceFlag()){
-            JOptionPane.showMessageDialog(null,"\n" + targetPieceCopy.getPieceAlliance() +
-                               " player WON!\n");
+          } else if (combatOutcome == CombatOutcome.DEFENDER_WINS_GAME) {
+            if (!board.isHeadless())
+              JOptionPane.showMessageDialog(null,"\n" + targetPieceCopy.getPieceAlliance() +
+                                 " player WON!\n");
             board.setEndGameWinner(targetPieceCopy.getPieceAlliance());
           }
 
           // Eliminate low ranking piece from the attacking engagement.
-          if (isTargetPieceEliminated()) {
-            board.replacePiece(targetTileCoords, sourcePieceCopy);
-            board.getTile(sourceTileCoords).removePiece();
-            eliminatedPiece = targetPieceCopy;
-          } else {
-            board.getTile(sourceTileCoords).removePiece();
-            eliminatedPiece = sourcePieceCopy;
-          }
+          this.undoRecord = board.makeMove(getPackedMove());
+          eliminatedPiece = combatOutcome.isDefenderEliminated() ? targetPieceCopy : sourcePieceCopy;
           this.isExecuted = true;
           break;
 
-        case "normal":
+        case NORMAL:
           // Check if Flag has been maneuvered into the opposite end row of the board.
           if (isFlagSucceeded()) {
-            System.out.println("\n" + sourcePieceCopy.getPieceAlliance() +
-                " player WON!\n");
+            if (!board.isHeadless())
+              System.out.println("\n" + sourcePieceCopy.getPieceAlliance() +
+                  " player WON!\n");
             board.setEndGameWinner(sourcePieceCopy.getPieceAlliance());
           }
 
           // Move Tile normally
-          board.movePiece(sourceTileCoords, targetTileCoords);
+          this.undoRecord = board.makeMove(getPackedMove());
           this.isExecuted = true;
           break;
 
-        case "draw":
+        case DRAW:
           // Eliminates both pieces from the game.
-          board.getTile(sourceTileCoords).removePiece();
-          board.getTile(targetTileCoords).removePiece();
+          this.undoRecord = board.makeMove(getPackedMove());
           break;
 
-        case "invalid":
+        case INVALID:
           // Do nothing and return false.
           System.out.println("E: Invalid move");
           System.out.println(this.toString());
@@ -174,30 +178,23 @@ public class Move {
 
   /**
    * Check if this Move instance is one of the legal moves of the current state
-   * of the source piece. Depends on Piece evaluateMoves() method.
+   * of the source piece. Depends on MoveGenerator isCandidateMove() method.
    * @return boolean true of this Move is a candidate move for the source piece.
    */
   private boolean legalMoveCheck() {
-    // Fetch all possible moves if any.
-    final Map<String, Move> possiblePieceMoves =
-      this.board.getTile(sourceTileCoords).getPiece().evaluateMoves(board);
-
     // Check if one of possible piece moves
-    for (final Map.Entry<String, Move> entry : possiblePieceMoves.entrySet()) {
-      if (entry.getValue().getDestinationCoords() == targetTileCoords) {
-        return true;
-      }
-    }
+    if (MoveGenerator.isCandidateMove(board, sourceTileCoords, targetTileCoords))
+      return true;
 
-      // set move type to "invalid" if not in possible moves.
-    moveType = "invalid";
+    // set move type to INVALID if not in possible moves.
+    moveType = MoveType.INVALID;
 
-    if (Board.isDebugMode()) {
+    if (board.isDebugMode()) {
       String targetPiece;
       if (targetPieceCopy == null)
         targetPiece = "";
       else
-        targetPiece = targetPieceCopy.getRank();
+        targetPiece = targetPieceCopy.getRank().getName();
 
       System.out.println(sourcePieceCopy.getPieceAlliance() + " " +
           sourcePieceCopy.getRank() + " " + sourceTileCoords + " to " +
@@ -209,64 +206,84 @@ public class Move {
   }
 
   /**
-   * Checks if source and target piece has the same rank.
-   * @return boolean true if same rank, else false.
+   * Checks if the Flag piece has succeeded maneuvering into opposite end row
+   * of the Board without being eliminated.
+   * @return boolean true if Flag has succeeded, else false.
    */
-  private boolean isSameRank() {
-      return sourcePieceCopy.getRank() == targetPieceCopy.getRank();
+  private boolean isFlagSucceeded() {
+    if (sourcePieceCopy.getRank() == Rank.FLAG &&
+        board.isTileEmpty(targetTileCoords))
+      // Check if Flag piece is in the respective opposite end row of the board.
+        return (sourcePieceCopy.getPieceAlliance() == Alliance.AXIS &&
+                targetTileCoords >= BoardUtils.LAST_ROW_INIT) ||
+                (sourcePieceCopy.getPieceAlliance() == Alliance.ALLY &&
+                        targetTileCoords < BoardUtils.SECOND_ROW_INIT);
+
+    return false;
   }
 
   /**
-   * Checks if target piece has been eliminated by the source piece. Higher
-   * ranking piece will eliminate lower ranking piece.
-   * Agent piece will eliminated all pieces regardless of rank except the Private
-   * piece.
-   * If both pieces were are of Flag rank, the aggressor piece will win
-   * the engagement.
-   * @return boolean true if target piece is subordinate to the source piece,
-   * else false.
+   * Packs a move into a single int. Bits 0 to 6 holds the origin, bits 7 to 13
+   * the destination and bits 14 to 15 the move type.
+   * @param originCoords origin Tile coordinates.
+   * @param destinationCoords destination Tile coordinates.
+   * @param moveType move type of the move.
+   * @return int packed move.
    */
-  private boolean isTargetPieceEliminated() {
-    if (isSourcePieceFlag() && isTargetPieceFlag())
-      return true;
-    else if (sourcePieceCopy.getRank() == "Private" && targetPieceCopy.getRank() == "Agent")
-      return true;
-    else if (sourcePieceCopy.getRank() == "Agent" && targetPieceCopy.getRank() == "Private")
-      return false;
-    else return sourcePieceCopy.getPiecePower() > targetPieceCopy.getPiecePower();
+  public static int packMove(final int originCoords, final int destinationCoords,
+                             final MoveType moveType) {
+    return originCoords | (destinationCoords << 7) | (moveType.ordinal() << 14);
   }
 
   /**
-   * Checks if the target piece is ranked Flag.
-   * @return boolean true if target piece is Flag, else false.
+   * Gets the origin Tile coordinates of a packed move.
+   * @param packedMove packed move.
+   * @return int origin Tile coordinates.
    */
-  private boolean isTargetPieceFlag() {
-      return targetPieceCopy.getRank() == "Flag";
+  public static int getPackedOrigin(final int packedMove) {
+    return packedMove & 0x7F;
   }
 
   /**
-   * Checks if the source piece is ranked Flag.
-   * @return boolean true if source piece is Flag, else false.
+   * Gets the destination Tile coordinates of a packed move.
+   * @param packedMove packed move.
+   * @return int destination Tile coordinates.
    */
-  private boolean isSourcePieceFlag() {
-      return sourcePieceCopy.getRank() == "Flag";
+  public static int getPackedDestination(final int packedMove) {
+    return (packedMove >>> 7) & 0x7F;
   }
 
   /**
-   * Checks if the Flag piece has succeeded maneuvering into opposite end row
-   * of the Board without being eliminated.
-   * @return boolean true if Flag has succeeded, else false.
+   * Gets the move type of a packed move.
+   * @param packedMove packed move.
+   * @return MoveType of the packed move.
    */
-  private boolean isFlagSucceeded() {
-    if (sourcePieceCopy.getRank() == "Flag" &&
-        board.getTile(targetTileCoords).isTileEmpty())
-      // Check if Flag piece is in the respective opposite end row of the board.
-        return (sourcePieceCopy.getPieceAlliance() == Alliance.AXIS &&
-                targetTileCoords >= BoardUtils.LAST_ROW_INIT) ||
-                (sourcePieceCopy.getPieceAlliance() == Alliance.ALLY &&
-                        targetTileCoords < BoardUtils.SECOND_ROW_INIT);
+  public static MoveType getPackedMoveType(final int packedMove) {
+    return MoveType.fromOrdinal((packedMove >>> 14) & 0x3);
+  }
 
-    return false;
+  /**
+   * Packs this Move instance into a single int.
+   * @return int packed move.
+   */
+  public int getPackedMove() {
+    return packMove(sourceTileCoords, targetTileCoords, moveType);
+  }
+
+  /**
+   * Gets the undo record of the last execution of this Move instance.
+   * @return long undoRecord field.
+   */
+  public long getUndoRecord() {
+    return this.undoRecord;
+  }
+
+  /**
+   * Sets the undo record, e.g. when this Move is reexecuted by Board.makeMove().
+   * @param undoRecord undo record returned by Board.makeMove().
+   */
+  public void setUndoRecord(final long undoRecord) {
+    this.undoRecord = undoRecord;
   }
 
   /**
@@ -303,15 +320,24 @@ public class Move {
 
   /**
    * Gets the move type of this Move instance.
-   * @return String moveType field. Null if uninitialized.
+   * @return MoveType moveType field. Null if uninitialized.
    */
-  public String getMoveType() {
+  public MoveType getMoveType() {
     if (this.moveType != null)
       return this.moveType;
 
     return null;
   }
 
+  /**
+   * Gets the outcome of the engagement of this Move instance.
+   * @return CombatOutcome combatOutcome field. Null if move type is not
+   * attacking or draw.
+   */
+  public CombatOutcome getCombatOutcome() {
+    return this.combatOutcome;
+  }
+
   /**
    * Gets the turn ID of this Move instance.
    * @return int turnId field. -1 if not set.
@@ -398,9 +424,9 @@ public class Move {
 
   /**
    * Sets the move type of this Move instance.
-   * @param moveType String move type to set.
+   * @param moveType MoveType to set.
    */
-  public void setMoveType(final String moveType) {
+  public void setMoveType(final MoveType moveType) {
     this.moveType = moveType;
   }
 
@@ -415,12 +441,12 @@ public class Move {
   @Override
   public String toString() {
     final Alliance sourcePieceAlliance = sourcePieceCopy == null ? null : sourcePieceCopy.getPieceAlliance();
-    final String sourcePiece = sourcePieceCopy == null ? "" : sourcePieceCopy.getRank();
-    final String targetPiece = targetPieceCopy == null ? "" : targetPieceCopy.getRank();
+    final String sourcePiece = sourcePieceCopy == null ? "" : sourcePieceCopy.getRank().getName();
+    final String targetPiece = targetPieceCopy == null ? "" : targetPieceCopy.getRank().getName();
 
     if (isExecuted) {
       String superiorPieceAlliance = "";
-      if (this.moveType == "attacking") {
+      if (this.moveType == MoveType.ATTACKING) {
         superiorPieceAlliance = eliminatedPiece.getPieceAlliance() == Alliance.AXIS ?
           " " + Alliance.ALLY: " " + Alliance.AXIS;
       }
@@ -0,0 +1,139 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+/**
+ * Allocation free move generator that writes candidate moves into a caller
+ * supplied int buffer instead of creating Move instances.
+ * Each candidate move is packed by Move.packMove() as origin, destination and
+ * move type, the same way Move evaluates them.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class MoveGenerator {
+
+  /** Maximum candidate moves of a single piece */
+  public static final int MAX_PIECE_MOVES = 4;
+
+  /** Buffer size that fits all candidate moves of one Alliance */
+  public static final int MAX_MOVES = MAX_PIECE_MOVES * (BoardUtils.ALL_TILES_COUNT / 2);
+
+  /**
+   * Writes all candidate moves of the piece occupying a tile into the buffer,
+   * in up, down, left and right order of the BoardUtils neighbour table.
+   * @param board board state to evaluate the moves from.
+   * @param tileId tile of the piece to evaluate.
+   * @param moveBuffer buffer to write the packed moves into.
+   * @param offset index of the buffer to start writing from.
+   * @return int number of packed moves written.
+   */
+  public static int generatePieceMoves(final BoardState board, final int tileId,
+                                       final int[] moveBuffer, final int offset) {
+    if (board.isTileEmpty(tileId))
+      return 0;
+
+    final Alliance alliance = board.getPieceAlliance(tileId);
+    final byte rank = board.getPieceRank(tileId);
+    final int neighbourCount = BoardUtils.getNeighbourCount(tileId);
+
+    for (int i = 0; i < neighbourCount; i++)
+      moveBuffer[offset + i] = evaluate(board, tileId, BoardUtils.getNeighbour(tileId, i),
+                                        alliance, rank);
+
+    return neighbourCount;
+  }
+
+  /**
+   * Checks if a move is one of the candidate moves generatePieceMoves() writes
+   * for the piece of its origin, without a move buffer.
+   * @param board board state to evaluate the move from.
+   * @param origin tile of the piece to move.
+   * @param destination tile to move into.
+   * @return boolean true if the origin is occupied and the destination is one
+   * of its neighbours, else false, also for tiles outside the board.
+   */
+  public static boolean isCandidateMove(final BoardState board, final int origin,
+                                        final int destination) {
+    // Shifts use only the low 6 bits of the distance, so a tile outside the
+    // board would read the bit of a tile inside it.
+    if (origin < 0 || origin >= BoardUtils.ALL_TILES_COUNT ||
+        destination < 0 || destination >= BoardUtils.ALL_TILES_COUNT)
+      return false;
+    if (board.isTileEmpty(origin))
+      return false;
+
+    return destination < 64 ?
+      (BoardUtils.getLowNeighbourMask(origin) >>> destination & 1L) != 0 :
+      (BoardUtils.getHighNeighbourMask(origin) >>> (destination - 64) & 1L) != 0;
+  }
+
+  /**
+   * Writes all candidate moves of every piece of an Alliance into the buffer.
+   * Moves into friendly pieces are skipped.
+   * @param board board state to evaluate the moves from.
+   * @param alliance Alliance of the pieces to move.
+   * @param moveBuffer buffer of at least MAX_MOVES length.
+   * @return int number of packed moves written.
+   */
+  public static int generateMoves(final BoardState board, final Alliance alliance,
+                                  final int[] moveBuffer) {
+    int count = 0;
+    long bits = board.getLowOccupancy(alliance);
+    while (bits != 0) {
+      count = appendLegalMoves(board, Long.numberOfTrailingZeros(bits), moveBuffer, count);
+      bits &= bits - 1;
+    }
+    bits = board.getHighOccupancy(alliance);
+    while (bits != 0) {
+      count = appendLegalMoves(board, 64 + Long.numberOfTrailingZeros(bits), moveBuffer, count);
+      bits &= bits - 1;
+    }
+    return count;
+  }
+
+  /**
+   * Appends the candidate moves of a piece, dropping moves into friendly pieces.
+   * @return int new buffer length.
+   */
+  private static int appendLegalMoves(final BoardState board, final int tileId,
+                                      final int[] moveBuffer, final int offset) {
+    final int end = offset + generatePieceMoves(board, tileId, moveBuffer, offset);
+    int count = offset;
+    for (int i = offset; i < end; i++) {
+      if (Move.getPackedMoveType(moveBuffer[i]) != MoveType.INVALID)
+        moveBuffer[count++] = moveBuffer[i];
+    }
+    return count;
+  }
+
+  /**
+   * Evaluates the move type of a single candidate move.
+   * @return int packed move.
+   */
+  private static int evaluate(final BoardState board, final int origin, final int destination,
+                              final Alliance alliance, final byte rank) {
+    final Alliance targetAlliance = board.getPieceAlliance(destination);
+    final MoveType moveType;
+
+    if (targetAlliance == null)
+      moveType = MoveType.NORMAL;
+    else if (targetAlliance == alliance)
+      moveType = MoveType.INVALID;
+    else if (CombatOutcome.resolve(rank, board.getPieceRank(destination)) ==
+             CombatOutcome.BOTH_REMOVED)
+      moveType = MoveType.DRAW;
+    else
+      moveType = MoveType.ATTACKING;
+
+    return Move.packMove(origin, destination, moveType);
+  }
+
+  /**
+   * Constructor method that ensures this MoveGenerator class cannot be instantiated.
+   */
+  private MoveGenerator() {
+    throw new RuntimeException("You cannot instantiate MoveGenerator class");
+  }
+}
@@ -0,0 +1,108 @@
+package com.BrethrenAce.GameEngine;
+
+import java.util.Arrays;
+
+/**
+ * Turn indexed log of the executed moves of a game, shared by both Players.
+ * The move of turn n is stored at index n - 1 of a growable packed move array,
+ * next to its Move instance, so any turn is read in constant time without
+ * boxing. Undone moves stay in the log to be redone until a move is made on
+ * another branch, which truncates the log in constant time by only lowering
+ * its size. Entries past the size are overwritten by later appends.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class MoveLog {
+
+  /** Initial capacity in turns */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /** Packed move of each turn, from Move.getPackedMove() */
+  private int[] packedMoves = new int[INITIAL_CAPACITY];
+
+  /** Move instance of each turn */
+  private Move[] moves = new Move[INITIAL_CAPACITY];
+
+  /** Number of logged turns, including undone ones */
+  private int size;
+
+  /**
+   * Logs the move of a turn, dropping every turn after it first.
+   * @param turn turn of the move, 1 to size() + 1.
+   * @param move executed Move.
+   */
+  public void record(final int turn, final Move move) {
+    if (turn < 1 || turn > size + 1)
+      throw new IndexOutOfBoundsException("Turn " + turn + " of " + size);
+    if (turn > packedMoves.length) {
+      packedMoves = Arrays.copyOf(packedMoves, packedMoves.length * 2);
+      moves = Arrays.copyOf(moves, moves.length * 2);
+    }
+    packedMoves[turn - 1] = move.getPackedMove();
+    moves[turn - 1] = move;
+    size = turn;
+  }
+
+  /**
+   * Drops every turn after a turn.
+   * @param turnCount number of turns to keep.
+   */
+  public void truncate(final int turnCount) {
+    size = Math.max(0, Math.min(size, turnCount));
+  }
+
+  /**
+   * Drops every turn.
+   */
+  public void clear() {
+    Arrays.fill(moves, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Checks if a turn is logged.
+   * @param turn turn of the move.
+   * @return boolean true if 1 <= turn <= size(), else false.
+   */
+  public boolean contains(final int turn) {
+    return turn >= 1 && turn <= size;
+  }
+
+  /**
+   * Gets the Move of a turn.
+   * @param turn turn of the move.
+   * @return Move of the turn, else null if not logged.
+   */
+  public Move getMove(final int turn) {
+    return contains(turn) ? moves[turn - 1] : null;
+  }
+
+  /**
+   * Gets the packed move of a turn.
+   * @param turn turn of the move, 1 to size().
+   * @return int packed move with its evaluated move type.
+   */
+  public int getPackedMove(final int turn) {
+    if (!contains(turn))
+      throw new IndexOutOfBoundsException("Turn " + turn + " of " + size);
+    return packedMoves[turn - 1];
+  }
+
+  /**
+   * Gets the number of logged turns, including undone ones.
+   * @return int size field.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder log = new StringBuilder();
+    for (int i = 0; i < size; i++)
+      log.append(moves[i]).append('\n');
+    return log.toString();
+  }
+}
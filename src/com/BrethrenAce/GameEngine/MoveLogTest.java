@@ -0,0 +1,65 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.player.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveLogTest {
+
+    /**
+     * Makes the first generated move of the move maker.
+     */
+    private static void makeAnyMove(final Board board) {
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        final Player player = board.getPlayer(board.getMoveMaker());
+        assertTrue(MoveGenerator.generateMoves(board, player.getAlliance(), moves) > 0);
+        assertTrue(player.makeMove(Move.getPackedOrigin(moves[0]), Move.getPackedDestination(moves[0])));
+    }
+
+    @Test
+    void recordAndBranch() {
+        final Board board = TestBoards.demoBoard();
+        final MoveLog log = board.getMoveLog();
+        for (int i = 0; i < 4; i++)
+            makeAnyMove(board);
+        assertEquals(4, log.size());
+        for (int turn = 1; turn <= 4; turn++) {
+            assertEquals(turn, log.getMove(turn).getTurnId());
+            assertEquals(log.getMove(turn).getPackedMove(), log.getPackedMove(turn));
+        }
+        assertNull(log.getMove(5));
+
+        // Undone moves stay logged until a move is made on another branch.
+        assertTrue(board.getPlayer(board.getMoveMaker()).undoLastMove());
+        assertTrue(board.getPlayer(board.getMoveMaker()).undoLastMove());
+        assertEquals(4, log.size());
+        assertTrue(board.getPlayer(board.getMoveMaker()).redoLastMove());
+        makeAnyMove(board);
+        assertEquals(4, log.size());
+        assertEquals(board.getLastMove(), log.getMove(4));
+
+        assertTrue(board.getPlayer(board.getMoveMaker()).undoLastMove());
+        makeAnyMove(board);
+        assertEquals(4, log.size());
+        board.getPlayer(board.getMoveMaker()).clearForwardMoveHistory(3);
+        assertEquals(2, log.size());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        final Board board = TestBoards.demoBoard();
+        final MoveLog log = board.getMoveLog();
+        makeAnyMove(board);
+        final Move move = board.getLastMove();
+        for (int turn = 1; turn <= 200; turn++)
+            log.record(turn, move);
+        assertEquals(200, log.size());
+        assertSame(move, log.getMove(200));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.record(202, move));
+
+        log.clear();
+        assertEquals(0, log.size());
+        assertFalse(log.contains(1));
+    }
+}
@@ -0,0 +1,44 @@
+package com.BrethrenAce.GameEngine;
+
+/**
+ * Enum class that holds the four categories a Move is evaluated into.
+ * The ordinal of each move type is the move type stored in packed moves, so
+ * the declaration order must not change.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+public enum MoveType {
+  /** Target Tile is empty. */
+  NORMAL("normal"),
+  /** Target Tile contains an opposing piece of a different rank, or a Flag. */
+  ATTACKING("attacking"),
+  /** Target Tile contains an opposing piece of the same rank. */
+  DRAW("draw"),
+  /** Target Tile contains a friendly piece. */
+  INVALID("invalid");
+
+  /** All move types indexed by ordinal, cached to avoid values() copies. */
+  private static final MoveType[] MOVE_TYPES = values();
+
+  /** Move type name printed in move history and debug messages. */
+  private final String name;
+
+  MoveType(final String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the move type of a packed move type ordinal.
+   * @param ordinal packed move type.
+   * @return MoveType of the ordinal.
+   */
+  public static MoveType fromOrdinal(final int ordinal) {
+    return MOVE_TYPES[ordinal];
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+}
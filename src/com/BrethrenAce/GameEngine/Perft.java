@@ -0,0 +1,239 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Move generation counter that walks every line of play to a fixed depth and
+ * counts the positions reached, as a regression oracle of MoveGenerator and
+ * BitBoard makeMove() and as a throughput benchmark.
+ * Moves that end the game are counted but not played further, so a leaf is
+ * either a position at the full depth or a won game before it. The root moves
+ * are split into one task each on a ForkJoinPool, every task walking its
+ * subtree on its own BitBoard copy.
+ * Usage: Perft [depth] [threads] [demo|random setup] [seed], which prints the
+ * count and nodes per second of each depth and checks the demo build counts
+ * against DEMO_COUNTS.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class Perft {
+
+  /**
+   * Leaf counts of the demo build with ALLY to move, indexed by depth.
+   * PerftTest checks depths 0 to 5; all depths were also checked against a
+   * plain recursive walk of a tile array that shares only the demo setup
+   * and CombatOutcome with the engine.
+   */
+  public static final long[] DEMO_COUNTS = {
+    1L, 25L, 673L, 17_187L, 470_567L, 12_265_143L, 340_655_416L};
+
+  /** Pool running the root move tasks */
+  private final ForkJoinPool pool;
+
+  /** Nodes visited by the last count() or divide() call, leaves included */
+  private long nodes;
+
+  /**
+   * No argument constructor that counts on the common ForkJoinPool.
+   */
+  public Perft() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor that takes in the pool of the root move tasks.
+   */
+  public Perft(final ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Counts the leaves of a position to a depth in parallel.
+   * @param position board state to count from, left untouched.
+   * @param side Alliance of the side to move.
+   * @param depth plies to walk, 0 counts the position itself.
+   * @return long number of leaves.
+   */
+  public long count(final BitBoard position, final Alliance side, final int depth) {
+    if (depth == 0) {
+      this.nodes = 1;
+      return 1;
+    }
+
+    long leaves = 0;
+    for (final long subtreeLeaves : divide(position, side, depth).values())
+      leaves += subtreeLeaves;
+    return leaves;
+  }
+
+  /**
+   * Counts the leaves of a position to a depth in parallel, per root move,
+   * e.g. to find the move whose subtree disagrees with another generator.
+   * @param position board state to count from, left untouched.
+   * @param side Alliance of the side to move.
+   * @param depth plies to walk, at least 1.
+   * @return Map of the leaves of each packed root move, in generated order.
+   */
+  public Map<Integer, Long> divide(final BitBoard position, final Alliance side, final int depth) {
+    final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    final int moveCount = MoveGenerator.generateMoves(position, side, moves);
+    final List<SubtreeCount> tasks = new ArrayList<>(moveCount);
+    for (int i = 0; i < moveCount; i++)
+      tasks.add(new SubtreeCount(position, side, moves[i], depth - 1));
+
+    pool.invoke(new RecursiveTask<Void>() {
+      @Override
+      protected Void compute() {
+        invokeAll(tasks);
+        return null;
+      }
+    });
+
+    final Map<Integer, Long> counts = new LinkedHashMap<>();
+    long visited = 1;
+    for (final SubtreeCount task : tasks) {
+      counts.put(task.move, task.join());
+      visited += task.nodes;
+    }
+    this.nodes = visited;
+    return counts;
+  }
+
+  /**
+   * Counts the leaves of a position to a depth on the calling thread.
+   * @param board board state to count from, restored before returning.
+   * @param side Alliance of the side to move.
+   * @param depth plies to walk, 0 counts the position itself.
+   * @return long number of leaves.
+   */
+  public static long countSequential(final BitBoard board, final Alliance side, final int depth) {
+    return new SubtreeWalk(depth).walk(board, side, depth);
+  }
+
+  /**
+   * Gets the nodes visited by the last count() or divide() call.
+   * @return long nodes field, leaves and inner positions.
+   */
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Creates the board state of BoardBuilder.createDemoBoardBuild().
+   * @return BitBoard of the demo build.
+   */
+  public static BitBoard createDemoBoard() {
+    final BitBoard board = new BitBoard();
+    new BoardBuilder().createDemoBoardBuild().getBoardConfig().forEach(board::setPiece);
+    return board;
+  }
+
+  /**
+   * Leaf count of the subtree of one root move.
+   */
+  private static final class SubtreeCount extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+    private final transient BitBoard position;
+    private final Alliance side;
+    private final int move;
+    private final int depth;
+    private long nodes;
+
+    SubtreeCount(final BitBoard position, final Alliance side, final int move, final int depth) {
+      this.position = position;
+      this.side = side;
+      this.move = move;
+      this.depth = depth;
+    }
+
+    @Override
+    protected Long compute() {
+      final BitBoard board = new BitBoard(position);
+      final long undoRecord = board.makeMove(move);
+      if (depth == 0 || BitBoard.getRecordWinner(undoRecord) != null) {
+        this.nodes = 1;
+        return 1L;
+      }
+
+      final SubtreeWalk walk = new SubtreeWalk(depth);
+      final long leaves = walk.walk(board, side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS, depth);
+      this.nodes = walk.nodes + 1;
+      return leaves;
+    }
+  }
+
+  /**
+   * Depth first walk with one move buffer per ply, so walking does not
+   * allocate.
+   */
+  private static final class SubtreeWalk {
+    private final int[][] moveBuffers;
+    private long nodes;
+
+    SubtreeWalk(final int depth) {
+      this.moveBuffers = new int[Math.max(depth, 1)][MoveGenerator.MAX_MOVES];
+    }
+
+    long walk(final BitBoard board, final Alliance side, final int depth) {
+      nodes++;
+      if (depth == 0)
+        return 1;
+
+      final int[] moves = moveBuffers[depth - 1];
+      final int moveCount = MoveGenerator.generateMoves(board, side, moves);
+      if (depth == 1) {
+        nodes += moveCount;
+        return moveCount;
+      }
+
+      final Alliance opponent = side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+      long leaves = 0;
+      for (int i = 0; i < moveCount; i++) {
+        final long undoRecord = board.makeMove(moves[i]);
+        if (BitBoard.getRecordWinner(undoRecord) != null)
+          leaves++;
+        else
+          leaves += walk(board, opponent, depth - 1);
+        board.unmakeMove(undoRecord);
+      }
+      return leaves;
+    }
+  }
+
+  public static void main(final String[] args) {
+    final int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+    final ForkJoinPool pool = args.length > 1 ?
+      new ForkJoinPool(Integer.parseInt(args[1])) : ForkJoinPool.commonPool();
+    final boolean demo = args.length <= 2 || args[2].equalsIgnoreCase("demo");
+    final BitBoard position;
+    if (demo) {
+      position = createDemoBoard();
+    } else {
+      final SplittableRandom random = args.length > 3 ?
+        new SplittableRandom(Long.parseLong(args[3])) : new SplittableRandom();
+      position = new BitBoard();
+      new BoardBuilder().createRandomBuild(random).getBoardConfig().forEach(position::setPiece);
+    }
+
+    final Perft perft = new Perft(pool);
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      final long startTime = System.nanoTime();
+      final long leaves = perft.count(position, Alliance.ALLY, depth);
+      final double seconds = (System.nanoTime() - startTime) / 1e9;
+      final String check = !demo || depth >= DEMO_COUNTS.length ? "" :
+        leaves == DEMO_COUNTS[depth] ? " OK" : " MISMATCH, expected " + DEMO_COUNTS[depth];
+      System.out.printf("depth %d: %,d leaves, %,d nodes in %.3f s, %,.0f nodes/s%s%n",
+                        depth, leaves, perft.getNodes(), seconds, perft.getNodes() / seconds, check);
+    }
+  }
+}
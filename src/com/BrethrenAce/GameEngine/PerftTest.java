@@ -0,0 +1,51 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    @Test
+    void demoCounts() {
+        final BitBoard board = Perft.createDemoBoard();
+        final long hash = board.getZobristHash();
+        final Perft perft = new Perft();
+
+        for (int depth = 0; depth <= 5; depth++) {
+            assertEquals(Perft.DEMO_COUNTS[depth], perft.count(board, Alliance.ALLY, depth));
+            assertTrue(perft.getNodes() >= Perft.DEMO_COUNTS[depth]);
+        }
+        assertEquals(Perft.DEMO_COUNTS[3], Perft.countSequential(board, Alliance.ALLY, 3));
+        assertEquals(hash, board.getZobristHash());
+    }
+
+    @Test
+    void divide() {
+        final BitBoard board = new BitBoard();
+        new BoardBuilder().createRandomBuild(new SplittableRandom(11)).getBoardConfig().forEach(board::setPiece);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        final Map<Integer, Long> counts;
+        try {
+            counts = new Perft(pool).divide(board, Alliance.AXIS, 3);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long leaves = 0;
+        for (final Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            final long undoRecord = board.makeMove(entry.getKey());
+            final long expected = BitBoard.getRecordWinner(undoRecord) != null ? 1 :
+                Perft.countSequential(board, Alliance.ALLY, 2);
+            board.unmakeMove(undoRecord);
+            assertEquals(expected, entry.getValue());
+            leaves += entry.getValue();
+        }
+        assertEquals(Perft.countSequential(board, Alliance.AXIS, 3), leaves);
+    }
+}
@@ -0,0 +1,105 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Boards and random play shared by the engine tests and benchmarks.
+ * Every Board is headless and owned by plain Players.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class TestBoards {
+
+  /**
+   * Creates a headless Board of the demo build, initialized but not started,
+   * e.g. to attach a GameRecordWriter before the first move.
+   * @return Board ready for startGame().
+   */
+  public static Board initDemoBoard() {
+    final Board board = new Board(new Player(null, Alliance.AXIS), new Player(null, Alliance.ALLY));
+    board.setHeadless(true);
+    board.setBoardBuilder(new Board.BoardBuilder().createDemoBoardBuild());
+    board.initGame();
+    return board;
+  }
+
+  /**
+   * Creates a started headless Board of the demo build.
+   * @return Board ready for the first move.
+   */
+  public static Board demoBoard() {
+    final Board board = initDemoBoard();
+    board.startGame();
+    return board;
+  }
+
+  /**
+   * Creates a started headless Board of the random build of a seed.
+   * @param seed seed of the Board random source.
+   * @return Board ready for the first move.
+   */
+  public static Board randomBoard(final long seed) {
+    final Board board = new Board(new Player(null, Alliance.AXIS), new Player(null, Alliance.ALLY));
+    board.setHeadless(true);
+    board.setSeed(seed);
+    board.initGame();
+    board.startGame();
+    return board;
+  }
+
+  /**
+   * Plays random Player moves that do not end the game.
+   * @param board started Board to play on.
+   * @param count number of moves to play.
+   * @param seed seed of the picked moves.
+   * @return List of the Zobrist hash after each move.
+   */
+  public static List<Long> playRandomMoves(final Board board, final int count, final long seed) {
+    return playRandomMoves(board, count, new SplittableRandom(seed));
+  }
+
+  /**
+   * Plays random Player moves that do not end the game, each picked again
+   * until it does not capture a Flag or bring one home.
+   * @param board started Board to play on.
+   * @param count number of moves to play.
+   * @param random random source of the picked moves.
+   * @return List of the Zobrist hash after each move.
+   * @throws IllegalStateException if a move is not made.
+   */
+  public static List<Long> playRandomMoves(final Board board, final int count,
+                                           final SplittableRandom random) {
+    final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    final List<Long> hashes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final Player player = board.getPlayer(board.getMoveMaker());
+      final int moveCount = MoveGenerator.generateMoves(board, player.getAlliance(), moves);
+      int move;
+      long undoRecord;
+      do {
+        move = moves[random.nextInt(moveCount)];
+        undoRecord = board.getBitBoard().makeMove(move);
+        board.getBitBoard().unmakeMove(undoRecord);
+      } while (BitBoard.getRecordWinner(undoRecord) != null);
+
+      if (!player.makeMove(Move.getPackedOrigin(move), Move.getPackedDestination(move)))
+        throw new IllegalStateException("Move " + Move.getPackedOrigin(move) + " to " +
+                                        Move.getPackedDestination(move) + " was not made");
+      hashes.add(board.getZobristHash());
+    }
+    return hashes;
+  }
+
+  /**
+   * Constructor method that ensures this TestBoards class cannot be instantiated.
+   */
+  private TestBoards() {
+    throw new RuntimeException("You cannot instantiate TestBoards class");
+  }
+}
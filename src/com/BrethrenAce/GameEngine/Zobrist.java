@@ -0,0 +1,65 @@
+package com.BrethrenAce.GameEngine;
+
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys used to hash board positions into a single long.
+ * A position hash is the XOR of the key of every piece on its tile, plus the
+ * side key when AXIS is the move maker. Keys are generated from a fixed seed,
+ * so hashes are the same across runs and can be stored in files.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class Zobrist {
+
+  /** Seed of the key generator. Changing it invalidates stored hashes. */
+  private static final long SEED = 0x5EEDB0A2D5L;
+
+  /** Number of rank codes, Flag to Agent */
+  private static final int RANK_COUNT = Rank.values().length;
+
+  /** Piece keys indexed by (tileId * 2 + Alliance ordinal) * RANK_COUNT + rank code - 1 */
+  private static final long[] PIECE_KEYS = new long[BoardUtils.ALL_TILES_COUNT * 2 * RANK_COUNT];
+
+  /** Key XOR-ed into the hash when AXIS is the move maker */
+  public static final long AXIS_TO_MOVE_KEY;
+
+  static {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    for (int i = 0; i < PIECE_KEYS.length; i++)
+      PIECE_KEYS[i] = random.nextLong();
+    AXIS_TO_MOVE_KEY = random.nextLong();
+  }
+
+  /**
+   * Gets the key of a piece on a tile.
+   * @param tileId tile index or ID.
+   * @param alliance Alliance of the piece.
+   * @param rank rank code of the piece, 1 to 15.
+   * @return long Zobrist key.
+   */
+  public static long pieceKey(final int tileId, final Alliance alliance, final byte rank) {
+    return PIECE_KEYS[(tileId * 2 + alliance.ordinal()) * RANK_COUNT + rank - 1];
+  }
+
+  /**
+   * Gets the side key of a move maker.
+   * @param moveMaker Alliance of the move maker.
+   * @return long AXIS_TO_MOVE_KEY if AXIS, else 0.
+   */
+  public static long sideKey(final Alliance moveMaker) {
+    return moveMaker == Alliance.AXIS ? AXIS_TO_MOVE_KEY : 0L;
+  }
+
+  /**
+   * Constructor method that ensures this Zobrist class cannot be instantiated.
+   */
+  private Zobrist() {
+    throw new RuntimeException("You cannot instantiate Zobrist class");
+  }
+}
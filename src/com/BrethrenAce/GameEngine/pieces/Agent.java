@@ -2,7 +2,6 @@ package com.BrethrenAce.GameEngine.pieces;
 
 import com.BrethrenAce.GameEngine.Alliance;
 import com.BrethrenAce.GameEngine.player.Player;
-import com.BrethrenAce.GameUtilities.BoardUtils;
 
 /**
  * Agent piece class that inherits from abstract Piece class.
@@ -13,13 +12,13 @@ import com.BrethrenAce.GameUtilities.BoardUtils;
 public class Agent extends Piece {
 
   /** Rank of the piece */
-  private final String rank = BoardUtils.AGENT_RANK;
+  private final Rank rank = Rank.AGENT;
 
   /** Power level of the piece to compare ranks */
-  private final int piecePower = 999;
+  private final int piecePower = rank.getPiecePower();
 
   /** Allowed amount of piece instance owned by a Player in a single game */
-  private final int legalPieceInstanceCount = 4;
+  private final int legalPieceInstanceCount = rank.getLegalPieceInstanceCount();
 
   /**
    * Constructor that takes in the owner Player, and Alliance of this piece.
@@ -40,10 +39,10 @@ public class Agent extends Piece {
 
   /**
    * Gets the current rank of this specific Piece instance.
-   * @return String rank field.
+   * @return Rank rank field.
    */
   @Override
-  public final String getRank() {
+  public final Rank getRank() {
     return this.rank;
   }
 
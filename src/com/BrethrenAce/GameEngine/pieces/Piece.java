@@ -2,9 +2,10 @@ package com.BrethrenAce.GameEngine.pieces;
 
 import com.BrethrenAce.GameEngine.Alliance;
 import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.BoardState;
 import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
 import com.BrethrenAce.GameEngine.player.Player;
-import com.BrethrenAce.GameUtilities.BoardUtils;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,7 +22,7 @@ import java.util.Map;
 public abstract class Piece {
 
   /** Rank of the piece */
-  public String rank;
+  public Rank rank;
 
   /** Power level of the piece to compare ranks */
   public int piecePower;
@@ -109,42 +110,59 @@ public abstract class Piece {
 
   /**
    * Evaluate this Piece current possible moves.
-   * Depends on Move.evaluateMove() method.
+   * Adapter of evaluateMoves(BoardState, int[], int) that wraps each packed
+   * move into a Move instance with its move type already set.
    * @param board Board to evaluate the move from.
    * @return Map<String, Move> HashMap of possible moves.
    */
   // TODO: Improve to a no argument method.
   public Map<String, Move> evaluateMoves(final Board board) {
     /** HashMap containing all currently available moves for this Piece instance */
-    Map<String, Move> moveSet = new HashMap<String, Move>();
-
-    final int upAdjacentPieceCoords = this.pieceCoords + mobility.get("u");
-    if (pieceCoords >= BoardUtils.SECOND_ROW_INIT) {
-      moveSet.put("up", new Move(pieceOwner, board, pieceCoords, upAdjacentPieceCoords));
-      moveSet.get("up").evaluateMove();
-    }
-    final int downAdjacentPieceCoords = this.pieceCoords + mobility.get("d");
-    if (pieceCoords < BoardUtils.LAST_ROW_INIT) {
-      moveSet.put("down", new Move(pieceOwner, board, pieceCoords, downAdjacentPieceCoords));
-      moveSet.get("down").evaluateMove();
-    }
-    final int leftAdjacentPieceCoords = this.pieceCoords + mobility.get("l");
-    if (this.pieceCoords % 9 != 0) {
-      moveSet.put("left", new Move(pieceOwner, board, pieceCoords, leftAdjacentPieceCoords));
-      moveSet.get("left").evaluateMove();
-    }
-    final int rightAdjacentPieceCoords = this.pieceCoords + mobility.get("r");
-    if (rightAdjacentPieceCoords % 9 != 0) {
-      moveSet.put("right", new Move(pieceOwner, board, pieceCoords, rightAdjacentPieceCoords));
-      moveSet.get("right").evaluateMove();
+    final Map<String, Move> moveSet = new HashMap<String, Move>();
+    final int[] moveBuffer = new int[MoveGenerator.MAX_PIECE_MOVES];
+    final int moveCount = evaluateMoves(board, moveBuffer, 0);
+
+    for (int i = 0; i < moveCount; i++) {
+      final int destinationCoords = Move.getPackedDestination(moveBuffer[i]);
+      final Move move = new Move(pieceOwner, board, pieceCoords, destinationCoords);
+      move.setMoveType(Move.getPackedMoveType(moveBuffer[i]));
+      moveSet.put(getDirectionName(destinationCoords - pieceCoords), move);
     }
 
     return moveSet;
   }
 
+  /**
+   * Writes this Piece current possible moves into a caller supplied buffer
+   * without creating any Move instance.
+   * @param board board state to evaluate the moves from.
+   * @param moveBuffer buffer to write the packed moves into.
+   * @param offset index of the buffer to start writing from.
+   * @return int number of packed moves written.
+   */
+  public int evaluateMoves(final BoardState board, final int[] moveBuffer, final int offset) {
+    return MoveGenerator.generatePieceMoves(board, pieceCoords, moveBuffer, offset);
+  }
+
+  /**
+   * Gets the direction name of a move based on the mobility field.
+   * @param coordsOffset destination minus origin coordinates.
+   * @return String "up", "down", "left" or "right".
+   */
+  private String getDirectionName(final int coordsOffset) {
+    if (coordsOffset == mobility.get("u"))
+      return "up";
+    else if (coordsOffset == mobility.get("d"))
+      return "down";
+    else if (coordsOffset == mobility.get("l"))
+      return "left";
+    else
+      return "right";
+  }
+
   //////////////////// Abstract methods to implement ////////////////////
 
-  public abstract String getRank();
+  public abstract Rank getRank();
   public abstract int getLegalPieceInstanceCount();
   public abstract int getPiecePower();
   public abstract Piece clone();
@@ -0,0 +1,132 @@
+package com.BrethrenAce.GameEngine.pieces;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.player.Player;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Enum class that holds every piece rank together with its power level, the
+ * allowed amount of instance per Player, and the factory of its Piece class.
+ * Ranks are declared from the weakest to the strongest power level. The rank
+ * code used by BitBoard is the ordinal plus one, 0 being an empty tile.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+public enum Rank {
+  FLAG(BoardUtils.FLAG_RANK, 1, 1, Flag::new),
+  PRIVATE(BoardUtils.PRIVATE_RANK, 2, 9, Private::new),
+  SERGEANT(BoardUtils.SERGEANT_RANK, 3, 1, Sergeant::new),
+  LT_TWO(BoardUtils.LT_TWO_RANK, 4, 1, LtTwo::new),
+  LT_ONE(BoardUtils.LT_ONE_RANK, 5, 1, LtOne::new),
+  CAPTAIN(BoardUtils.CAPTAIN_RANK, 6, 1, Captain::new),
+  MAJOR(BoardUtils.MAJOR_RANK, 7, 1, Major::new),
+  LT_COLONEL(BoardUtils.LT_COLONEL_RANK, 8, 1, LtCol::new),
+  COLONEL(BoardUtils.COLONEL_RANK, 9, 1, Colonel::new),
+  GENERAL_ONE(BoardUtils.GENERAL_ONE_RANK, 10, 1, GeneralOne::new),
+  GENERAL_TWO(BoardUtils.GENERAL_TWO_RANK, 11, 1, GeneralTwo::new),
+  GENERAL_THREE(BoardUtils.GENERAL_THREE_RANK, 12, 1, GeneralThree::new),
+  GENERAL_FOUR(BoardUtils.GENERAL_FOUR_RANK, 13, 1, GeneralFour::new),
+  GENERAL_FIVE(BoardUtils.GENERAL_FIVE_RANK, 14, 2, GeneralFive::new),
+  AGENT(BoardUtils.AGENT_RANK, 999, 4, Agent::new);
+
+  /** All ranks indexed by ordinal, cached to avoid values() copies. */
+  private static final Rank[] RANKS = values();
+
+  /** All ranks mapped by their rank name. */
+  private static final Map<String, Rank> RANKS_BY_NAME = new HashMap<>();
+
+  static {
+    for (final Rank rank : RANKS)
+      RANKS_BY_NAME.put(rank.name, rank);
+  }
+
+  /** Rank name based on the Piece class name */
+  private final String name;
+
+  /** Power level of the rank to compare ranks */
+  private final int piecePower;
+
+  /** Allowed amount of piece instance owned by a Player in a single game */
+  private final int legalPieceInstanceCount;
+
+  /** Creates a Piece of this rank given the owner and Alliance */
+  private final BiFunction<Player, Alliance, Piece> factory;
+
+  Rank(final String name, final int piecePower, final int legalPieceInstanceCount,
+       final BiFunction<Player, Alliance, Piece> factory) {
+    this.name = name;
+    this.piecePower = piecePower;
+    this.legalPieceInstanceCount = legalPieceInstanceCount;
+    this.factory = factory;
+  }
+
+  /**
+   * Gets the rank of a rank code.
+   * @param code rank code from 1 to 15.
+   * @return Rank of the code, else null if 0 or empty.
+   */
+  public static Rank fromCode(final int code) {
+    return code == 0 ? null : RANKS[code - 1];
+  }
+
+  /**
+   * Gets the rank of a rank name.
+   * @param name rank name, e.g. "GeneralFive".
+   * @return Rank of the name, else null if no rank matches.
+   */
+  public static Rank fromName(final String name) {
+    return RANKS_BY_NAME.get(name);
+  }
+
+  /**
+   * Gets the rank name.
+   * @return String name field.
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the rank power level.
+   * @return int piecePower field.
+   */
+  public int getPiecePower() {
+    return this.piecePower;
+  }
+
+  /**
+   * Gets the allowed legal instance per Player of this rank.
+   * @return int legalPieceInstanceCount field.
+   */
+  public int getLegalPieceInstanceCount() {
+    return this.legalPieceInstanceCount;
+  }
+
+  /**
+   * Gets the rank code used by BitBoard.
+   * @return byte ordinal plus one.
+   */
+  public byte getCode() {
+    return (byte) (ordinal() + 1);
+  }
+
+  /**
+   * Creates a new Piece instance of this rank.
+   * @param owner Player reference who will own the piece.
+   * @param alliance Alliance of the piece.
+   * @return Piece created with -1 coordinates.
+   */
+  public Piece createPiece(final Player owner, final Alliance alliance) {
+    return factory.apply(owner, alliance);
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+}
@@ -0,0 +1,143 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Move;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Engine Player that picks its own moves with an AlphaBetaSearch within a time
+ * budget per turn. The chosen move is submitted through makeMove(int, int), so
+ * it is recorded and executed the same way as a human Player move.
+ * Subclasses may search differently by overriding createMoveSearch().
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class AIPlayer extends Player {
+
+  /** Default time budget per turn in milliseconds */
+  public static final long DEFAULT_TIME_BUDGET_MILLIS = 1000;
+
+  /** Search engine, reused across turns to keep its transposition table */
+  private AlphaBetaSearch search;
+
+  /** Time budget per turn in milliseconds */
+  private long timeBudgetMillis;
+
+  /** Deepest search iteration per turn */
+  private int maxDepth = AlphaBetaSearch.MAX_DEPTH;
+
+  /**
+   * Constructor that takes in the Alliance of this AIPlayer instance, with the
+   * default time budget.
+   */
+  public AIPlayer(final Board board, final Alliance alliance) {
+    this(board, alliance, DEFAULT_TIME_BUDGET_MILLIS);
+  }
+
+  /**
+   * Constructor that takes in the Alliance and time budget per turn of this
+   * AIPlayer instance.
+   */
+  public AIPlayer(final Board board, final Alliance alliance, final long timeBudgetMillis) {
+    super(board, alliance);
+    this.timeBudgetMillis = timeBudgetMillis;
+  }
+
+  /**
+   * Constructor that takes in the Alliance, time budget per turn and search
+   * engine of this AIPlayer instance, e.g. a search with a smaller
+   * transposition table when many games are hosted at once.
+   */
+  public AIPlayer(final Board board, final Alliance alliance, final long timeBudgetMillis,
+                  final AlphaBetaSearch search) {
+    this(board, alliance, timeBudgetMillis);
+    this.search = search;
+  }
+
+  /**
+   * Searches the best move of a position without changing the Board. Safe to
+   * call off the Swing thread with a copy of the Board BitBoard.
+   * @param position board state to search.
+   * @return int packed move, else AlphaBetaSearch.NO_MOVE if no moves left.
+   */
+  public synchronized int findBestMove(final BitBoard position) {
+    return getSearch().findBestMove(position, getAlliance(), timeBudgetMillis, maxDepth);
+  }
+
+  /**
+   * Captures what this AIPlayer needs from the current Board position and
+   * returns the search to run, which no longer reads the Board. Must be called
+   * on the thread that owns the Board, the returned search may run on any.
+   * The search probes the Board tablebase if set.
+   * @return IntSupplier of the packed best move, else AlphaBetaSearch.NO_MOVE.
+   */
+  public IntSupplier createMoveSearch() {
+    final BitBoard position = new BitBoard(getBoard().getBitBoard());
+    if (getBoard().getTablebase() != null)
+      getSearch().setTablebase(getBoard().getTablebase());
+    return () -> findBestMove(position);
+  }
+
+  /**
+   * Searches and executes the best move of the current Board position.
+   * @return boolean true if successful, else false.
+   */
+  public boolean makeBestMove() {
+    final int bestMove = createMoveSearch().getAsInt();
+
+    if (bestMove == AlphaBetaSearch.NO_MOVE)
+      return false;
+
+    return makeMove(Move.getPackedOrigin(bestMove), Move.getPackedDestination(bestMove));
+  }
+
+  /**
+   * Gets the time budget per turn.
+   * @return long timeBudgetMillis field.
+   */
+  public long getTimeBudgetMillis() {
+    return this.timeBudgetMillis;
+  }
+
+  /**
+   * Sets the time budget per turn.
+   * @param timeBudgetMillis time budget in milliseconds.
+   */
+  public void setTimeBudgetMillis(final long timeBudgetMillis) {
+    this.timeBudgetMillis = timeBudgetMillis;
+  }
+
+  /**
+   * Gets the deepest search iteration per turn.
+   * @return int maxDepth field.
+   */
+  public int getMaxDepth() {
+    return this.maxDepth;
+  }
+
+  /**
+   * Sets the deepest search iteration per turn. With a time budget long
+   * enough to reach it, the search no longer depends on timing, e.g. for
+   * seeded games.
+   * @param maxDepth deepest iteration, 1 to AlphaBetaSearch.MAX_DEPTH.
+   */
+  public void setMaxDepth(final int maxDepth) {
+    this.maxDepth = Math.max(1, Math.min(maxDepth, AlphaBetaSearch.MAX_DEPTH));
+  }
+
+  /**
+   * Gets the search engine of this AIPlayer.
+   * @return AlphaBetaSearch search field.
+   */
+  public synchronized AlphaBetaSearch getSearch() {
+    if (this.search == null)
+      this.search = new AlphaBetaSearch();
+
+    return this.search;
+  }
+}
@@ -0,0 +1,387 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.CombatOutcome;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.Zobrist;
+import com.BrethrenAce.GameEngine.tablebase.EndgameMaterial;
+import com.BrethrenAce.GameEngine.tablebase.Tablebase;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.Arrays;
+
+/**
+ * Iterative deepening alpha-beta search over a BitBoard.
+ * Moves are generated into preallocated per ply buffers and applied with
+ * BitBoard makeMove() and unmakeMove(), so searching does not allocate.
+ * Moves are ordered by the transposition table move, then winning attacks,
+ * then quiet moves by history score, then losing attacks. The search stops
+ * when the time budget runs out and returns the best move of the deepest
+ * completed iteration.
+ * If a Tablebase is set, positions below the root that it holds are scored
+ * by their stored result instead of being searched.
+ * A single instance is not thread safe.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class AlphaBetaSearch {
+
+  /** Returned by findBestMove() when the side to move has no moves */
+  public static final int NO_MOVE = -1;
+
+  /** Deepest iteration of the search */
+  public static final int MAX_DEPTH = 64;
+
+  /** Default transposition table size as power of two, 1M slots or 16 MB */
+  public static final int DEFAULT_TABLE_BITS = 20;
+
+  /** Nodes searched between time checks, minus one */
+  private static final int TIME_CHECK_MASK = 1023;
+
+  /** Move ordering scores */
+  private static final int TABLE_MOVE_ORDER = 1 << 30;
+  private static final int WINNING_GAME_ORDER = 1 << 29;
+  private static final int WINNING_ATTACK_ORDER = 1 << 28;
+  private static final int DRAW_ORDER = 1 << 27;
+  private static final int LOSING_ATTACK_ORDER = -(1 << 27);
+  private static final int LOSING_GAME_ORDER = -(1 << 29);
+
+  /** Positions searched in previous iterations and turns */
+  private final TranspositionTable table;
+
+  /** Generated moves of each ply */
+  private final int[][] moveBuffers = new int[MAX_DEPTH + 1][MoveGenerator.MAX_MOVES];
+
+  /** Ordering score of each generated move of each ply */
+  private final int[][] moveOrders = new int[MAX_DEPTH + 1][MoveGenerator.MAX_MOVES];
+
+  /** Quiet move cutoff scores indexed by origin * ALL_TILES_COUNT + destination */
+  private final int[] history = new int[BoardUtils.ALL_TILES_COUNT * BoardUtils.ALL_TILES_COUNT];
+
+  /** Endgame tablebase probed below the root, else null */
+  private Tablebase tablebase;
+
+  /** Piece tiles of each tablebase probe */
+  private final int[] probeTiles = new int[EndgameMaterial.MAX_PIECES];
+
+  /** Board state being searched, a copy of the passed in position */
+  private BitBoard board;
+
+  /** System.nanoTime() when the search must stop */
+  private long deadline;
+
+  /** Whether the current iteration ran out of time */
+  private boolean aborted;
+
+  /** Nodes searched in the last findBestMove() call */
+  private long nodes;
+
+  /** Deepest completed iteration of the last findBestMove() call */
+  private int completedDepth;
+
+  /** Score of the best move of the last findBestMove() call */
+  private int bestScore;
+
+  /** Best root move of the current iteration */
+  private int rootBestMove;
+
+  /**
+   * No argument constructor with the default transposition table size.
+   */
+  public AlphaBetaSearch() {
+    this(DEFAULT_TABLE_BITS);
+  }
+
+  /**
+   * Constructor that takes in the transposition table size.
+   * @param tableBits number of table slots is 2 to the power of tableBits.
+   */
+  public AlphaBetaSearch(final int tableBits) {
+    this.table = new TranspositionTable(tableBits);
+  }
+
+  /**
+   * Searches the best move of a position within a time budget. The first
+   * iteration always completes, so a move is returned even if the budget is 0.
+   * @param position board state to search, left untouched.
+   * @param side Alliance of the side to move.
+   * @param timeBudgetMillis time budget in milliseconds.
+   * @return int packed move, else NO_MOVE if side has no moves.
+   */
+  public int findBestMove(final BitBoard position, final Alliance side,
+                          final long timeBudgetMillis) {
+    return findBestMove(position, side, timeBudgetMillis, MAX_DEPTH);
+  }
+
+  /**
+   * Searches the best move of a position within a time budget and depth limit.
+   * @param position board state to search, left untouched.
+   * @param side Alliance of the side to move.
+   * @param timeBudgetMillis time budget in milliseconds.
+   * @param maxDepth deepest iteration, 1 to MAX_DEPTH.
+   * @return int packed move, else NO_MOVE if side has no moves.
+   */
+  public int findBestMove(final BitBoard position, final Alliance side,
+                          final long timeBudgetMillis, final int maxDepth) {
+    this.board = new BitBoard(position);
+    this.deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+    this.nodes = 0;
+    this.completedDepth = 0;
+    this.bestScore = 0;
+    Arrays.fill(history, 0);
+
+    int bestMove = NO_MOVE;
+    for (int depth = 1; depth <= Math.min(maxDepth, MAX_DEPTH); depth++) {
+      this.aborted = false;
+      this.rootBestMove = NO_MOVE;
+      final int score = alphaBeta(side, depth, -Evaluation.WIN_SCORE, Evaluation.WIN_SCORE, 0);
+
+      if (aborted)
+        break;
+
+      bestMove = rootBestMove;
+      bestScore = score;
+      completedDepth = depth;
+
+      // Stop early on forced results, deeper iterations will not change them.
+      if (bestMove == NO_MOVE || Math.abs(score) >= Evaluation.WIN_THRESHOLD)
+        break;
+    }
+
+    return bestMove;
+  }
+
+  /**
+   * Negamax alpha-beta search of the current board state.
+   * @return int score seen from side.
+   */
+  private int alphaBeta(final Alliance side, final int depth, int alpha, final int beta,
+                        final int ply) {
+    if ((++nodes & TIME_CHECK_MASK) == 0 && completedDepth > 0 &&
+        System.nanoTime() >= deadline)
+      aborted = true;
+    if (aborted)
+      return 0;
+
+    if (tablebase != null && ply > 0) {
+      final int result = tablebase.probe(board, side, probeTiles);
+      if (result == Tablebase.DRAW)
+        return 0;
+      else if (Tablebase.isWin(result))
+        return Evaluation.WIN_SCORE - ply - Tablebase.getPlies(result);
+      else if (Tablebase.isLoss(result))
+        return -(Evaluation.WIN_SCORE - ply - Tablebase.getPlies(result));
+    }
+
+    if (depth == 0 || ply == MAX_DEPTH)
+      return Evaluation.evaluate(board, side);
+
+    final long key = board.getZobristHash() ^ Zobrist.sideKey(side);
+    final long entry = table.probe(key);
+    int tableMove = 0;
+    if (entry != TranspositionTable.NO_ENTRY) {
+      tableMove = TranspositionTable.getEntryMove(entry);
+      if (ply > 0 && TranspositionTable.getEntryDepth(entry) >= depth) {
+        final int score = fromTableScore(TranspositionTable.getEntryScore(entry), ply);
+        final int bound = TranspositionTable.getEntryBound(entry);
+        if (bound == TranspositionTable.EXACT ||
+            (bound == TranspositionTable.LOWER_BOUND && score >= beta) ||
+            (bound == TranspositionTable.UPPER_BOUND && score <= alpha))
+          return score;
+      }
+    }
+
+    final int[] moves = moveBuffers[ply];
+    final int[] orders = moveOrders[ply];
+    final int moveCount = MoveGenerator.generateMoves(board, side, moves);
+
+    // A side without any move has lost.
+    if (moveCount == 0)
+      return -(Evaluation.WIN_SCORE - ply);
+
+    orderMoves(moves, orders, moveCount, tableMove);
+
+    final Alliance opponent = side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+    final int originalAlpha = alpha;
+    int nodeBestScore = -Evaluation.WIN_SCORE;
+    int nodeBestMove = 0;
+
+    for (int i = 0; i < moveCount; i++) {
+      final int move = nextMove(moves, orders, moveCount, i);
+      final long undoRecord = board.makeMove(move);
+      final Alliance winner = BitBoard.getRecordWinner(undoRecord);
+      final int score;
+
+      if (winner == side)
+        score = Evaluation.WIN_SCORE - ply - 1;
+      else if (winner == opponent)
+        score = -(Evaluation.WIN_SCORE - ply - 1);
+      else
+        score = -alphaBeta(opponent, depth - 1, -beta, -alpha, ply + 1);
+
+      board.unmakeMove(undoRecord);
+      if (aborted)
+        return 0;
+
+      if (score > nodeBestScore) {
+        nodeBestScore = score;
+        nodeBestMove = BitBoard.getRecordMove(undoRecord);
+        if (ply == 0)
+          rootBestMove = nodeBestMove;
+      }
+      if (score > alpha)
+        alpha = score;
+      if (alpha >= beta) {
+        if (BitBoard.getRecordTargetRank(undoRecord) == BitBoard.EMPTY_RANK)
+          history[historyIndex(move)] += depth * depth;
+        break;
+      }
+    }
+
+    final int bound = nodeBestScore <= originalAlpha ? TranspositionTable.UPPER_BOUND :
+      nodeBestScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+    table.store(key, nodeBestMove, depth, bound, toTableScore(nodeBestScore, ply));
+
+    return nodeBestScore;
+  }
+
+  /**
+   * Scores the generated moves of a ply for ordering.
+   */
+  private void orderMoves(final int[] moves, final int[] orders, final int moveCount,
+                          final int tableMove) {
+    for (int i = 0; i < moveCount; i++) {
+      final int move = moves[i];
+      final int origin = Move.getPackedOrigin(move);
+      final int destination = Move.getPackedDestination(move);
+      final byte targetRank = board.getPieceRank(destination);
+
+      if ((move & 0x3FFF) == (tableMove & 0x3FFF) && tableMove != 0) {
+        orders[i] = TABLE_MOVE_ORDER;
+      } else if (targetRank == BitBoard.EMPTY_RANK) {
+        orders[i] = history[historyIndex(move)];
+      } else {
+        final byte sourceRank = board.getPieceRank(origin);
+        final int targetValue = Evaluation.getRankValue(targetRank);
+        switch (CombatOutcome.resolve(sourceRank, targetRank)) {
+          case ATTACKER_WINS_GAME:
+            orders[i] = WINNING_GAME_ORDER;
+            break;
+          case ATTACKER_WINS:
+            orders[i] = WINNING_ATTACK_ORDER + targetValue * 64 -
+                        Evaluation.getRankValue(sourceRank);
+            break;
+          case BOTH_REMOVED:
+            orders[i] = DRAW_ORDER + targetValue;
+            break;
+          case DEFENDER_WINS:
+            orders[i] = LOSING_ATTACK_ORDER;
+            break;
+          default:
+            orders[i] = LOSING_GAME_ORDER;
+        }
+      }
+    }
+  }
+
+  /**
+   * Moves the best ordered remaining move into index and returns it.
+   * @return int packed move.
+   */
+  private static int nextMove(final int[] moves, final int[] orders, final int moveCount,
+                              final int index) {
+    int best = index;
+    for (int i = index + 1; i < moveCount; i++) {
+      if (orders[i] > orders[best])
+        best = i;
+    }
+    final int move = moves[best];
+    moves[best] = moves[index];
+    moves[index] = move;
+    final int order = orders[best];
+    orders[best] = orders[index];
+    orders[index] = order;
+    return move;
+  }
+
+  /**
+   * Gets the history table index of a move.
+   * @return int origin * ALL_TILES_COUNT + destination.
+   */
+  private static int historyIndex(final int move) {
+    return Move.getPackedOrigin(move) * BoardUtils.ALL_TILES_COUNT + Move.getPackedDestination(move);
+  }
+
+  /**
+   * Converts won game scores from distance to root into distance to node.
+   */
+  private static int toTableScore(final int score, final int ply) {
+    if (score >= Evaluation.WIN_THRESHOLD)
+      return score + ply;
+    else if (score <= -Evaluation.WIN_THRESHOLD)
+      return score - ply;
+    return score;
+  }
+
+  /**
+   * Converts won game scores from distance to node into distance to root.
+   */
+  private static int fromTableScore(final int score, final int ply) {
+    if (score >= Evaluation.WIN_THRESHOLD)
+      return score - ply;
+    else if (score <= -Evaluation.WIN_THRESHOLD)
+      return score + ply;
+    return score;
+  }
+
+  /**
+   * Sets the endgame tablebase probed below the root.
+   * @param tablebase Tablebase to probe, else null to search every position.
+   */
+  public void setTablebase(final Tablebase tablebase) {
+    this.tablebase = tablebase;
+  }
+
+  /**
+   * Gets the endgame tablebase probed below the root.
+   * @return Tablebase tablebase field, else null if not set.
+   */
+  public Tablebase getTablebase() {
+    return this.tablebase;
+  }
+
+  /**
+   * Empties the transposition table, e.g. when a new game starts.
+   */
+  public void clear() {
+    table.clear();
+  }
+
+  /**
+   * Gets the nodes searched in the last findBestMove() call.
+   * @return long nodes field.
+   */
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Gets the deepest completed iteration of the last findBestMove() call.
+   * @return int completedDepth field.
+   */
+  public int getCompletedDepth() {
+    return this.completedDepth;
+  }
+
+  /**
+   * Gets the score of the best move of the last findBestMove() call.
+   * @return int bestScore field, seen from the side to move.
+   */
+  public int getBestScore() {
+    return this.bestScore;
+  }
+}
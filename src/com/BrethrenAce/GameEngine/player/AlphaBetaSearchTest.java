@@ -0,0 +1,65 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaBetaSearchTest {
+
+    @Test
+    void findBestMoveCapturesFlag() {
+        final BitBoard board = new BitBoard();
+        board.setPiece(40, Alliance.ALLY, (byte) 2);
+        board.setPiece(31, Alliance.AXIS, BitBoard.FLAG_RANK);
+        board.setPiece(0, Alliance.AXIS, (byte) 14);
+        board.setPiece(71, Alliance.ALLY, BitBoard.FLAG_RANK);
+
+        final AlphaBetaSearch search = new AlphaBetaSearch(10);
+        final int bestMove = search.findBestMove(board, Alliance.ALLY, 100);
+
+        assertEquals(40, Move.getPackedOrigin(bestMove));
+        assertEquals(31, Move.getPackedDestination(bestMove));
+        assertTrue(search.getBestScore() >= Evaluation.WIN_THRESHOLD);
+    }
+
+    @Test
+    void findBestMoveAvoidsLosingAttack() {
+        final BitBoard board = new BitBoard();
+        board.setPiece(40, Alliance.ALLY, (byte) 3);
+        board.setPiece(31, Alliance.AXIS, (byte) 14);
+        board.setPiece(66, Alliance.ALLY, BitBoard.FLAG_RANK);
+        board.setPiece(4, Alliance.AXIS, BitBoard.FLAG_RANK);
+
+        final int bestMove = new AlphaBetaSearch(10).findBestMove(board, Alliance.ALLY, 1000, 3);
+
+        assertNotEquals(31, Move.getPackedDestination(bestMove));
+        assertFalse(board.isTileEmpty(40));
+    }
+
+    @Test
+    void findBestMoveWithoutMoves() {
+        final BitBoard board = new BitBoard();
+        board.setPiece(4, Alliance.AXIS, BitBoard.FLAG_RANK);
+
+        assertEquals(AlphaBetaSearch.NO_MOVE,
+                     new AlphaBetaSearch(10).findBestMove(board, Alliance.ALLY, 100));
+    }
+
+    @Test
+    void transpositionTable() {
+        final TranspositionTable table = new TranspositionTable(4);
+        table.store(0x1234L, Move.packMove(40, 31, MoveType.NORMAL),
+                    5, TranspositionTable.LOWER_BOUND, -42);
+        final long entry = table.probe(0x1234L);
+
+        assertEquals(40, Move.getPackedOrigin(TranspositionTable.getEntryMove(entry)));
+        assertEquals(5, TranspositionTable.getEntryDepth(entry));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getEntryBound(entry));
+        assertEquals(-42, TranspositionTable.getEntryScore(entry));
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(0x1244L));
+    }
+}
@@ -0,0 +1,61 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+
+/**
+ * Static evaluation of a board state used by the engine players.
+ * Scores are material plus how far the Flag has advanced, seen from the side
+ * to move, both read from the counters kept by the BitBoard. Concluded games
+ * are scored by the search itself with WIN_SCORE.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class Evaluation {
+
+  /** Score of a won game, minus the plies it took to win */
+  public static final int WIN_SCORE = 1_000_000;
+
+  /** Scores at least this high are won games */
+  public static final int WIN_THRESHOLD = WIN_SCORE - 1_000;
+
+  /** Bonus of each row the Flag has advanced into the opposing territory */
+  private static final int FLAG_ADVANCE_VALUE = 4;
+
+  /**
+   * Evaluates a board state.
+   * @param board board state to evaluate.
+   * @param side Alliance of the side to move.
+   * @return int score, positive if side is ahead.
+   */
+  public static int evaluate(final BitBoard board, final Alliance side) {
+    final Alliance opponent = side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+    return evaluateSide(board, side) - evaluateSide(board, opponent);
+  }
+
+  /**
+   * Gets the material value of a rank code.
+   * @param rank rank code, 0 to 15.
+   * @return int material value.
+   */
+  public static int getRankValue(final byte rank) {
+    return BitBoard.getMaterialValue(rank);
+  }
+
+  /**
+   * Scores the pieces of a single Alliance from the BitBoard counters.
+   * @return int material plus Flag advancement.
+   */
+  private static int evaluateSide(final BitBoard board, final Alliance alliance) {
+    return board.getMaterial(alliance) + FLAG_ADVANCE_VALUE * board.getFlagAdvance(alliance);
+  }
+
+  /**
+   * Constructor method that ensures this Evaluation class cannot be instantiated.
+   */
+  private Evaluation() {
+    throw new RuntimeException("You cannot instantiate Evaluation class");
+  }
+}
@@ -0,0 +1,91 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.Board;
+
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+
+/**
+ * Engine Player that does not peek at the hidden opposing ranks. Instead of
+ * searching the actual Board, it builds its InformationSet from its own pieces
+ * and the announced engagement results, and searches it with an ISMCTSSearch.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class ISMCTSPlayer extends AIPlayer {
+
+  /** Search engine, its trees are rebuilt every turn */
+  private final ISMCTSSearch search;
+
+  /** Iterations of each search tree per turn */
+  private int maxIterationsPerTree = Integer.MAX_VALUE;
+
+  /**
+   * Constructor that takes in the Alliance of this ISMCTSPlayer instance, with
+   * the default time budget.
+   */
+  public ISMCTSPlayer(final Board board, final Alliance alliance) {
+    this(board, alliance, DEFAULT_TIME_BUDGET_MILLIS);
+  }
+
+  /**
+   * Constructor that takes in the Alliance and time budget per turn of this
+   * ISMCTSPlayer instance.
+   */
+  public ISMCTSPlayer(final Board board, final Alliance alliance, final long timeBudgetMillis) {
+    this(board, alliance, timeBudgetMillis, new ISMCTSSearch());
+  }
+
+  /**
+   * Constructor that takes in the Alliance, time budget per turn and search
+   * engine of this ISMCTSPlayer instance.
+   */
+  public ISMCTSPlayer(final Board board, final Alliance alliance, final long timeBudgetMillis,
+                      final ISMCTSSearch search) {
+    super(board, alliance, timeBudgetMillis);
+    this.search = search;
+  }
+
+  /**
+   * Captures the InformationSet of this ISMCTSPlayer from the current Board,
+   * and splits the random source of the search from the Board random source.
+   * @return IntSupplier of the packed best move, else ISMCTSSearch.NO_MOVE.
+   */
+  @Override
+  public IntSupplier createMoveSearch() {
+    final InformationSet infoSet = new InformationSet(getBoard(), getAlliance());
+    final SplittableRandom random = getBoard().getRandom().split();
+    final long timeBudget = getTimeBudgetMillis();
+    final int maxIterations = maxIterationsPerTree;
+    return () -> search.findBestMove(infoSet, timeBudget, maxIterations, random);
+  }
+
+  /**
+   * Gets the iterations of each search tree per turn.
+   * @return int maxIterationsPerTree field.
+   */
+  public int getMaxIterationsPerTree() {
+    return this.maxIterationsPerTree;
+  }
+
+  /**
+   * Sets the iterations of each search tree per turn. With a time budget long
+   * enough to reach it and a fixed size ForkJoinPool, the search no longer
+   * depends on timing, e.g. for seeded games.
+   * @param maxIterationsPerTree iterations of each tree, at least 1.
+   */
+  public void setMaxIterationsPerTree(final int maxIterationsPerTree) {
+    this.maxIterationsPerTree = Math.max(1, maxIterationsPerTree);
+  }
+
+  /**
+   * Gets the ISMCTS search engine of this ISMCTSPlayer.
+   * @return ISMCTSSearch search field.
+   */
+  public ISMCTSSearch getISMCTSSearch() {
+    return this.search;
+  }
+}
@@ -0,0 +1,330 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.CombatOutcome;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.MoveType;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Single observer information set Monte Carlo tree search. Every iteration
+ * samples a determinization of the InformationSet, i.e. guesses the hidden
+ * opposing ranks, then walks a tree shared by all determinizations, only
+ * considering the moves legal in the sampled one, and finishes with a random
+ * playout.
+ * Trees are searched in parallel on a ForkJoinPool, one independent tree per
+ * worker with its own split random source, and their root visits are merged
+ * to pick the move.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class ISMCTSSearch {
+
+  /** Returned by findBestMove() when the observer has no moves */
+  public static final int NO_MOVE = AlphaBetaSearch.NO_MOVE;
+
+  /** Plies of a random playout before it is scored by Evaluation */
+  public static final int MAX_PLAYOUT_PLIES = 120;
+
+  /** UCB exploration constant */
+  private static final double EXPLORATION = 0.7;
+
+  /** Evaluation score difference worth about 73% winning chance */
+  private static final double EVALUATION_SCALE = 100.0;
+
+  /** Mask of the origin and destination of a packed move */
+  private static final int MOVE_COORDS_MASK = 0x3FFF;
+
+  /** Pool running the trees */
+  private final ForkJoinPool pool;
+
+  /** Random source, split for every tree */
+  private final SplittableRandom random;
+
+  /** Iterations of all trees in the last findBestMove() call */
+  private long iterations;
+
+  /**
+   * No argument constructor that searches on the common ForkJoinPool.
+   */
+  public ISMCTSSearch() {
+    this(ForkJoinPool.commonPool(), new SplittableRandom());
+  }
+
+  /**
+   * Constructor that takes in the pool and random source of the search.
+   */
+  public ISMCTSSearch(final ForkJoinPool pool, final SplittableRandom random) {
+    this.pool = pool;
+    this.random = random;
+  }
+
+  /**
+   * Searches the best move of the observer within a time budget.
+   * @param infoSet what the observer knows about the game.
+   * @param timeBudgetMillis time budget in milliseconds.
+   * @return int packed move with origin and destination, else NO_MOVE.
+   */
+  public int findBestMove(final InformationSet infoSet, final long timeBudgetMillis) {
+    return findBestMove(infoSet, timeBudgetMillis, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Searches the best move of the observer within a time budget and
+   * iteration limit per tree.
+   * @param infoSet what the observer knows about the game.
+   * @param timeBudgetMillis time budget in milliseconds.
+   * @param maxIterationsPerTree iterations of each tree, at least 1 runs.
+   * @return int packed move with origin and destination, else NO_MOVE.
+   */
+  public int findBestMove(final InformationSet infoSet, final long timeBudgetMillis,
+                          final int maxIterationsPerTree) {
+    final SplittableRandom searchRandom;
+    synchronized (random) {
+      searchRandom = random.split();
+    }
+    return findBestMove(infoSet, timeBudgetMillis, maxIterationsPerTree, searchRandom);
+  }
+
+  /**
+   * Searches the best move of the observer within a time budget and
+   * iteration limit per tree, with the trees split from a passed in random
+   * source instead of the one of this search, e.g. of a seeded game.
+   * @param infoSet what the observer knows about the game.
+   * @param timeBudgetMillis time budget in milliseconds.
+   * @param maxIterationsPerTree iterations of each tree, at least 1 runs.
+   * @param searchRandom random source of this call, owned by the search.
+   * @return int packed move with origin and destination, else NO_MOVE.
+   */
+  public int findBestMove(final InformationSet infoSet, final long timeBudgetMillis,
+                          final int maxIterationsPerTree, final SplittableRandom searchRandom) {
+    final long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+    final List<TreeSearch> trees = new ArrayList<>();
+    for (int i = 0; i < pool.getParallelism(); i++)
+      trees.add(new TreeSearch(infoSet, searchRandom.split(), deadline, maxIterationsPerTree));
+
+    final int[] rootVisits = pool.invoke(new RecursiveTask<int[]>() {
+      @Override
+      protected int[] compute() {
+        final int[] merged = new int[BoardUtils.ALL_TILES_COUNT * BoardUtils.ALL_TILES_COUNT];
+        for (final TreeSearch tree : invokeAll(trees)) {
+          final int[] visits = tree.join();
+          for (int i = 0; i < merged.length; i++)
+            merged[i] += visits[i];
+        }
+        return merged;
+      }
+    });
+
+    long totalIterations = 0;
+    for (final TreeSearch tree : trees)
+      totalIterations += tree.iterations;
+    this.iterations = totalIterations;
+
+    int bestMove = NO_MOVE;
+    int bestVisits = 0;
+    for (int i = 0; i < rootVisits.length; i++) {
+      if (rootVisits[i] > bestVisits) {
+        bestVisits = rootVisits[i];
+        bestMove = Move.packMove(i / BoardUtils.ALL_TILES_COUNT,
+                                 i % BoardUtils.ALL_TILES_COUNT,
+                                 MoveType.NORMAL);
+      }
+    }
+    return bestMove;
+  }
+
+  /**
+   * Gets the iterations of all trees in the last findBestMove() call.
+   * @return long iterations field.
+   */
+  public long getIterations() {
+    return this.iterations;
+  }
+
+  /**
+   * Node of a search tree, reached by a move of the mover Alliance.
+   */
+  private static final class Node {
+    final int move;
+    final Node parent;
+    final Alliance mover;
+    final List<Node> children = new ArrayList<>();
+    int visits;
+    int availability = 1;
+    double reward;
+
+    Node(final int move, final Node parent, final Alliance mover) {
+      this.move = move;
+      this.parent = parent;
+      this.mover = mover;
+    }
+
+    /**
+     * Gets the child reached by a move.
+     * @return Node child, else null if not yet expanded.
+     */
+    Node getChild(final int packedMove) {
+      for (final Node child : children) {
+        if (child.move == (packedMove & MOVE_COORDS_MASK))
+          return child;
+      }
+      return null;
+    }
+
+    /**
+     * Upper confidence bound of this node, counting only the iterations
+     * where its move was legal.
+     */
+    double getUpperBound() {
+      return reward / visits + EXPLORATION * Math.sqrt(Math.log(availability) / visits);
+    }
+  }
+
+  /**
+   * Iterations of a single search tree.
+   */
+  private static final class TreeSearch extends RecursiveTask<int[]> {
+    private static final long serialVersionUID = 1L;
+    private final transient InformationSet infoSet;
+    private final transient SplittableRandom random;
+    private final long deadline;
+    private final int maxIterations;
+    private final transient BitBoard board = new BitBoard();
+    private final int[][] moveBuffers = new int[2][MoveGenerator.MAX_MOVES];
+    private long iterations;
+
+    TreeSearch(final InformationSet infoSet, final SplittableRandom random,
+               final long deadline, final int maxIterations) {
+      this.infoSet = infoSet;
+      this.random = random;
+      this.deadline = deadline;
+      this.maxIterations = maxIterations;
+    }
+
+    @Override
+    protected int[] compute() {
+      final Alliance observer = infoSet.getObserver();
+      final Node root = new Node(0, null, opponentOf(observer));
+
+      do {
+        infoSet.sample(random, board);
+        iterate(root, observer);
+        iterations++;
+      } while (iterations < maxIterations && System.nanoTime() < deadline);
+
+      final int[] rootVisits = new int[BoardUtils.ALL_TILES_COUNT * BoardUtils.ALL_TILES_COUNT];
+      for (final Node child : root.children)
+        rootVisits[Move.getPackedOrigin(child.move) * BoardUtils.ALL_TILES_COUNT +
+                   Move.getPackedDestination(child.move)] = child.visits;
+      return rootVisits;
+    }
+
+    /**
+     * Selects, expands, plays out and backpropagates one determinization.
+     */
+    private void iterate(final Node root, final Alliance observer) {
+      final int[] moves = moveBuffers[0];
+      Node node = root;
+      Alliance side = observer;
+      Alliance winner = null;
+
+      // Selection, descend while every legal move has a child.
+      while (true) {
+        final int moveCount = MoveGenerator.generateMoves(board, side, moves);
+        if (moveCount == 0) {
+          winner = opponentOf(side);
+          break;
+        }
+
+        int untriedCount = 0;
+        Node selected = null;
+        double selectedBound = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < moveCount; i++) {
+          final Node child = node.getChild(moves[i]);
+          if (child == null) {
+            moves[untriedCount++] = moves[i];
+            continue;
+          }
+          child.availability++;
+          final double bound = child.getUpperBound();
+          if (bound > selectedBound) {
+            selectedBound = bound;
+            selected = child;
+          }
+        }
+
+        // Expansion of a random untried move.
+        if (untriedCount > 0) {
+          final int move = moves[random.nextInt(untriedCount)];
+          selected = new Node(move & MOVE_COORDS_MASK, node, side);
+          node.children.add(selected);
+        }
+
+        winner = BitBoard.getRecordWinner(board.makeMove(selected.move));
+        node = selected;
+        side = opponentOf(side);
+        if (winner != null || untriedCount > 0)
+          break;
+      }
+
+      final double allyReward = winner != null ?
+        (winner == Alliance.ALLY ? 1.0 : 0.0) : playout(side);
+
+      for (Node n = node; n != null; n = n.parent) {
+        n.visits++;
+        n.reward += n.mover == Alliance.ALLY ? allyReward : 1.0 - allyReward;
+      }
+    }
+
+    /**
+     * Plays random moves from the current board, capturing a Flag whenever
+     * possible.
+     * @return double chance of the ALLY winning, 0 to 1.
+     */
+    private double playout(Alliance side) {
+      final int[] moves = moveBuffers[1];
+      for (int ply = 0; ply < MAX_PLAYOUT_PLIES; ply++) {
+        final int moveCount = MoveGenerator.generateMoves(board, side, moves);
+        if (moveCount == 0)
+          return side == Alliance.ALLY ? 0.0 : 1.0;
+
+        int move = moves[random.nextInt(moveCount)];
+        for (int i = 0; i < moveCount; i++) {
+          final byte targetRank = board.getPieceRank(Move.getPackedDestination(moves[i]));
+          if (targetRank != BitBoard.EMPTY_RANK &&
+              CombatOutcome.resolve(board.getPieceRank(Move.getPackedOrigin(moves[i])),
+                                    targetRank) == CombatOutcome.ATTACKER_WINS_GAME) {
+            move = moves[i];
+            break;
+          }
+        }
+
+        final Alliance winner = BitBoard.getRecordWinner(board.makeMove(move));
+        if (winner != null)
+          return winner == Alliance.ALLY ? 1.0 : 0.0;
+        side = opponentOf(side);
+      }
+
+      final int score = Evaluation.evaluate(board, Alliance.ALLY);
+      return 1.0 / (1.0 + Math.exp(-score / EVALUATION_SCALE));
+    }
+  }
+
+  /**
+   * Gets the opposing Alliance.
+   */
+  private static Alliance opponentOf(final Alliance alliance) {
+    return alliance == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+  }
+}
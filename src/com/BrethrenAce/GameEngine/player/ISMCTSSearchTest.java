@@ -0,0 +1,112 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.TestBoards;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ISMCTSSearchTest {
+
+    @Test
+    void sampleKeepsKnownPieces() {
+        final Board board = TestBoards.demoBoard();
+        final InformationSet infoSet = new InformationSet(board, Alliance.ALLY);
+        final BitBoard sample = new BitBoard();
+        infoSet.sample(new SplittableRandom(7), sample);
+
+        final int[] rankCounts = new int[Rank.values().length + 1];
+        for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+            assertEquals(board.getPieceAlliance(i), sample.getPieceAlliance(i));
+            if (board.getPieceAlliance(i) == Alliance.ALLY)
+                assertEquals(board.getPieceRank(i), sample.getPieceRank(i));
+            else if (board.getPieceAlliance(i) == Alliance.AXIS) {
+                rankCounts[sample.getPieceRank(i)]++;
+                assertEquals(InformationSet.ALL_RANKS_MASK, infoSet.getPossibleRanks(i));
+            }
+        }
+        for (final Rank rank : Rank.values())
+            assertTrue(rankCounts[rank.getCode()] <= rank.getLegalPieceInstanceCount());
+    }
+
+    private static int maskOf(final Rank... ranks) {
+        int mask = 0;
+        for (final Rank rank : ranks)
+            mask |= 1 << rank.ordinal();
+        return mask;
+    }
+
+    @Test
+    void combatNarrowsRanks() {
+        final Board board = TestBoards.demoBoard();
+        final Player ally = board.getPlayer(Alliance.ALLY);
+        final Player axis = board.getPlayer(Alliance.AXIS);
+        final int beatsGeneralOne = maskOf(Rank.GENERAL_TWO, Rank.GENERAL_THREE, Rank.GENERAL_FOUR,
+                                           Rank.GENERAL_FIVE, Rank.AGENT);
+
+        // ALLY General Five takes the AXIS General One.
+        assertTrue(ally.makeMove(38, 29));
+        assertEquals(beatsGeneralOne, new InformationSet(board, Alliance.AXIS).getPossibleRanks(29));
+        assertEquals(0, new InformationSet(board, Alliance.ALLY).getPossibleRanks(29));
+
+        // AXIS General Five draws with it, removing both.
+        assertTrue(axis.makeMove(28, 29));
+        InformationSet allyInfo = new InformationSet(board, Alliance.ALLY);
+        final InformationSet axisInfo = new InformationSet(board, Alliance.AXIS);
+        assertEquals(0, allyInfo.getPossibleRanks(28));
+        assertEquals(0, axisInfo.getPossibleRanks(29));
+
+        // ALLY General One attacks the moved AXIS General Four and loses.
+        assertTrue(ally.makeMove(39, 30));
+        assertTrue(axis.makeMove(22, 31));
+        assertEquals(InformationSet.ALL_RANKS_MASK, new InformationSet(board, Alliance.ALLY).getPossibleRanks(31));
+        assertTrue(ally.makeMove(30, 31));
+        allyInfo = new InformationSet(board, Alliance.ALLY);
+        assertEquals(beatsGeneralOne, allyInfo.getPossibleRanks(31));
+        assertEquals(0, new InformationSet(board, Alliance.AXIS).getPossibleRanks(30));
+        assertNull(board.getPieceAlliance(30));
+
+        // Samples keep the winner within its possible ranks.
+        final BitBoard sample = new BitBoard();
+        for (int seed = 0; seed < 20; seed++) {
+            allyInfo.sample(new SplittableRandom(seed), sample);
+            assertEquals(Alliance.AXIS, sample.getPieceAlliance(31));
+            assertNotEquals(0, beatsGeneralOne & (1 << Rank.fromCode(sample.getPieceRank(31)).ordinal()));
+            assertNull(sample.getPieceAlliance(28));
+            assertNull(sample.getPieceAlliance(29));
+            assertNull(sample.getPieceAlliance(30));
+        }
+    }
+
+    @Test
+    void findBestMoveIsLegal() {
+        final Board board = TestBoards.demoBoard();
+        final InformationSet infoSet = new InformationSet(board, Alliance.ALLY);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final ISMCTSSearch search = new ISMCTSSearch(pool, new SplittableRandom(7));
+        final int bestMove;
+        try {
+            bestMove = search.findBestMove(infoSet, 1000, 200);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        final int moveCount = MoveGenerator.generateMoves(board, Alliance.ALLY, moves);
+        boolean isLegal = false;
+        for (int i = 0; i < moveCount; i++)
+            isLegal |= Move.getPackedOrigin(moves[i]) == Move.getPackedOrigin(bestMove) &&
+                       Move.getPackedDestination(moves[i]) == Move.getPackedDestination(bestMove);
+        assertTrue(isLegal);
+        assertEquals(400, search.getIterations());
+    }
+}
@@ -0,0 +1,283 @@
+package com.BrethrenAce.GameEngine.player;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.BoardState;
+import com.BrethrenAce.GameEngine.CombatOutcome;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveType;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.SplittableRandom;
+
+/**
+ * What a single Player knows about the game: the location and rank of its own
+ * pieces, and the location of the opposing pieces, whose ranks are hidden.
+ * Opposing ranks are narrowed down by replaying the move history from the
+ * initial arrangement, using only what the arbiter announces, i.e. which side
+ * was eliminated by each engagement.
+ * sample() creates a determinization, a full board state where every opposing
+ * piece is given a rank consistent with the known combat results.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class InformationSet {
+
+  /** Bitmask of every rank, bit n being the rank of ordinal n */
+  public static final int ALL_RANKS_MASK = (1 << Rank.values().length) - 1;
+
+  /** Tries of sampling with all constraints before relaxing them */
+  private static final int MAX_SAMPLE_TRIES = 16;
+
+  /** All ranks indexed by ordinal */
+  private static final Rank[] RANKS = Rank.values();
+
+  /** Alliance of the observing Player */
+  private final Alliance observer;
+
+  /** Alliance of the opposing Player */
+  private final Alliance opponent;
+
+  /** Board state with only the observer pieces */
+  private final BitBoard knownBoard = new BitBoard();
+
+  /** Number of opposing pieces in the initial arrangement */
+  private int opponentPiecesCount;
+
+  /** Current tile of each opposing piece, -1 if eliminated */
+  private final int[] opponentPieceTiles = new int[BoardUtils.ALL_TILES_COUNT];
+
+  /** Possible ranks of each opposing piece as bitmask of rank ordinals */
+  private final int[] opponentRankMasks = new int[BoardUtils.ALL_TILES_COUNT];
+
+  /** Opposing piece index occupying each tile, -1 if none */
+  private final int[] tileOpponentPieces = new int[BoardUtils.ALL_TILES_COUNT];
+
+  /**
+   * Constructor that builds the information set of a Player from the Board
+   * and its move history.
+   * @param board Board of the game.
+   * @param observer Alliance of the observing Player.
+   */
+  public InformationSet(final Board board, final Alliance observer) {
+    this.observer = observer;
+    this.opponent = observer == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      if (board.getPieceAlliance(i) == observer)
+        knownBoard.setPiece(i, observer, board.getPieceRank(i));
+    }
+
+    final BoardState initBoard = board.getInitBoardState();
+    if (initBoard == null) {
+      addOpponentPieces(board);
+    } else {
+      addOpponentPieces(initBoard);
+      for (int turn = 1; turn < board.getCurrentTurn(); turn++) {
+        final Move move = board.getMoveLog().getMove(turn);
+        if (move == null)
+          break;
+        replayMove(move);
+      }
+    }
+  }
+
+  /**
+   * Registers the opposing pieces of a board state with all ranks possible.
+   */
+  private void addOpponentPieces(final BoardState board) {
+    opponentPiecesCount = 0;
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      tileOpponentPieces[i] = -1;
+      if (board.getPieceAlliance(i) == opponent) {
+        tileOpponentPieces[i] = opponentPiecesCount;
+        opponentPieceTiles[opponentPiecesCount] = i;
+        opponentRankMasks[opponentPiecesCount] = ALL_RANKS_MASK;
+        opponentPiecesCount++;
+      }
+    }
+  }
+
+  /**
+   * Replays an executed move, relocating opposing pieces and narrowing down
+   * their ranks from the engagement result.
+   * @param move executed Move from the move history.
+   */
+  private void replayMove(final Move move) {
+    final int origin = move.getOriginCoords();
+    final int destination = move.getDestinationCoords();
+    final boolean isOpponentMove = move.getPlayer().getAlliance() == opponent;
+    final MoveType moveType = move.getMoveType();
+
+    if (moveType == MoveType.NORMAL) {
+      if (isOpponentMove)
+        relocateOpponentPiece(origin, destination);
+      return;
+    }
+
+    // Only the observer piece rank and the eliminated side are known.
+    final int opponentTile = isOpponentMove ? origin : destination;
+    final int opponentPiece = tileOpponentPieces[opponentTile];
+    final Rank observerRank = isOpponentMove ?
+      move.getTargetPiece().getRank() : move.getSourcePiece().getRank();
+
+    if (moveType == MoveType.DRAW) {
+      opponentRankMasks[opponentPiece] &= 1 << observerRank.ordinal();
+      eliminateOpponentPiece(opponentTile);
+      return;
+    }
+
+    final boolean isAttackerEliminated =
+      move.getEliminatedPiece().getPieceAlliance() == move.getPlayer().getAlliance();
+    int possibleRanks = 0;
+    for (final Rank rank : RANKS) {
+      final CombatOutcome outcome = isOpponentMove ?
+        CombatOutcome.resolve(rank, observerRank) : CombatOutcome.resolve(observerRank, rank);
+      if (!outcome.isGameOver() && outcome != CombatOutcome.BOTH_REMOVED &&
+          outcome.isAttackerEliminated() == isAttackerEliminated)
+        possibleRanks |= 1 << rank.ordinal();
+    }
+    opponentRankMasks[opponentPiece] &= possibleRanks;
+
+    // Observer pieces are read from the current Board, only opposing pieces
+    // are tracked.
+    if (isOpponentMove == isAttackerEliminated)
+      eliminateOpponentPiece(opponentTile);
+    else if (isOpponentMove)
+      relocateOpponentPiece(origin, destination);
+  }
+
+  /**
+   * Moves an opposing piece into another tile.
+   */
+  private void relocateOpponentPiece(final int origin, final int destination) {
+    final int opponentPiece = tileOpponentPieces[origin];
+    tileOpponentPieces[origin] = -1;
+    tileOpponentPieces[destination] = opponentPiece;
+    opponentPieceTiles[opponentPiece] = destination;
+  }
+
+  /**
+   * Removes an opposing piece.
+   */
+  private void eliminateOpponentPiece(final int tileId) {
+    opponentPieceTiles[tileOpponentPieces[tileId]] = -1;
+    tileOpponentPieces[tileId] = -1;
+  }
+
+  /**
+   * Creates a determinization of this information set into a BitBoard.
+   * Every opposing piece, including eliminated ones, is given a rank within
+   * its possible ranks and the legal instance count of each rank. If no such
+   * assignment is found after several tries, the constraints are relaxed.
+   * Safe to call from several threads with their own random and target.
+   * @param random random source of the sample.
+   * @param target BitBoard to write the determinization into.
+   */
+  public void sample(final SplittableRandom random, final BitBoard target) {
+    final int[] assignedRanks = new int[opponentPiecesCount];
+    for (int i = 0; i < MAX_SAMPLE_TRIES; i++) {
+      if (assignRanks(random, assignedRanks, i == MAX_SAMPLE_TRIES - 1))
+        break;
+    }
+
+    target.copyFrom(knownBoard);
+    for (int i = 0; i < opponentPiecesCount; i++) {
+      if (opponentPieceTiles[i] != -1)
+        target.setPiece(opponentPieceTiles[i], opponent, RANKS[assignedRanks[i]].getCode());
+    }
+  }
+
+  /**
+   * Assigns a rank ordinal to every opposing piece, the most constrained
+   * pieces first, each rank weighted by its remaining instances.
+   * @return boolean true if all constraints are satisfied, else false.
+   */
+  private boolean assignRanks(final SplittableRandom random, final int[] assignedRanks,
+                              final boolean relaxed) {
+    final int[] remaining = new int[RANKS.length];
+    for (final Rank rank : RANKS)
+      remaining[rank.ordinal()] = rank.getLegalPieceInstanceCount();
+
+    // Shuffle, then stable sort by number of possible ranks.
+    final int[] order = new int[opponentPiecesCount];
+    for (int i = 0; i < opponentPiecesCount; i++) {
+      final int j = random.nextInt(i + 1);
+      order[i] = order[j];
+      order[j] = i;
+    }
+    for (int i = 1; i < opponentPiecesCount; i++) {
+      final int piece = order[i];
+      final int bits = Integer.bitCount(opponentRankMasks[piece]);
+      int j = i - 1;
+      while (j >= 0 && Integer.bitCount(opponentRankMasks[order[j]]) > bits) {
+        order[j + 1] = order[j];
+        j--;
+      }
+      order[j + 1] = piece;
+    }
+
+    for (final int piece : order) {
+      int rankMask = opponentRankMasks[piece];
+      if (weightOf(rankMask, remaining) == 0) {
+        if (!relaxed)
+          return false;
+        rankMask = ALL_RANKS_MASK;
+      }
+
+      final int weight = weightOf(rankMask, remaining);
+      if (weight == 0) {
+        // More pieces than legal instances, e.g. custom builds.
+        assignedRanks[piece] = Rank.PRIVATE.ordinal();
+        continue;
+      }
+
+      int pick = random.nextInt(weight);
+      for (int r = 0; r < RANKS.length; r++) {
+        if ((rankMask & (1 << r)) == 0)
+          continue;
+        pick -= remaining[r];
+        if (pick < 0) {
+          assignedRanks[piece] = r;
+          remaining[r]--;
+          break;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sums the remaining instances of the ranks of a rank mask.
+   */
+  private static int weightOf(final int rankMask, final int[] remaining) {
+    int weight = 0;
+    for (int r = 0; r < remaining.length; r++) {
+      if ((rankMask & (1 << r)) != 0)
+        weight += remaining[r];
+    }
+    return weight;
+  }
+
+  /**
+   * Gets the possible ranks of the opposing piece occupying a tile.
+   * @param tileId tile index or ID.
+   * @return int bitmask of rank ordinals, else 0 if no opposing piece.
+   */
+  public int getPossibleRanks(final int tileId) {
+    final int opponentPiece = tileOpponentPieces[tileId];
+    return opponentPiece == -1 ? 0 : opponentRankMasks[opponentPiece];
+  }
+
+  /**
+   * Gets the Alliance of the observing Player.
+   * @return Alliance observer field.
+   */
+  public Alliance getObserver() {
+    return this.observer;
+  }
+}
@@ -3,16 +3,18 @@ package com.BrethrenAce.GameEngine.player;
 import com.BrethrenAce.GameEngine.Alliance;
 import com.BrethrenAce.GameEngine.Board;
 import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveLog;
 import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.record.GameRecordWriter;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Player class that holds all their respective owned pieces and keeps their
- * move history. This class is responsible for turn-based moves of the each pieces
+ * Player class that holds all their respective owned pieces and records their
+ * moves into the MoveLog of the Board. This class is responsible for turn-based moves of the each pieces
  * during their turn.
  * Has an undo and redo feature, which also updates move history as it executes.
  * All undid moves in the move history, if another move has been executed, will
@@ -31,9 +33,6 @@ public class Player {
   /** Alliance of the Player. */
   private final Alliance alliance;
 
-  /** Move history that holds all the successfully executed moves. */
-  private Map<Integer, Move> moveHistory;
-
   /** List of Pieces owned by this Player instance */
   private List<Piece> ownedPieces;
 
@@ -55,7 +54,7 @@ public class Player {
    */
   public boolean setBoard(final Board board) {
     if (board.isPlayerExisting(this)) {
-      if (Board.isDebugMode())
+      if (board.isDebugMode())
         System.out.println("Player.setBoard() E: Player " + getAlliance() + " already exists");
       return false;
     }
@@ -66,12 +65,11 @@ public class Player {
 
   /**
    * Initialize this Player instance.
-   * Initialize ownedPieces to empty List, moveHistory to empty
-   * HashMap<Integer, Move>, then collect all Player's respective pieces.
+   * Initialize ownedPieces to empty List, then collect all Player's respective
+   * pieces.
    */
   public void initPlayer() {
     ownedPieces = new ArrayList<>();
-    moveHistory = new HashMap<Integer, Move>();
     collectPieces();
   }
 
@@ -81,10 +79,8 @@ public class Player {
    */
   private void collectPieces() {
     for (int i = 0; i < board.getBoard().size(); i++) {
-      if (board.getTile(i).isTileOccupied()) {
-        if (board.getTile(i).getPiece().getPieceAlliance() == alliance) {
-          ownedPieces.add(board.getTile(i).getPiece());
-        }
+      if (board.getPieceAlliance(i) == alliance) {
+        ownedPieces.add(board.getTile(i).getPiece());
       }
     }
   }
@@ -107,7 +103,7 @@ public class Player {
    */
   public boolean makeMove(final int pieceCoords, final int destinationCoords) {
     // Prints all possible moves in debug mode.
-    if (Board.isDebugMode()) {
+    if (board.isDebugMode()) {
       final Map<String, Move> possiblePieceMoves =
         this.board.getTile(pieceCoords).getPiece().evaluateMoves(board);
 
@@ -129,8 +125,7 @@ public class Player {
       // Execute if move is valid, else register move as recent invalid move.
       if (move.execute()) {
 
-        // Record to move history
-        clearForwardMoveHistory(this.board.getCurrentTurn());
+        // Record to move history, replacing any undone moves
         recordMove(move);
 
         // Change necessary states of the Board
@@ -139,7 +134,7 @@ public class Player {
         this.board.incrementTurn();
         this.board.updateLastExecutedTurn(this.board.getCurrentTurn());
 
-        if (Board.isDebugMode())
+        if (board.isDebugMode())
           System.out.println(move);
 
         return true;
@@ -167,8 +162,7 @@ public class Player {
       // Execute if move is valid, else register move as recent invalid move.
       if (move.execute()) {
 
-        // Record to move history
-        clearForwardMoveHistory(this.board.getCurrentTurn());
+        // Record to move history, replacing any undone moves
         recordMove(move);
 
         // Change necessary states of the Board
@@ -177,7 +171,7 @@ public class Player {
         this.board.incrementTurn();
         this.board.updateLastExecutedTurn(this.board.getCurrentTurn());
 
-        if (Board.isDebugMode())
+        if (board.isDebugMode())
           System.out.println(move);
 
         return true;
@@ -190,6 +184,14 @@ public class Player {
     return false;
   }
 
+  /**
+   * Gets the Board in which this Player participates in.
+   * @return Board board field.
+   */
+  public Board getBoard() {
+    return this.board;
+  }
+
   /**
    * Gets this Player Alliance.
    * @return Alliance
@@ -205,10 +207,11 @@ public class Player {
   public boolean isMoveMaker() {
     if (isMoveMaker)
       return true;
-    else
+
+    if (isDebugMode())
       System.out.println("E: " + alliance +
                          " player is currently NOT the move maker");
-      return false;
+    return false;
   }
 
   /**
@@ -216,23 +219,48 @@ public class Player {
    * @return boolean true if piece is owned by this Player, else false.
    */
   public boolean pieceOwnerCheck(final int pieceCoords) {
-    if (board.getTile(pieceCoords).getPiece().getPieceAlliance() == alliance)
+    if (board.getPieceAlliance(pieceCoords) == alliance)
       return true;
-    else
+
+    if (isDebugMode())
       System.out.println("E: " + alliance +
                          " player DOES NOT own " +
                          board.getTile(pieceCoords).getPiece().getPieceAlliance() + " " +
                          board.getTile(pieceCoords).getPiece().getRank() + " at Tile " +
                          pieceCoords);
-      return false;
+    return false;
+  }
+
+  /**
+   * Checks if the Board of this Player is in debug mode.
+   * @return boolean true if the Board is set and in debug mode, else false.
+   */
+  private boolean isDebugMode() {
+    return board != null && board.isDebugMode();
   }
 
   /**
-   * Records Move into move history
-   * @param move Move to record into moveHistory field.
+   * Records Move into move history, dropping the undone moves after it.
+   * @param move Move to record into the MoveLog of the Board.
    */
   private void recordMove(final Move move) {
-    moveHistory.put(move.getTurnId(), move);
+    if (board.isDebugMode()) {
+      for (int i = move.getTurnId(); i <= board.getMoveLog().size(); i++)
+        System.out.println(board.getMoveLog().getMove(i) + " REMOVING...");
+    }
+    board.logMove(move);
+
+    // Stream into the game record if recording.
+    final GameRecordWriter recordWriter = board.getRecordWriter();
+    if (recordWriter != null) {
+      try {
+        recordWriter.append(move);
+        if (board.isEndGame())
+          recordWriter.finish(board.getEndGameWinner());
+      } catch (final IOException e) {
+        System.out.println("E: Game record failed. " + e.getMessage());
+      }
+    }
   }
 
   /**
@@ -249,25 +277,8 @@ public class Player {
       final Move lastMove = getMoveFromHistory(currentTurn - 2);
 
       if (isMoveMaker()) {
-        final int recentMoveOrigin = recentMove.getOriginCoords();
-        final int recentMoveDestination = recentMove.getDestinationCoords();
-
-        // Reverse the most recent executed move
-        if (recentMove.getMoveType() == "attacking") {
-          if (recentMove.getEliminatedPiece() == recentMove.getTargetPiece()) {
-            // If target piece eliminated
-            this.board.movePiece(recentMoveDestination, recentMove.getOriginCoords());
-            this.board.insertPiece(recentMoveDestination, recentMove.getEliminatedPiece());
-          } else {
-            // If source piece eliminated
-            this.board.insertPiece(recentMoveOrigin, recentMove.getEliminatedPiece());
-          }
-        } else if (recentMove.getMoveType() == "draw") {
-          this.board.insertPiece(recentMoveDestination, recentMove.getTargetPiece());
-          this.board.insertPiece(recentMoveOrigin, recentMove.getSourcePiece());
-        } else {
-          this.board.movePiece(recentMoveDestination, recentMoveOrigin);
-        }
+        // Reverse the most recent executed move in place
+        this.board.unmakeMove(recentMove.getUndoRecord());
 
         // Sets the two move down the combined history of both Players as last move.
         this.board.setLastMove(lastMove);
@@ -278,7 +289,7 @@ public class Player {
         board.switchMoveMakerPlayer();
         board.decrementTurn();
 
-        if (Board.isDebugMode()) {
+        if (board.isDebugMode()) {
           System.out.println("Undo successful. " + recentMove + "\n");
           System.out.println("Turn History Stack");
           if (board.getLastExecutedTurn() != 0) {
@@ -307,25 +318,8 @@ public class Player {
       final Move nextMove = getMoveFromHistory(currentTurn);
 
       if (isMoveMaker()) {
-        final int nextMoveOrigin = nextMove.getOriginCoords();
-        final int nextMoveDestination = nextMove.getDestinationCoords();
-
         // Reexecute undid move from the move history that matches the current turn.
-        if (nextMove.getMoveType() == "attacking") {
-          if (nextMove.getEliminatedPiece() == nextMove.getTargetPiece()) {
-            // if target piece eliminated
-            this.board.replacePiece(nextMoveDestination, nextMove.getSourcePiece());
-            this.board.deletePiece(nextMoveOrigin);
-          } else {
-            // if source piece eliminated
-            this.board.deletePiece(nextMoveOrigin);
-          }
-        } else if (nextMove.getMoveType() == "draw") {
-          this.board.deletePiece(nextMoveOrigin);
-          this.board.deletePiece(nextMoveDestination);
-        } else {
-          this.board.movePiece(nextMoveOrigin, nextMoveDestination);
-        }
+        nextMove.setUndoRecord(this.board.makeMove(nextMove.getPackedMove()));
 
         // Sets last move as the recently reexecuted move
         this.board.setLastMove(nextMove);
@@ -336,7 +330,7 @@ public class Player {
         board.switchMoveMakerPlayer();
         board.incrementTurn();
 
-        if (Board.isDebugMode()) {
+        if (board.isDebugMode()) {
           System.out.println("Redo successful. " + nextMove + "\n");
           System.out.println("Turn History Stack");
           if (board.getLastExecutedTurn() != 0) {
@@ -355,26 +349,21 @@ public class Player {
   }
 
   /**
-   * Gets this Player move history.
+   * Gets the combined move history of both Players.
+   * @return MoveLog of the Board.
    */
-  public Map<Integer, Move> getMoveHistory() {
-    return this.moveHistory;
+  public MoveLog getMoveHistory() {
+    return this.board.getMoveLog();
   }
 
   /**
    * Gets specific move from the combined move history of both Players in the
    * Board.
    * @param turnId int turn ID of the Move.
-   * @return Move from the moveHistory field that matches the turnId.
+   * @return Move that matches the turnId, else null if none.
    */
   public Move getMoveFromHistory(final int turnId) {
-    final Player opposingPlayer = this.alliance == Alliance.AXIS ?
-      this.board.getAllyPlayer() : this.board.getAxisPlayer();
-
-    if (opposingPlayer.moveHistory.get(turnId) != null)
-      return opposingPlayer.getMoveFromHistory(turnId);
-    else
-      return this.moveHistory.get(turnId);
+    return this.board.getMoveLog().getMove(turnId);
   }
 
   /**
@@ -384,36 +373,22 @@ public class Player {
    * history forward.
    */
   public void clearForwardMoveHistory(final int startPointTurn) {
-    final Player lastMoveMakerPlayer = this.alliance == Alliance.AXIS ?
-      this.board.getAllyPlayer() : this.board.getAxisPlayer();
-
-    final int moveHistorySize = this.moveHistory.size() + lastMoveMakerPlayer.moveHistory.size();
-    for (int i = startPointTurn; i < moveHistorySize; i++) {
-
-      if (lastMoveMakerPlayer.getMoveFromHistory(i) != null) {
-        if (Board.isDebugMode())
-          System.out.println(lastMoveMakerPlayer.getMoveFromHistory(i) + " REMOVING...");
-        lastMoveMakerPlayer.moveHistory.remove(i);
-      } else {
-        if (Board.isDebugMode())
-          System.out.println(this.getMoveFromHistory(i) + " REMOVING...");
-        this.moveHistory.remove(i);
-      }
-    }
+    this.board.getMoveLog().truncate(startPointTurn - 1);
   }
 
   @Override
   public String toString() {
-    String history = "";
-    if (moveHistory.size() > 0) {
-      history += alliance + " player move history:\n";
-      for (final Map.Entry<Integer, Move> entry : moveHistory.entrySet()) {
-        history += "Turn " + entry.getKey() + ": " + entry.getValue() + "\n";
-      }
-    } else {
-      history += alliance + " player did not make valid moves yet";
+    final MoveLog moveLog = this.board.getMoveLog();
+    final StringBuilder history = new StringBuilder();
+    for (int i = 1; i <= moveLog.size(); i++) {
+      final Move move = moveLog.getMove(i);
+      if (move.getPlayer().getAlliance() == alliance)
+        history.append("Turn ").append(i).append(": ").append(move).append("\n");
     }
 
-    return history;
+    if (history.length() > 0)
+      return alliance + " player move history:\n" + history;
+    else
+      return alliance + " player did not make valid moves yet";
   }
 }
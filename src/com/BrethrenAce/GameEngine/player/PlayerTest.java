@@ -1,7 +1,16 @@
 package com.BrethrenAce.GameEngine.player;
 
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.TestBoards;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 class PlayerTest {
 
     @Test
@@ -30,6 +39,28 @@ class PlayerTest {
 
     @Test
     void isMoveMaker() {
+        final Board board = TestBoards.demoBoard();
+        final SplittableRandom random = new SplittableRandom(4);
+        final PrintStream out = System.out;
+        final ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed));
+        try {
+            // Moves, undo and redo print nothing outside of debug mode.
+            for (int i = 0; i < 10; i++) {
+                final Player player = board.getPlayer(board.getMoveMaker());
+                final Player opponent = board.getPlayer(
+                    player.getAlliance() == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS);
+                assertTrue(player.isMoveMaker());
+                assertFalse(opponent.isMoveMaker());
+
+                TestBoards.playRandomMoves(board, 1, random);
+                assertTrue(opponent.undoLastMove());
+                assertTrue(player.redoLastMove());
+            }
+        } finally {
+            System.setOut(out);
+        }
+        assertEquals("", printed.toString());
     }
 
     @Test
@@ -0,0 +1,118 @@
+package com.BrethrenAce.GameEngine.player;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size hash table of searched positions keyed by Zobrist hash.
+ * Each slot packs the best move, search depth, bound and score into a long, so
+ * the table never allocates after construction. Deeper results replace
+ * shallower ones of the same slot, different positions always replace.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class TranspositionTable {
+
+  /** Returned by probe() when the position is not stored */
+  public static final long NO_ENTRY = 0L;
+
+  /** Score bounds. Never 0, so that a stored entry is never NO_ENTRY */
+  public static final int EXACT = 1;
+  public static final int LOWER_BOUND = 2;
+  public static final int UPPER_BOUND = 3;
+
+  /** Zobrist hash of each slot */
+  private final long[] keys;
+
+  /** Packed entry of each slot */
+  private final long[] entries;
+
+  /** Slot index mask, table size minus one */
+  private final int mask;
+
+  /**
+   * Constructor that takes in the table size as power of two.
+   * @param sizeBits number of slots is 2 to the power of sizeBits.
+   */
+  public TranspositionTable(final int sizeBits) {
+    this.keys = new long[1 << sizeBits];
+    this.entries = new long[1 << sizeBits];
+    this.mask = (1 << sizeBits) - 1;
+  }
+
+  /**
+   * Gets the stored entry of a position.
+   * @param key Zobrist hash of the position.
+   * @return long packed entry, else NO_ENTRY.
+   */
+  public long probe(final long key) {
+    final int slot = (int) key & mask;
+    return keys[slot] == key ? entries[slot] : NO_ENTRY;
+  }
+
+  /**
+   * Stores a searched position.
+   * @param key Zobrist hash of the position.
+   * @param packedMove best move found, 0 if none.
+   * @param depth remaining search depth, 0 to 255.
+   * @param bound EXACT, LOWER_BOUND or UPPER_BOUND.
+   * @param score score of the position.
+   */
+  public void store(final long key, final int packedMove, final int depth,
+                    final int bound, final int score) {
+    final int slot = (int) key & mask;
+    if (keys[slot] == key && getEntryDepth(entries[slot]) > depth)
+      return;
+
+    keys[slot] = key;
+    entries[slot] = (packedMove & 0xFFFFL) |
+                    ((long) depth << 16) |
+                    ((long) bound << 24) |
+                    ((long) score << 32);
+  }
+
+  /**
+   * Empties all slots.
+   */
+  public void clear() {
+    Arrays.fill(keys, 0L);
+    Arrays.fill(entries, NO_ENTRY);
+  }
+
+  /**
+   * Gets the best move of an entry.
+   * @param entry packed entry.
+   * @return int packed move, 0 if none.
+   */
+  public static int getEntryMove(final long entry) {
+    return (int) (entry & 0xFFFF);
+  }
+
+  /**
+   * Gets the search depth of an entry.
+   * @param entry packed entry.
+   * @return int remaining search depth.
+   */
+  public static int getEntryDepth(final long entry) {
+    return (int) ((entry >>> 16) & 0xFF);
+  }
+
+  /**
+   * Gets the score bound of an entry.
+   * @param entry packed entry.
+   * @return int EXACT, LOWER_BOUND or UPPER_BOUND.
+   */
+  public static int getEntryBound(final long entry) {
+    return (int) ((entry >>> 24) & 0x3);
+  }
+
+  /**
+   * Gets the score of an entry.
+   * @param entry packed entry.
+   * @return int score.
+   */
+  public static int getEntryScore(final long entry) {
+    return (int) (entry >>> 32);
+  }
+}
@@ -0,0 +1,256 @@
+package com.BrethrenAce.GameEngine.record;
+
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only archive file of many GameRecords with random access by game ID.
+ * Records are stored back to back in the data file, and the offset of each is
+ * kept in an index file next to it, the data file name plus ".idx", as 8 byte
+ * big endian longs. Game IDs are index positions, starting at 0.
+ * The data file is read through read-only MappedByteBuffer segments, so any
+ * game or turn is replayed without reading the rest of the file. Segments
+ * overlap by the largest record size, so every record lies within the segment
+ * of its offset.
+ * Reading is thread safe, appending is serialized.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class GameArchive implements Closeable {
+
+  /** Suffix of the index file name */
+  public static final String INDEX_SUFFIX = ".idx";
+
+  /** Bytes of each data file segment, before the overlap */
+  private static final long SEGMENT_SIZE = 1L << 30;
+
+  /** Bytes of the largest record */
+  private static final int MAX_RECORD_SIZE = GameRecord.HEADER_SIZE + 2 * GameRecord.MAX_MOVES + 3;
+
+  /** Data file of the records */
+  private final FileChannel dataChannel;
+
+  /** Index file of the record offsets */
+  private final FileChannel indexChannel;
+
+  /** Offset of each game, followed by the end of the last game */
+  private long[] offsets;
+
+  /** Number of games */
+  private volatile int gameCount;
+
+  /** Mapped data segments, null until first read, never changed in place */
+  private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+  /**
+   * Constructor that opens or creates an archive.
+   * @param dataFile path of the data file.
+   * @throws IOException if the files cannot be opened.
+   */
+  public GameArchive(final Path dataFile) throws IOException {
+    this.dataChannel = FileChannel.open(dataFile, StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    this.indexChannel = FileChannel.open(Paths.get(dataFile + INDEX_SUFFIX),
+                                         StandardOpenOption.CREATE,
+                                         StandardOpenOption.READ, StandardOpenOption.WRITE);
+    loadIndex();
+  }
+
+  /**
+   * Reads the index file, dropping entries of records that were not fully
+   * written, e.g. if the process stopped while appending.
+   */
+  private void loadIndex() throws IOException {
+    final int entries = (int) (indexChannel.size() / Long.BYTES);
+    offsets = new long[Math.max(16, entries + 1)];
+    if (entries > 0) {
+      final ByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                                (long) entries * Long.BYTES);
+      index.order(ByteOrder.BIG_ENDIAN).asLongBuffer().get(offsets, 0, entries);
+    }
+
+    // The last entry is valid only if its whole record made it into the file.
+    int count = entries;
+    final long dataSize = dataChannel.size();
+    while (count > 0) {
+      final long offset = offsets[count - 1];
+      if (offset < dataSize && readRecordSize(offset, dataSize) > 0)
+        break;
+      count--;
+    }
+
+    gameCount = count;
+    offsets[count] = count == 0 ? 0 : offsets[count - 1] + readRecordSize(offsets[count - 1], dataSize);
+    indexChannel.truncate((long) count * Long.BYTES);
+    dataChannel.truncate(offsets[count]);
+  }
+
+  /**
+   * Gets the size of a record from its end word, without mapping the file.
+   * @return int size in bytes, else 0 if the record is cut short.
+   */
+  private int readRecordSize(final long offset, final long dataSize) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(MAX_RECORD_SIZE, dataSize - offset));
+    dataChannel.read(buffer, offset);
+    buffer.flip();
+    buffer.position(Math.min(buffer.limit(), GameRecord.HEADER_SIZE));
+    while (buffer.remaining() >= 3) {
+      if ((buffer.getShort() & 0xFFFF) == GameRecord.END_WORD)
+        return buffer.position() + 1;
+    }
+    return 0;
+  }
+
+  /**
+   * Appends a record.
+   * @param record GameRecord to store.
+   * @return int game ID of the record.
+   * @throws IOException if the files cannot be written.
+   */
+  public synchronized int append(final GameRecord record) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(record.getEncodedSize());
+    record.write(bytes);
+
+    final long offset = offsets[gameCount];
+    final ByteBuffer data = ByteBuffer.wrap(bytes.toByteArray());
+    while (data.hasRemaining())
+      dataChannel.write(data, offset + data.position());
+
+    final ByteBuffer index = ByteBuffer.allocate(Long.BYTES).putLong(0, offset);
+    while (index.hasRemaining())
+      indexChannel.write(index, (long) gameCount * Long.BYTES + index.position());
+
+    if (gameCount + 1 == offsets.length)
+      offsets = Arrays.copyOf(offsets, offsets.length * 2);
+    offsets[gameCount + 1] = offset + bytes.size();
+    return gameCount++;
+  }
+
+  /**
+   * Appends the record of a started Board.
+   * @param board started Board.
+   * @return int game ID of the record.
+   * @throws IOException if the files cannot be written.
+   */
+  public int append(final Board board) throws IOException {
+    return append(GameRecord.of(board));
+  }
+
+  /**
+   * Reads a record.
+   * @param gameId game ID, 0 to getGameCount() - 1.
+   * @return GameRecord of the game.
+   * @throws IOException if the record cannot be read.
+   */
+  public GameRecord getRecord(final int gameId) throws IOException {
+    if (gameId < 0 || gameId >= gameCount)
+      throw new IndexOutOfBoundsException("Game " + gameId + " of " + gameCount);
+
+    final long offset;
+    final long end;
+    synchronized (this) {
+      offset = offsets[gameId];
+      end = offsets[gameId + 1];
+    }
+
+    final int segment = (int) (offset / SEGMENT_SIZE);
+    final ByteBuffer buffer = getSegment(segment, end).duplicate();
+    buffer.position((int) (offset - segment * SEGMENT_SIZE));
+    buffer.limit((int) (end - segment * SEGMENT_SIZE));
+    return GameRecord.read(buffer);
+  }
+
+  /**
+   * Rebuilds the board state of a game at a turn.
+   * @param gameId game ID, 0 to getGameCount() - 1.
+   * @param turn number of moves to replay, 0 for the initial arrangement.
+   * @return BitBoard board state after the move of turn.
+   * @throws IOException if the record cannot be read.
+   */
+  public BitBoard createBitBoard(final int gameId, final int turn) throws IOException {
+    return getRecord(gameId).createBitBoard(turn);
+  }
+
+  /**
+   * Rebuilds a headless Board of a game at a turn.
+   * @param gameId game ID, 0 to getGameCount() - 1.
+   * @param turn number of moves to replay, 0 for the initial arrangement.
+   * @return Board started at the turn after the move of turn.
+   * @throws IOException if the record cannot be read.
+   */
+  public Board createBoard(final int gameId, final int turn) throws IOException {
+    return getRecord(gameId).createBoard(turn);
+  }
+
+  /**
+   * Gets a mapped data segment covering up to an end offset, mapping it again
+   * if the file has grown past its mapped size.
+   */
+  private MappedByteBuffer getSegment(final int segment, final long end) throws IOException {
+    MappedByteBuffer[] mapped = segments;
+    final long start = segment * SEGMENT_SIZE;
+    if (segment < mapped.length && mapped[segment] != null &&
+        start + mapped[segment].capacity() >= end)
+      return mapped[segment];
+
+    // The array is copied on write and published through the volatile field,
+    // so the unlocked reads above never see an element stored in place.
+    synchronized (this) {
+      mapped = segments;
+      if (segment < mapped.length && mapped[segment] != null &&
+          start + mapped[segment].capacity() >= end)
+        return mapped[segment];
+
+      final long size = Math.min(dataChannel.size() - start, SEGMENT_SIZE + MAX_RECORD_SIZE);
+      mapped = Arrays.copyOf(mapped, Math.max(mapped.length, segment + 1));
+      mapped[segment] = dataChannel.map(FileChannel.MapMode.READ_ONLY, start, size);
+      segments = mapped;
+      return mapped[segment];
+    }
+  }
+
+  /**
+   * Gets the number of games.
+   * @return int gameCount field.
+   */
+  public int getGameCount() {
+    return this.gameCount;
+  }
+
+  /**
+   * Gets the size of the data file.
+   * @return long bytes of all records.
+   */
+  public synchronized long getDataSize() {
+    return offsets[gameCount];
+  }
+
+  /**
+   * Forces appended records and index entries onto the disk.
+   * @throws IOException if the files cannot be written.
+   */
+  public void flush() throws IOException {
+    dataChannel.force(false);
+    indexChannel.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    dataChannel.close();
+    indexChannel.close();
+  }
+}
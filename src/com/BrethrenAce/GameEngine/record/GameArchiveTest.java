@@ -0,0 +1,95 @@
+package com.BrethrenAce.GameEngine.record;
+
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.TestBoards;
+import com.BrethrenAce.GameEngine.player.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameArchiveTest {
+
+    /**
+     * Plays random moves on a headless demo Board and returns its record.
+     */
+    private static GameRecord playRandomGame(final long seed, final int turns) {
+        final Board board = TestBoards.demoBoard();
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        while (board.getCurrentTurn() <= turns && !board.isEndGame()) {
+            final Player player = board.getPlayer(board.getMoveMaker());
+            final int moveCount = MoveGenerator.generateMoves(board, player.getAlliance(), moves);
+            if (moveCount == 0)
+                break;
+            final int move = moves[random.nextInt(moveCount)];
+            assertTrue(player.makeMove(Move.getPackedOrigin(move), Move.getPackedDestination(move)));
+        }
+        return GameRecord.of(board);
+    }
+
+    @Test
+    void appendAndReplay(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("games.bagr");
+        final List<GameRecord> records = new ArrayList<>();
+        try (GameArchive archive = new GameArchive(file)) {
+            for (int i = 0; i < 6; i++) {
+                records.add(playRandomGame(i, 20 + i * 10));
+                assertEquals(i, archive.append(records.get(i)));
+            }
+            assertEquals(6, archive.getGameCount());
+
+            // Read newest first, so later segments are mapped before earlier ones.
+            for (int id = records.size() - 1; id >= 0; id--) {
+                final GameRecord record = records.get(id);
+                final GameRecord read = archive.getRecord(id);
+                assertEquals(record.getMoveCount(), read.getMoveCount());
+                for (int turn = 0; turn <= record.getMoveCount(); turn += 5)
+                    assertEquals(record.createBitBoard(turn).getZobristHash(),
+                                 archive.createBitBoard(id, turn).getZobristHash());
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.getRecord(6));
+        }
+
+        try (GameArchive archive = new GameArchive(file)) {
+            assertEquals(6, archive.getGameCount());
+            final GameRecord record = records.get(3);
+            final Board board = archive.createBoard(3, record.getMoveCount());
+            assertEquals(record.createBitBoard(record.getMoveCount()).getZobristHash(),
+                         board.getBitBoard().getZobristHash());
+        }
+    }
+
+    @Test
+    void dropsPartialAppend(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("games.bagr");
+        final long dataSize;
+        try (GameArchive archive = new GameArchive(file)) {
+            archive.append(playRandomGame(1, 30));
+            dataSize = archive.getDataSize();
+            archive.append(playRandomGame(2, 30));
+        }
+
+        // Cut the last record short, as if the process stopped while appending.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+
+        try (GameArchive archive = new GameArchive(file)) {
+            assertEquals(1, archive.getGameCount());
+            assertEquals(dataSize, archive.getDataSize());
+            assertEquals(1, archive.append(playRandomGame(3, 30)));
+            assertNotNull(archive.getRecord(1));
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.BrethrenAce.GameEngine.record;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.BoardState;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameEngine.player.Player;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact binary record of a whole game: the initial arrangement and every
+ * executed move. Any turn can be rebuilt by replaying the moves.
+ *
+ * Format, all words big endian:
+ * header of 4 bytes magic "BAGR", 1 byte version, 1 byte first move maker
+ * Alliance ordinal, then 72 layout bytes, one per Tile, 0 if empty, else the
+ * rank code plus 16 times the Alliance ordinal.
+ * Body of 16 bit words, either a packed move from Move.getPackedMove() with
+ * its NORMAL, ATTACKING or DRAW move type, a rewind word 0xC000 plus the
+ * number of moves kept when a move is made after undoing, or the end word
+ * 0xFFFF followed by 1 winner byte, 0 if none, else 1 plus the Alliance
+ * ordinal. A record cut short without end word is read up to its last move.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class GameRecord {
+
+  /** First bytes of every record */
+  public static final byte[] MAGIC = {'B', 'A', 'G', 'R'};
+
+  /** Version of the format */
+  public static final int VERSION = 1;
+
+  /** Bytes of the header, magic, version, first move maker and layout */
+  public static final int HEADER_SIZE = MAGIC.length + 2 + BoardUtils.ALL_TILES_COUNT;
+
+  /** Rewind word tag, the low 14 bits being the number of moves kept */
+  static final int REWIND_TAG = 0xC000;
+
+  /** End word, followed by the winner byte */
+  static final int END_WORD = 0xFFFF;
+
+  /** Longest record, in moves, the rewind word can address */
+  public static final int MAX_MOVES = 0x3FFE;
+
+  /** Initial arrangement, one byte per Tile */
+  private final byte[] layout;
+
+  /** Alliance making the first move */
+  private final Alliance firstMoveMaker;
+
+  /** Packed 16 bit moves of each turn, turn 1 at index 0 */
+  private short[] moves;
+
+  /** Number of moves */
+  private int moveCount;
+
+  /** Winner of the game, else null if unfinished */
+  private Alliance winner;
+
+  /**
+   * Constructor that takes in the initial arrangement and first move maker.
+   * @param layout 72 layout bytes.
+   * @param firstMoveMaker Alliance making the first move.
+   */
+  public GameRecord(final byte[] layout, final Alliance firstMoveMaker) {
+    if (layout.length != BoardUtils.ALL_TILES_COUNT)
+      throw new IllegalArgumentException("Layout must have " + BoardUtils.ALL_TILES_COUNT + " bytes");
+    this.layout = layout.clone();
+    this.firstMoveMaker = firstMoveMaker;
+    this.moves = new short[64];
+  }
+
+  /**
+   * Encodes a board state into layout bytes.
+   * @param board board state to encode.
+   * @return byte[] 72 layout bytes.
+   */
+  public static byte[] encodeLayout(final BoardState board) {
+    final byte[] layout = new byte[BoardUtils.ALL_TILES_COUNT];
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      if (board.isTileOccupied(i))
+        layout[i] = (byte) (board.getPieceRank(i) | board.getPieceAlliance(i).ordinal() << 4);
+    }
+    return layout;
+  }
+
+  /**
+   * Creates the record of a started Board, with its initial arrangement and
+   * its move history up to the current turn.
+   * @param board started Board.
+   * @return GameRecord of the Board.
+   */
+  public static GameRecord of(final Board board) {
+    final GameRecord record = new GameRecord(encodeLayout(board.getInitBoardState()),
+                                             board.getFirstMoveMaker());
+    for (int turn = 1; turn < board.getCurrentTurn(); turn++)
+      record.addMove(board.getMoveLog().getPackedMove(turn));
+    record.setWinner(board.getEndGameWinner());
+    return record;
+  }
+
+  /**
+   * Appends the move of the next turn.
+   * @param packedMove packed move from Move.getPackedMove().
+   */
+  public void addMove(final int packedMove) {
+    if (moveCount == MAX_MOVES)
+      throw new IllegalStateException("Game record is full");
+    if (moveCount == moves.length)
+      moves = Arrays.copyOf(moves, moves.length * 2);
+    moves[moveCount++] = (short) packedMove;
+  }
+
+  /**
+   * Drops the moves after a turn, e.g. when a move is made after undoing.
+   * @param count number of moves to keep.
+   */
+  public void truncate(final int count) {
+    moveCount = Math.max(0, Math.min(moveCount, count));
+  }
+
+  /**
+   * Reads a whole record.
+   * @param in stream positioned at the start of a record.
+   * @return GameRecord read.
+   * @throws IOException if the stream fails or is not a game record.
+   */
+  public static GameRecord read(final InputStream in) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+    final byte[] magic = new byte[MAGIC.length];
+    data.readFully(magic);
+    if (!Arrays.equals(magic, MAGIC))
+      throw new IOException("Not a game record");
+    final int version = data.readUnsignedByte();
+    if (version != VERSION)
+      throw new IOException("Unsupported game record version " + version);
+    final Alliance firstMoveMaker = Alliance.values()[data.readUnsignedByte() & 1];
+    final byte[] layout = new byte[BoardUtils.ALL_TILES_COUNT];
+    data.readFully(layout);
+
+    final GameRecord record = new GameRecord(layout, firstMoveMaker);
+    while (true) {
+      final int word;
+      try {
+        word = data.readUnsignedShort();
+      } catch (final EOFException e) {
+        return record;
+      }
+
+      if (word == END_WORD) {
+        final int winner = data.read();
+        record.setWinner(winner <= 0 ? null : Alliance.values()[(winner - 1) & 1]);
+        return record;
+      } else if ((word & REWIND_TAG) == REWIND_TAG) {
+        record.truncate(word & ~REWIND_TAG);
+      } else {
+        record.addMove(word);
+      }
+    }
+  }
+
+  /**
+   * Reads a whole record from a buffer, e.g. a mapped file region.
+   * @param buffer buffer positioned at the start of a record, left after it.
+   * @return GameRecord read.
+   * @throws IOException if the buffer is not a game record.
+   */
+  public static GameRecord read(final ByteBuffer buffer) throws IOException {
+    final byte[] magic = new byte[MAGIC.length];
+    try {
+      buffer.get(magic);
+      if (!Arrays.equals(magic, MAGIC))
+        throw new IOException("Not a game record");
+      final int version = buffer.get() & 0xFF;
+      if (version != VERSION)
+        throw new IOException("Unsupported game record version " + version);
+      final Alliance firstMoveMaker = Alliance.values()[buffer.get() & 1];
+      final byte[] layout = new byte[BoardUtils.ALL_TILES_COUNT];
+      buffer.get(layout);
+
+      final GameRecord record = new GameRecord(layout, firstMoveMaker);
+      while (buffer.remaining() >= 2) {
+        final int word = buffer.getShort() & 0xFFFF;
+        if (word == END_WORD) {
+          final int winner = buffer.hasRemaining() ? buffer.get() & 0xFF : 0;
+          record.setWinner(winner == 0 ? null : Alliance.values()[(winner - 1) & 1]);
+          break;
+        } else if ((word & REWIND_TAG) == REWIND_TAG) {
+          record.truncate(word & ~REWIND_TAG);
+        } else {
+          record.addMove(word);
+        }
+      }
+      return record;
+    } catch (final BufferUnderflowException e) {
+      throw new IOException("Game record is cut short", e);
+    }
+  }
+
+  /**
+   * Writes this whole record.
+   * @param out stream to write into, left open.
+   * @throws IOException if the stream fails.
+   */
+  public void write(final OutputStream out) throws IOException {
+    final DataOutputStream data = new DataOutputStream(out);
+    writeHeader(data, layout, firstMoveMaker);
+    for (int i = 0; i < moveCount; i++)
+      data.writeShort(moves[i]);
+    writeEnd(data, winner);
+    data.flush();
+  }
+
+  /**
+   * Writes the header of a record.
+   */
+  static void writeHeader(final DataOutputStream data, final byte[] layout,
+                          final Alliance firstMoveMaker) throws IOException {
+    data.write(MAGIC);
+    data.writeByte(VERSION);
+    data.writeByte(firstMoveMaker.ordinal());
+    data.write(layout);
+  }
+
+  /**
+   * Writes the end word and winner byte of a record.
+   */
+  static void writeEnd(final DataOutputStream data, final Alliance winner) throws IOException {
+    data.writeShort(END_WORD);
+    data.writeByte(winner == null ? 0 : winner.ordinal() + 1);
+  }
+
+  /**
+   * Gets the size of this record when written.
+   * @return int size in bytes.
+   */
+  public int getEncodedSize() {
+    return HEADER_SIZE + 2 * moveCount + 3;
+  }
+
+  /**
+   * Creates the initial arrangement as a BitBoard.
+   * @return BitBoard initial arrangement.
+   */
+  public BitBoard createInitialBitBoard() {
+    final BitBoard board = new BitBoard();
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      if (layout[i] != 0)
+        board.setPiece(i, Alliance.values()[(layout[i] >> 4) & 1], (byte) (layout[i] & 0xF));
+    }
+    return board;
+  }
+
+  /**
+   * Rebuilds the board state at a turn.
+   * @param turn number of moves to replay, 0 for the initial arrangement.
+   * @return BitBoard board state after the move of turn.
+   */
+  public BitBoard createBitBoard(final int turn) {
+    final BitBoard board = createInitialBitBoard();
+    for (int i = 0; i < Math.min(turn, moveCount); i++)
+      board.makeMove(moves[i] & 0xFFFF);
+    return board;
+  }
+
+  /**
+   * Creates a BoardBuilder of the initial arrangement.
+   * @return BoardBuilder with the pieces of the layout.
+   */
+  public Board.BoardBuilder createBoardBuilder() {
+    final Board.BoardBuilder builder = new Board.BoardBuilder();
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      if (layout[i] == 0)
+        continue;
+      final Alliance alliance = Alliance.values()[(layout[i] >> 4) & 1];
+      final Piece piece = Rank.fromCode(layout[i] & 0xF).createPiece(null, alliance);
+      piece.setPieceCoords(i);
+      builder.setPiece(piece);
+    }
+    return builder;
+  }
+
+  /**
+   * Rebuilds a headless Board at a turn, with the moves up to that turn in
+   * the Player move history so they can be undone.
+   * @param turn number of moves to replay, 0 for the initial arrangement.
+   * @return Board started at the turn after the move of turn.
+   */
+  public Board createBoard(final int turn) {
+    final Board board = new Board(new Player(null, Alliance.AXIS), new Player(null, Alliance.ALLY));
+    board.setHeadless(true);
+    board.setBoardBuilder(createBoardBuilder());
+    board.initGame();
+    if (board.getMoveMaker() != firstMoveMaker)
+      board.setMoveMaker(board.getPlayer(firstMoveMaker));
+    board.startGame();
+    replay(board, turn);
+    return board;
+  }
+
+  /**
+   * Replays the moves of this record into a Board started from its initial
+   * arrangement, from its current turn up to a turn.
+   * @param board Board started from createBoardBuilder().
+   * @param turn number of moves to replay, at most getMoveCount().
+   * @return boolean true if every move was executed, else false.
+   */
+  public boolean replay(final Board board, final int turn) {
+    for (int i = board.getCurrentTurn() - 1; i < Math.min(turn, moveCount); i++) {
+      final int packedMove = moves[i] & 0xFFFF;
+      if (!board.getPlayer(board.getMoveMaker()).makeMove(Move.getPackedOrigin(packedMove),
+                                                         Move.getPackedDestination(packedMove)))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the initial arrangement layout bytes.
+   * @return byte[] copy of the layout field.
+   */
+  public byte[] getLayout() {
+    return this.layout.clone();
+  }
+
+  /**
+   * Gets the Alliance making the first move.
+   * @return Alliance firstMoveMaker field.
+   */
+  public Alliance getFirstMoveMaker() {
+    return this.firstMoveMaker;
+  }
+
+  /**
+   * Gets the number of moves.
+   * @return int moveCount field.
+   */
+  public int getMoveCount() {
+    return this.moveCount;
+  }
+
+  /**
+   * Gets the packed move of a turn.
+   * @param turn turn of the move, 1 to getMoveCount().
+   * @return int packed move.
+   */
+  public int getPackedMove(final int turn) {
+    if (turn < 1 || turn > moveCount)
+      throw new IndexOutOfBoundsException("Turn " + turn + " of " + moveCount);
+    return moves[turn - 1] & 0xFFFF;
+  }
+
+  /**
+   * Gets the winner of the game.
+   * @return Alliance winner field, else null if unfinished.
+   */
+  public Alliance getWinner() {
+    return this.winner;
+  }
+
+  /**
+   * Sets the winner of the game.
+   * @param winner Alliance of the winner, null if unfinished.
+   */
+  public void setWinner(final Alliance winner) {
+    this.winner = winner;
+  }
+}
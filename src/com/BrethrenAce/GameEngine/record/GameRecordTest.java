@@ -0,0 +1,86 @@
+package com.BrethrenAce.GameEngine.record;
+
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.TestBoards;
+import com.BrethrenAce.GameEngine.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordTest {
+
+    /**
+     * Plays random moves on a headless demo Board, with a few undos, and
+     * returns the Zobrist hash after each kept turn.
+     */
+    private static List<Long> playRandomGame(final Board board, final int turns) {
+        final SplittableRandom random = new SplittableRandom(3);
+        final int[] moves = new int[MoveGenerator.MAX_MOVES];
+        final List<Long> hashes = new ArrayList<>();
+        hashes.add(board.getBitBoard().getZobristHash());
+
+        while (board.getCurrentTurn() <= turns && !board.isEndGame()) {
+            final Player player = board.getPlayer(board.getMoveMaker());
+            final int moveCount = MoveGenerator.generateMoves(board, player.getAlliance(), moves);
+            if (moveCount == 0)
+                break;
+            final int move = moves[random.nextInt(moveCount)];
+            assertTrue(player.makeMove(Move.getPackedOrigin(move), Move.getPackedDestination(move)));
+            hashes.add(board.getBitBoard().getZobristHash());
+
+            if (random.nextInt(8) == 0 && !board.isEndGame() &&
+                board.getPlayer(board.getMoveMaker()).undoLastMove())
+                hashes.remove(hashes.size() - 1);
+        }
+        return hashes;
+    }
+
+    @Test
+    void streamAndRebuild() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Board board = TestBoards.initDemoBoard();
+        board.setRecordWriter(new GameRecordWriter(bytes));
+        board.startGame();
+        final List<Long> hashes = playRandomGame(board, 60);
+
+        final GameRecord record = GameRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(hashes.size() - 1, record.getMoveCount());
+        assertEquals(board.getEndGameWinner(), record.getWinner());
+        for (int turn = 0; turn < hashes.size(); turn++)
+            assertEquals(hashes.get(turn), record.createBitBoard(turn).getZobristHash());
+
+        final Board rebuilt = record.createBoard(record.getMoveCount() / 2);
+        assertEquals(record.getMoveCount() / 2 + 1, rebuilt.getCurrentTurn());
+        assertEquals(hashes.get(record.getMoveCount() / 2), rebuilt.getBitBoard().getZobristHash());
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        final Board board = TestBoards.demoBoard();
+        playRandomGame(board, 40);
+
+        final GameRecord record = GameRecord.of(board);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        record.write(bytes);
+        assertEquals(record.getEncodedSize(), bytes.size());
+        assertEquals(GameRecord.HEADER_SIZE + 2 * record.getMoveCount() + 3, bytes.size());
+
+        final GameRecord read = GameRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertArrayEquals(record.getLayout(), read.getLayout());
+        assertEquals(record.getFirstMoveMaker(), read.getFirstMoveMaker());
+        for (int turn = 1; turn <= record.getMoveCount(); turn++)
+            assertEquals(record.getPackedMove(turn), read.getPackedMove(turn));
+        final BitBoard current = read.createBitBoard(read.getMoveCount());
+        assertEquals(board.getBitBoard().getZobristHash(), current.getZobristHash());
+    }
+}
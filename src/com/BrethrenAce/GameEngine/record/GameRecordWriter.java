@@ -0,0 +1,105 @@
+package com.BrethrenAce.GameEngine.record;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Move;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streaming writer of a GameRecord. Set into a Board with
+ * Board.setRecordWriter(), it writes the header when the game starts and
+ * appends every move as it is recorded into the Player move history, so an
+ * interrupted game is still readable up to its last move.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class GameRecordWriter implements Closeable {
+
+  /** Stream of the record */
+  private final DataOutputStream out;
+
+  /** Moves written since the last rewind */
+  private int moveCount;
+
+  /** Whether the header was written */
+  private boolean started;
+
+  /** Whether the end word was written */
+  private boolean finished;
+
+  /**
+   * Constructor that takes in the stream to write the record into.
+   * @param out stream of the record, closed by close().
+   */
+  public GameRecordWriter(final OutputStream out) {
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+  }
+
+  /**
+   * Writes the header from the initial arrangement of a started Board.
+   * @param board started Board.
+   * @throws IOException if the stream fails.
+   */
+  public void start(final Board board) throws IOException {
+    if (started)
+      return;
+    GameRecord.writeHeader(out, GameRecord.encodeLayout(board.getInitBoardState()),
+                           board.getFirstMoveMaker());
+    out.flush();
+    started = true;
+  }
+
+  /**
+   * Appends an executed move, writing a rewind word first if the move
+   * replaces undone moves.
+   * @param move executed Move.
+   * @throws IOException if the stream fails.
+   */
+  public void append(final Move move) throws IOException {
+    if (!started || finished)
+      return;
+    final int keptMoves = move.getTurnId() - 1;
+    if (keptMoves != moveCount) {
+      out.writeShort(GameRecord.REWIND_TAG | keptMoves);
+      moveCount = keptMoves;
+    }
+    if (moveCount == GameRecord.MAX_MOVES)
+      throw new IOException("Game record is full");
+    out.writeShort(move.getPackedMove());
+    moveCount++;
+    out.flush();
+  }
+
+  /**
+   * Writes the end word and winner.
+   * @param winner Alliance of the winner, null if unfinished.
+   * @throws IOException if the stream fails.
+   */
+  public void finish(final Alliance winner) throws IOException {
+    if (!started || finished)
+      return;
+    GameRecord.writeEnd(out, winner);
+    out.flush();
+    finished = true;
+  }
+
+  /**
+   * Checks if the end word was written.
+   * @return boolean finished field.
+   */
+  public boolean isFinished() {
+    return this.finished;
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
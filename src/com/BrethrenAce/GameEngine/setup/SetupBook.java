@@ -0,0 +1,262 @@
+package com.BrethrenAce.GameEngine.setup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Library file of initial layouts and their self-play scores.
+ * Entries have a fixed size of ENTRY_SIZE bytes, so the setup ID of an entry
+ * is its position in the file and its offset is setupId * ENTRY_SIZE. Each
+ * entry holds the encoded SetupLayout followed by the number of games it was
+ * evaluated with and the points it scored, 2 per win and 1 per draw, as big
+ * endian ints. Scores are updated in place.
+ * The whole book is loaded when opened, a thousand layouts taking 26 KB, and
+ * layouts are looked up by their hash, so a strong layout is served without
+ * reading the file again.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class SetupBook implements Closeable {
+
+  /** Bytes of each entry */
+  public static final int ENTRY_SIZE = SetupLayout.ENCODED_SIZE + 2 * Integer.BYTES;
+
+  /** Share of the scored layouts served by getStrongLayout() */
+  public static final double STRONG_FRACTION = 0.1;
+
+  /** Book file */
+  private final FileChannel channel;
+
+  /** Layout of each setup ID */
+  private final List<SetupLayout> layouts = new ArrayList<>();
+
+  /** Setup ID of each layout hash */
+  private final Map<Long, Integer> setupIds = new HashMap<>();
+
+  /** Games of each setup ID */
+  private int[] games = new int[16];
+
+  /** Points of each setup ID */
+  private int[] points = new int[16];
+
+  /** Scored setup IDs from the strongest, null when scores changed */
+  private int[] strongestIds;
+
+  /**
+   * Constructor that opens or creates a book.
+   * @param file path of the book file.
+   * @throws IOException if the file cannot be opened.
+   */
+  public SetupBook(final Path file) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+    load();
+  }
+
+  /**
+   * Reads every entry, dropping an entry that was not fully written, e.g. if
+   * the process stopped while adding it.
+   */
+  private void load() throws IOException {
+    final int entries = (int) (channel.size() / ENTRY_SIZE);
+    final ByteBuffer buffer = ByteBuffer.allocate(entries * ENTRY_SIZE);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, buffer.position()) < 0)
+        break;
+    }
+    buffer.flip();
+
+    for (int i = 0; i < entries; i++) {
+      final SetupLayout layout = SetupLayout.read(buffer);
+      ensureCapacity(i + 1);
+      games[i] = buffer.getInt();
+      points[i] = buffer.getInt();
+      setupIds.put(layout.getHash(), i);
+      layouts.add(layout);
+    }
+    channel.truncate((long) entries * ENTRY_SIZE);
+  }
+
+  /**
+   * Adds a layout without score, unless the book has it already.
+   * @param layout SetupLayout to add.
+   * @return int setup ID of the layout.
+   * @throws IOException if the file cannot be written.
+   */
+  public synchronized int add(final SetupLayout layout) throws IOException {
+    final Integer existingId = setupIds.get(layout.getHash());
+    if (existingId != null)
+      return existingId;
+
+    final int setupId = layouts.size();
+    final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+    layout.write(entry);
+    entry.putInt(0).putInt(0).flip();
+    write(entry, (long) setupId * ENTRY_SIZE);
+
+    ensureCapacity(setupId + 1);
+    setupIds.put(layout.getHash(), setupId);
+    layouts.add(layout);
+    return setupId;
+  }
+
+  /**
+   * Sets the score of a layout, replacing its previous score.
+   * @param setupId setup ID, 0 to size() - 1.
+   * @param games number of games played by the layout.
+   * @param points points scored, 2 per win and 1 per draw.
+   * @throws IOException if the file cannot be written.
+   */
+  public synchronized void setScore(final int setupId, final int games, final int points)
+    throws IOException {
+    checkSetupId(setupId);
+    final ByteBuffer score = ByteBuffer.allocate(2 * Integer.BYTES).putInt(games).putInt(points);
+    score.flip();
+    write(score, (long) setupId * ENTRY_SIZE + SetupLayout.ENCODED_SIZE);
+
+    this.games[setupId] = games;
+    this.points[setupId] = points;
+    this.strongestIds = null;
+  }
+
+  /**
+   * Writes a buffer fully at an offset of the file.
+   */
+  private void write(final ByteBuffer buffer, final long offset) throws IOException {
+    while (buffer.hasRemaining())
+      channel.write(buffer, offset + buffer.position());
+  }
+
+  /**
+   * Grows the score arrays to hold a number of entries.
+   */
+  private void ensureCapacity(final int entries) {
+    if (entries > games.length) {
+      games = Arrays.copyOf(games, Math.max(entries, games.length * 2));
+      points = Arrays.copyOf(points, games.length);
+    }
+  }
+
+  /**
+   * Throws IndexOutOfBoundsException if a setup ID is not in the book.
+   */
+  private void checkSetupId(final int setupId) {
+    if (setupId < 0 || setupId >= layouts.size())
+      throw new IndexOutOfBoundsException("Setup " + setupId + " of " + layouts.size());
+  }
+
+  /**
+   * Picks a random layout among the strongest STRONG_FRACTION of the scored
+   * layouts, or among all layouts if none is scored yet.
+   * @param random random source of the pick.
+   * @return SetupLayout strong layout, else null if the book is empty.
+   */
+  public synchronized SetupLayout getStrongLayout(final SplittableRandom random) {
+    if (layouts.isEmpty())
+      return null;
+
+    if (strongestIds == null)
+      strongestIds = rankScoredLayouts();
+    if (strongestIds.length == 0)
+      return layouts.get(random.nextInt(layouts.size()));
+
+    final int candidates = Math.max(1, (int) (strongestIds.length * STRONG_FRACTION));
+    return layouts.get(strongestIds[random.nextInt(candidates)]);
+  }
+
+  /**
+   * Sorts the scored setup IDs from the strongest.
+   */
+  private int[] rankScoredLayouts() {
+    return IntStream.range(0, layouts.size())
+      .filter(id -> games[id] > 0)
+      .boxed()
+      .sorted((first, second) -> Double.compare(getStrength(second), getStrength(first)))
+      .mapToInt(Integer::intValue)
+      .toArray();
+  }
+
+  /**
+   * Gets the layout of a setup ID.
+   * @param setupId setup ID, 0 to size() - 1.
+   * @return SetupLayout of the setup ID.
+   */
+  public synchronized SetupLayout getLayout(final int setupId) {
+    checkSetupId(setupId);
+    return layouts.get(setupId);
+  }
+
+  /**
+   * Gets the setup ID of a layout.
+   * @param layout SetupLayout to look up.
+   * @return int setup ID, else -1 if not in the book.
+   */
+  public synchronized int getSetupId(final SetupLayout layout) {
+    return setupIds.getOrDefault(layout.getHash(), -1);
+  }
+
+  /**
+   * Gets the number of games a layout was evaluated with.
+   * @param setupId setup ID, 0 to size() - 1.
+   * @return int games, 0 if not scored.
+   */
+  public synchronized int getGames(final int setupId) {
+    checkSetupId(setupId);
+    return games[setupId];
+  }
+
+  /**
+   * Gets the points a layout scored.
+   * @param setupId setup ID, 0 to size() - 1.
+   * @return int points, 2 per win and 1 per draw.
+   */
+  public synchronized int getPoints(final int setupId) {
+    checkSetupId(setupId);
+    return points[setupId];
+  }
+
+  /**
+   * Gets the expected score of a layout, counting one drawn game more than
+   * played so layouts scored with few games are not ranked first by luck.
+   * @param setupId setup ID, 0 to size() - 1.
+   * @return double score from 0 to 1, 0.5 if not scored.
+   */
+  public synchronized double getStrength(final int setupId) {
+    checkSetupId(setupId);
+    return (points[setupId] + 1.0) / (2.0 * games[setupId] + 2.0);
+  }
+
+  /**
+   * Gets the number of layouts.
+   * @return int size of the book.
+   */
+  public synchronized int size() {
+    return layouts.size();
+  }
+
+  /**
+   * Forces the written entries to the storage device.
+   * @throws IOException if the file cannot be written.
+   */
+  public void flush() throws IOException {
+    channel.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,106 @@
+package com.BrethrenAce.GameEngine.setup;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SetupBookTest {
+
+    @Test
+    void layout() {
+        final SetupLayout layout = SetupLayout.random(new SplittableRandom(1));
+        final ByteBuffer buffer = ByteBuffer.allocate(SetupLayout.ENCODED_SIZE);
+        layout.write(buffer);
+        buffer.flip();
+        assertEquals(layout, SetupLayout.read(buffer));
+
+        // Same layout from both sides of the board.
+        final BitBoard board = new BitBoard();
+        layout.placeOn(board, Alliance.AXIS);
+        layout.placeOn(board, Alliance.ALLY);
+        for (final Rank rank : Rank.values()) {
+            assertEquals(rank.getLegalPieceInstanceCount(), board.countPieces(Alliance.AXIS, rank.getCode()));
+            assertEquals(rank.getLegalPieceInstanceCount(), board.countPieces(Alliance.ALLY, rank.getCode()));
+        }
+        assertEquals(layout, SetupLayout.of(board, Alliance.AXIS));
+        assertEquals(layout.getHash(), SetupLayout.of(board, Alliance.ALLY).getHash());
+        assertEquals(BitBoard.FLAG_RANK, board.getPieceRank(board.getFlagCoords(Alliance.AXIS)));
+    }
+
+    @Test
+    void addAndReopen(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("setups.book");
+        final SplittableRandom random = new SplittableRandom(2);
+        final List<SetupLayout> layouts = new ArrayList<>();
+        try (SetupBook book = new SetupBook(file)) {
+            for (int i = 0; i < 40; i++) {
+                layouts.add(SetupLayout.random(random));
+                assertEquals(i, book.add(layouts.get(i)));
+                book.setScore(i, 10, i % 21);
+            }
+            assertEquals(7, book.add(layouts.get(7)));
+            assertEquals(40, book.size());
+        }
+
+        // Entry cut short by a crash.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(SetupBook.ENTRY_SIZE - 1));
+        }
+
+        try (SetupBook book = new SetupBook(file)) {
+            assertEquals(40, book.size());
+            for (int i = 0; i < layouts.size(); i++) {
+                assertEquals(layouts.get(i), book.getLayout(i));
+                assertEquals(i, book.getSetupId(layouts.get(i)));
+                assertEquals(10, book.getGames(i));
+                assertEquals(i % 21, book.getPoints(i));
+            }
+            assertEquals(-1, book.getSetupId(SetupLayout.random(random)));
+            assertEquals(40, book.add(SetupLayout.random(random)));
+        }
+        assertEquals(41L * SetupBook.ENTRY_SIZE, file.toFile().length());
+    }
+
+    @Test
+    void getStrongLayout(@TempDir final Path dir) throws IOException {
+        final SplittableRandom random = new SplittableRandom(3);
+        try (SetupBook book = new SetupBook(dir.resolve("setups.book"))) {
+            assertNull(book.getStrongLayout(random));
+            for (int i = 0; i < 30; i++)
+                book.add(SetupLayout.random(random));
+
+            // Unscored layouts are all served.
+            assertNotNull(book.getStrongLayout(random));
+
+            // Top 10% of the 20 scored layouts, i.e. the 2 strongest.
+            for (int i = 0; i < 20; i++)
+                book.setScore(i, 20, i == 5 ? 40 : i == 12 ? 38 : i);
+            for (int i = 0; i < 50; i++) {
+                final int setupId = book.getSetupId(book.getStrongLayout(random));
+                assertTrue(setupId == 5 || setupId == 12);
+            }
+
+            final BoardBuilder builder = new BoardBuilder().createBookBuild(book, random);
+            final BitBoard board = new BitBoard();
+            builder.getBoardConfig().forEach(board::setPiece);
+            for (final Alliance alliance : Alliance.values()) {
+                final int setupId = book.getSetupId(SetupLayout.of(board, alliance));
+                assertTrue(setupId == 5 || setupId == 12);
+            }
+        }
+    }
+}
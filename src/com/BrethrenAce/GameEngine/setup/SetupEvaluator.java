@@ -0,0 +1,322 @@
+package com.BrethrenAce.GameEngine.setup;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.simulation.GameStrategies;
+import com.BrethrenAce.GameEngine.simulation.GameStrategy;
+import com.BrethrenAce.GameEngine.simulation.SeededSupplier;
+import com.BrethrenAce.GameEngine.simulation.SelfPlaySimulator;
+import com.BrethrenAce.GameEngine.simulation.SimulationResult;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores initial layouts by self-play against a reference pool of opposing
+ * layouts. Each layout plays a batch of games, half as ALLY and half as AXIS,
+ * every game against a layout picked from the pool and with both sides played
+ * by the same GameStrategy. Layouts are evaluated in parallel, one batch per
+ * task, and each game is seeded from the seed and the layout hash, so scores
+ * do not depend on the number of threads.
+ * Scores are cached by layout hash, and evaluate(SetupBook) stores them into
+ * the book, so a layout is never evaluated twice.
+ * Usage: SetupEvaluator [book file] [new layouts] [games per layout]
+ * [threads] [seed] [strategy], strategies being named as in
+ * GameStrategies.fromName().
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class SetupEvaluator {
+
+  /** Default games of each layout */
+  public static final int DEFAULT_GAMES_PER_LAYOUT = 32;
+
+  /** Default layouts of a random reference pool */
+  public static final int DEFAULT_POOL_SIZE = 64;
+
+  /** Default plies of a game before it is stopped as a draw */
+  public static final int DEFAULT_MAX_PLIES = 300;
+
+  /** Opposing layouts of the games */
+  private final List<SetupLayout> referencePool;
+
+  /** Creates the strategy of both sides of each game */
+  private final SeededSupplier<GameStrategy> strategy;
+
+  /** Score of each evaluated layout hash */
+  private final Map<Long, Score> scores = new ConcurrentHashMap<>();
+
+  /** Games of each layout */
+  private int gamesPerLayout = DEFAULT_GAMES_PER_LAYOUT;
+
+  /** Plies of a game before it is stopped as a draw */
+  private int maxPlies = DEFAULT_MAX_PLIES;
+
+  /** Number of worker threads */
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  /** Seed of the games */
+  private long seed;
+
+  /**
+   * Constructor that takes in the reference pool and the strategy of both
+   * sides.
+   * @param referencePool opposing layouts, at least one.
+   * @param strategy creates the strategy of both sides of each game.
+   */
+  public SetupEvaluator(final List<SetupLayout> referencePool,
+                        final SeededSupplier<GameStrategy> strategy) {
+    if (referencePool.isEmpty())
+      throw new IllegalArgumentException("Reference pool is empty");
+    this.referencePool = new ArrayList<>(referencePool);
+    this.strategy = strategy;
+  }
+
+  /**
+   * Creates a reference pool of random layouts.
+   * @param size number of layouts.
+   * @param random random source of the layouts.
+   * @return List of random SetupLayouts.
+   */
+  public static List<SetupLayout> randomPool(final int size, final SplittableRandom random) {
+    final List<SetupLayout> pool = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+      pool.add(SetupLayout.random(random));
+    return pool;
+  }
+
+  /**
+   * Scores a layout, playing its games unless cached. The games are played
+   * outside of the cache, so a batch does not hold a lock of the map. The
+   * same layout scored by two threads at once plays twice, to the same Score
+   * since the games are seeded from the layout hash.
+   * @param layout SetupLayout to score.
+   * @return Score of the layout.
+   */
+  public Score evaluate(final SetupLayout layout) {
+    final Score cached = scores.get(layout.getHash());
+    if (cached != null)
+      return cached;
+
+    final Score score = playGames(layout);
+    final Score previous = scores.putIfAbsent(layout.getHash(), score);
+    return previous != null ? previous : score;
+  }
+
+  /**
+   * Scores layouts in parallel.
+   * @param layouts SetupLayouts to score.
+   * @return List of Scores in the order of the layouts.
+   * @throws InterruptedException if interrupted while waiting for the games.
+   */
+  public List<Score> evaluate(final List<SetupLayout> layouts) throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Score> results = new ArrayList<>(layouts.size());
+
+    try {
+      final List<Future<Score>> batches = new ArrayList<>(layouts.size());
+      for (final SetupLayout layout : layouts)
+        batches.add(executor.submit(() -> evaluate(layout)));
+      for (final Future<Score> batch : batches)
+        results.add(batch.get());
+    } catch (final ExecutionException e) {
+      throw new RuntimeException("Setup evaluation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    return results;
+  }
+
+  /**
+   * Scores the layouts of a book that are not scored yet and stores their
+   * scores into it. Scored layouts of the book are cached first.
+   * @param book SetupBook to score.
+   * @return int number of layouts scored.
+   * @throws InterruptedException if interrupted while waiting for the games.
+   * @throws IOException if the book cannot be written.
+   */
+  public int evaluate(final SetupBook book) throws InterruptedException, IOException {
+    final List<Integer> setupIds = new ArrayList<>();
+    final List<SetupLayout> layouts = new ArrayList<>();
+    for (int i = 0; i < book.size(); i++) {
+      final SetupLayout layout = book.getLayout(i);
+      if (book.getGames(i) > 0) {
+        scores.putIfAbsent(layout.getHash(), new Score(book.getGames(i), book.getPoints(i)));
+      } else {
+        setupIds.add(i);
+        layouts.add(layout);
+      }
+    }
+
+    final List<Score> results = evaluate(layouts);
+    for (int i = 0; i < results.size(); i++)
+      book.setScore(setupIds.get(i), results.get(i).getGames(), results.get(i).getPoints());
+    return results.size();
+  }
+
+  /**
+   * Plays the games of a layout on the calling thread.
+   */
+  private Score playGames(final SetupLayout layout) {
+    final SelfPlaySimulator asAlly = createSimulator(layout, Alliance.ALLY);
+    final SelfPlaySimulator asAxis = createSimulator(layout, Alliance.AXIS);
+    int points = 0;
+
+    for (int game = 0; game < gamesPerLayout; game++) {
+      final long gameSeed = SelfPlaySimulator.getGameSeed(seed ^ layout.getHash(), game);
+      final SimulationResult result;
+      if (game % 2 == 0) {
+        result = asAlly.playGame(gameSeed);
+        points += 2 * result.getAllyWins();
+      } else {
+        result = asAxis.playGame(gameSeed);
+        points += 2 * result.getAxisWins();
+      }
+      points += result.getDraws();
+    }
+    return new Score(gamesPerLayout, points);
+  }
+
+  /**
+   * Creates a simulator of a layout as an Alliance against the reference
+   * pool.
+   */
+  private SelfPlaySimulator createSimulator(final SetupLayout layout, final Alliance alliance) {
+    final Alliance opponent = alliance == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+    final SelfPlaySimulator simulator = new SelfPlaySimulator((SeededSupplier<BitBoard>) random -> {
+      final BitBoard board = new BitBoard();
+      layout.placeOn(board, alliance);
+      referencePool.get(random.nextInt(referencePool.size())).placeOn(board, opponent);
+      return board;
+    }, strategy, strategy);
+    simulator.setMaxPlies(maxPlies);
+    return simulator;
+  }
+
+  /**
+   * Gets the cached score of a layout.
+   * @param layout SetupLayout to look up.
+   * @return Score of the layout, else null if not evaluated.
+   */
+  public Score getCachedScore(final SetupLayout layout) {
+    return scores.get(layout.getHash());
+  }
+
+  /**
+   * Sets the games of each layout, rounded up to an even number so both
+   * Alliances are played equally.
+   * @param gamesPerLayout games of each layout, at least 2.
+   */
+  public void setGamesPerLayout(final int gamesPerLayout) {
+    this.gamesPerLayout = Math.max(2, gamesPerLayout + gamesPerLayout % 2);
+  }
+
+  /**
+   * Sets the plies of a game before it is stopped as a draw.
+   * @param maxPlies ply limit.
+   */
+  public void setMaxPlies(final int maxPlies) {
+    this.maxPlies = maxPlies;
+  }
+
+  /**
+   * Sets the number of worker threads.
+   * @param threads worker threads, at least 1.
+   */
+  public void setThreads(final int threads) {
+    this.threads = Math.max(1, threads);
+  }
+
+  /**
+   * Sets the seed of the games, so the same seed gives the same scores.
+   * @param seed seed of the games.
+   */
+  public void setSeed(final long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Self-play score of a layout.
+   */
+  public static final class Score {
+
+    /** Games played */
+    private final int games;
+
+    /** Points scored, 2 per win and 1 per draw */
+    private final int points;
+
+    /**
+     * Constructor that takes in the games and points.
+     */
+    public Score(final int games, final int points) {
+      this.games = games;
+      this.points = points;
+    }
+
+    /**
+     * Gets the games played.
+     * @return int games field.
+     */
+    public int getGames() {
+      return this.games;
+    }
+
+    /**
+     * Gets the points scored, 2 per win and 1 per draw.
+     * @return int points field.
+     */
+    public int getPoints() {
+      return this.points;
+    }
+
+    /**
+     * Gets the share of the points scored.
+     * @return double score from 0 to 1.
+     */
+    public double getScoreRate() {
+      return games == 0 ? 0.0 : points / (2.0 * games);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d games, %.3f score", games, getScoreRate());
+    }
+  }
+
+  public static void main(final String[] args) throws InterruptedException, IOException {
+    final int newLayouts = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+    final long seed = args.length > 4 ? Long.parseLong(args[4]) : 0;
+    final SplittableRandom random = new SplittableRandom(seed);
+    final SetupEvaluator evaluator = new SetupEvaluator(
+      randomPool(DEFAULT_POOL_SIZE, random.split()),
+      GameStrategies.fromName(args.length > 5 ? args[5] : "greedy"));
+    if (args.length > 2)
+      evaluator.setGamesPerLayout(Integer.parseInt(args[2]));
+    if (args.length > 3)
+      evaluator.setThreads(Integer.parseInt(args[3]));
+    evaluator.setSeed(seed);
+
+    try (final SetupBook book = new SetupBook(Paths.get(args.length > 0 ? args[0] : "setups.book"))) {
+      for (int i = 0; i < newLayouts; i++)
+        book.add(SetupLayout.random(random));
+
+      final long startTime = System.nanoTime();
+      final int scored = evaluator.evaluate(book);
+      book.flush();
+      System.out.printf("Scored %d of %d layouts in %.1f s%n", scored, book.size(),
+                        (System.nanoTime() - startTime) / 1e9);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.BrethrenAce.GameEngine.setup;
+
+import com.BrethrenAce.GameEngine.simulation.GameStrategies;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SetupEvaluatorTest {
+
+    /**
+     * Creates a small seeded evaluator of random games.
+     */
+    private static SetupEvaluator createEvaluator(final int threads) {
+        final SetupEvaluator evaluator = new SetupEvaluator(
+            SetupEvaluator.randomPool(8, new SplittableRandom(4)), GameStrategies.random());
+        evaluator.setGamesPerLayout(6);
+        evaluator.setMaxPlies(200);
+        evaluator.setThreads(threads);
+        evaluator.setSeed(9);
+        return evaluator;
+    }
+
+    @Test
+    void evaluate() throws InterruptedException {
+        final List<SetupLayout> layouts = SetupEvaluator.randomPool(6, new SplittableRandom(5));
+        final List<SetupEvaluator.Score> single = createEvaluator(1).evaluate(layouts);
+        final SetupEvaluator evaluator = createEvaluator(3);
+        final List<SetupEvaluator.Score> parallel = evaluator.evaluate(layouts);
+
+        for (int i = 0; i < layouts.size(); i++) {
+            assertEquals(6, parallel.get(i).getGames());
+            assertEquals(single.get(i).getPoints(), parallel.get(i).getPoints());
+            assertTrue(parallel.get(i).getPoints() <= 12);
+            assertSame(parallel.get(i), evaluator.evaluate(layouts.get(i)));
+            assertSame(parallel.get(i), evaluator.getCachedScore(layouts.get(i)));
+        }
+    }
+
+    @Test
+    void evaluateBook(@TempDir final Path dir) throws InterruptedException, IOException {
+        final SplittableRandom random = new SplittableRandom(6);
+        try (SetupBook book = new SetupBook(dir.resolve("setups.book"))) {
+            for (int i = 0; i < 5; i++)
+                book.add(SetupLayout.random(random));
+            book.setScore(2, 100, 150);
+
+            final SetupEvaluator evaluator = createEvaluator(2);
+            assertEquals(4, evaluator.evaluate(book));
+            for (int i = 0; i < book.size(); i++)
+                assertEquals(i == 2 ? 100 : 6, book.getGames(i));
+            assertEquals(150, evaluator.getCachedScore(book.getLayout(2)).getPoints());
+
+            book.add(SetupLayout.random(random));
+            assertEquals(1, evaluator.evaluate(book));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.BrethrenAce.GameEngine.setup;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import com.BrethrenAce.GameEngine.Zobrist;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Immutable initial arrangement of the pieces of a single Alliance, usable by
+ * either Alliance. Territory tiles are numbered from the back row of the
+ * owner, i.e. territory tile n is tile n of AXIS and tile 71 - n of ALLY, so
+ * a layout looks the same from both sides of the Board.
+ * A layout is encoded into ENCODED_SIZE bytes, one rank code per half byte,
+ * and hashed with the Zobrist keys of its pieces placed as AXIS.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class SetupLayout {
+
+  /** Number of territory tiles of an Alliance */
+  public static final int TERRITORY_TILES_COUNT = BoardUtils.ALL_TILES_COUNT / 2;
+
+  /** Bytes of an encoded layout */
+  public static final int ENCODED_SIZE = TERRITORY_TILES_COUNT / 2;
+
+  /** Rank code of each territory tile, 0 if empty */
+  private final byte[] ranks;
+
+  /** Zobrist hash of the pieces placed as AXIS */
+  private final long hash;
+
+  /**
+   * Constructor that takes in the rank code of each territory tile.
+   */
+  private SetupLayout(final byte[] ranks) {
+    this.ranks = ranks;
+    long hash = 0;
+    for (int i = 0; i < TERRITORY_TILES_COUNT; i++) {
+      if (ranks[i] != BitBoard.EMPTY_RANK)
+        hash ^= Zobrist.pieceKey(i, Alliance.AXIS, ranks[i]);
+    }
+    this.hash = hash;
+  }
+
+  /**
+   * Creates a layout from the pieces of an Alliance on a board state.
+   * @param board BitBoard of the initial arrangement.
+   * @param alliance Alliance of the layout pieces.
+   * @return SetupLayout of the Alliance pieces within its territory.
+   */
+  public static SetupLayout of(final BitBoard board, final Alliance alliance) {
+    final byte[] ranks = new byte[TERRITORY_TILES_COUNT];
+    for (int i = 0; i < TERRITORY_TILES_COUNT; i++) {
+      final int tileId = toTileId(i, alliance);
+      if (board.getPieceAlliance(tileId) == alliance)
+        ranks[i] = board.getPieceRank(tileId);
+    }
+    return new SetupLayout(ranks);
+  }
+
+  /**
+   * Creates a layout of every legal piece instance placed randomly, the same
+   * seed giving the same layout.
+   * @param random random source of the placement.
+   * @return SetupLayout random layout.
+   */
+  public static SetupLayout random(final SplittableRandom random) {
+    final byte[] ranks = new byte[TERRITORY_TILES_COUNT];
+    int next = 0;
+    for (final Rank rank : Rank.values()) {
+      for (int i = 0; i < rank.getLegalPieceInstanceCount() && next < TERRITORY_TILES_COUNT; i++)
+        ranks[next++] = rank.getCode();
+    }
+
+    for (int i = TERRITORY_TILES_COUNT - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final byte rank = ranks[i];
+      ranks[i] = ranks[j];
+      ranks[j] = rank;
+    }
+    return new SetupLayout(ranks);
+  }
+
+  /**
+   * Decodes a layout written by write().
+   * @param buffer buffer positioned at the encoded layout, advanced past it.
+   * @return SetupLayout decoded layout.
+   */
+  public static SetupLayout read(final ByteBuffer buffer) {
+    final byte[] ranks = new byte[TERRITORY_TILES_COUNT];
+    for (int i = 0; i < ENCODED_SIZE; i++) {
+      final int packed = buffer.get() & 0xFF;
+      ranks[2 * i] = (byte) (packed >>> 4);
+      ranks[2 * i + 1] = (byte) (packed & 0xF);
+    }
+    return new SetupLayout(ranks);
+  }
+
+  /**
+   * Encodes this layout into ENCODED_SIZE bytes.
+   * @param buffer buffer to write into, advanced past the layout.
+   */
+  public void write(final ByteBuffer buffer) {
+    for (int i = 0; i < ENCODED_SIZE; i++)
+      buffer.put((byte) (ranks[2 * i] << 4 | ranks[2 * i + 1]));
+  }
+
+  /**
+   * Places the pieces of this layout on a board state.
+   * @param board BitBoard with an empty territory of the Alliance.
+   * @param alliance Alliance to place the pieces as.
+   */
+  public void placeOn(final BitBoard board, final Alliance alliance) {
+    for (int i = 0; i < TERRITORY_TILES_COUNT; i++) {
+      if (ranks[i] != BitBoard.EMPTY_RANK)
+        board.setPiece(toTileId(i, alliance), alliance, ranks[i]);
+    }
+  }
+
+  /**
+   * Sets the pieces of this layout into a BoardBuilder, skipping occupied
+   * tiles and pieces over the legal instance count.
+   * @param builder BoardBuilder to set the pieces into.
+   * @param alliance Alliance to set the pieces as.
+   */
+  public void placeOn(final BoardBuilder builder, final Alliance alliance) {
+    for (int i = 0; i < TERRITORY_TILES_COUNT; i++) {
+      if (ranks[i] == BitBoard.EMPTY_RANK)
+        continue;
+      final Piece piece = Rank.fromCode(ranks[i]).createPiece(null, alliance);
+      piece.setPieceCoords(toTileId(i, alliance));
+      builder.setPiece(piece);
+    }
+  }
+
+  /**
+   * Gets the tile ID of a territory tile of an Alliance.
+   * @param territoryTile territory tile, 0 to TERRITORY_TILES_COUNT - 1.
+   * @param alliance Alliance owning the territory.
+   * @return int tile ID.
+   */
+  public static int toTileId(final int territoryTile, final Alliance alliance) {
+    return alliance == Alliance.AXIS ?
+      territoryTile : BoardUtils.ALL_TILES_COUNT - 1 - territoryTile;
+  }
+
+  /**
+   * Gets the rank code of a territory tile.
+   * @param territoryTile territory tile, 0 to TERRITORY_TILES_COUNT - 1.
+   * @return byte rank code, else BitBoard.EMPTY_RANK.
+   */
+  public byte getRank(final int territoryTile) {
+    return ranks[territoryTile];
+  }
+
+  /**
+   * Gets the Zobrist hash of the pieces of this layout placed as AXIS.
+   * @return long hash field.
+   */
+  public long getHash() {
+    return this.hash;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return other instanceof SetupLayout && Arrays.equals(ranks, ((SetupLayout) other).ranks);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(hash);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder layout = new StringBuilder();
+    for (int i = TERRITORY_TILES_COUNT - BoardUtils.TILE_COLUMN_COUNT; i >= 0;
+         i -= BoardUtils.TILE_COLUMN_COUNT) {
+      for (int j = i; j < i + BoardUtils.TILE_COLUMN_COUNT; j++)
+        layout.append(String.format("%3d", ranks[j]));
+      layout.append('\n');
+    }
+    return layout.toString();
+  }
+}
@@ -0,0 +1,114 @@
+package com.BrethrenAce.GameEngine.simulation;
+
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.CombatOutcome;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.player.AlphaBetaSearch;
+
+
+/**
+ * Utility class of the built-in GameStrategy factories. Each factory creates a
+ * new GameStrategy instance per game, so games may run in parallel. Random
+ * choices only come from the random source passed into the factory, so
+ * strategies created from the same seed pick the same moves.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class GameStrategies {
+
+  /** Transposition table size of the alpha-beta strategy, 64K slots or 1 MB */
+  private static final int ALPHA_BETA_TABLE_BITS = 16;
+
+  /** Time budget of fixed depth searches, long enough to never run out */
+  private static final long UNLIMITED_TIME_MILLIS = 3_600_000;
+
+  /**
+   * Throws RuntimeException when instantiated.
+   */
+  private GameStrategies() {
+    throw new RuntimeException("You cannot instantiate GameStrategies class");
+  }
+
+  /**
+   * Creates strategies that pick a uniformly random legal move.
+   * @return SeededSupplier of random GameStrategy instances.
+   */
+  public static SeededSupplier<GameStrategy> random() {
+    return random -> {
+      final int[] moves = new int[MoveGenerator.MAX_MOVES];
+      return (position, side) -> {
+        final int moveCount = MoveGenerator.generateMoves(position, side, moves);
+        return moveCount == 0 ? AlphaBetaSearch.NO_MOVE : moves[random.nextInt(moveCount)];
+      };
+    };
+  }
+
+  /**
+   * Creates strategies that pick a winning attack if there is one, else a
+   * random move that is not a known losing attack. Ranks are read from the
+   * BitBoard, so the opposing ranks are visible to this strategy.
+   * @return SeededSupplier of greedy GameStrategy instances.
+   */
+  public static SeededSupplier<GameStrategy> greedy() {
+    return random -> {
+      final int[] moves = new int[MoveGenerator.MAX_MOVES];
+      return (position, side) -> {
+        final int moveCount = MoveGenerator.generateMoves(position, side, moves);
+        if (moveCount == 0)
+          return AlphaBetaSearch.NO_MOVE;
+
+        int safeCount = 0;
+        for (int i = 0; i < moveCount; i++) {
+          final byte targetRank = position.getPieceRank(Move.getPackedDestination(moves[i]));
+          if (targetRank == BitBoard.EMPTY_RANK) {
+            moves[safeCount++] = moves[i];
+            continue;
+          }
+          final CombatOutcome outcome = CombatOutcome.resolve(
+            position.getPieceRank(Move.getPackedOrigin(moves[i])), targetRank);
+          if (outcome == CombatOutcome.ATTACKER_WINS_GAME || outcome == CombatOutcome.ATTACKER_WINS)
+            return moves[i];
+          if (!outcome.isAttackerEliminated())
+            moves[safeCount++] = moves[i];
+        }
+        return safeCount == 0 ? moves[random.nextInt(moveCount)] : moves[random.nextInt(safeCount)];
+      };
+    };
+  }
+
+  /**
+   * Creates strategies that search with a fixed depth AlphaBetaSearch.
+   * Ranks are read from the BitBoard, so the opposing ranks are visible to
+   * this strategy. The search is deterministic, so the random source is unused.
+   * @param depth search depth, 1 to AlphaBetaSearch.MAX_DEPTH.
+   * @return SeededSupplier of alpha-beta GameStrategy instances.
+   */
+  public static SeededSupplier<GameStrategy> alphaBeta(final int depth) {
+    return random -> {
+      final AlphaBetaSearch search = new AlphaBetaSearch(ALPHA_BETA_TABLE_BITS);
+      return (position, side) -> search.findBestMove(position, side, UNLIMITED_TIME_MILLIS, depth);
+    };
+  }
+
+  /**
+   * Creates strategies by name, i.e. random, greedy or alphabeta[:depth].
+   * @param name name of the strategy.
+   * @return SeededSupplier of GameStrategy instances.
+   */
+  public static SeededSupplier<GameStrategy> fromName(final String name) {
+    final String[] parts = name.toLowerCase().split(":");
+    switch (parts[0]) {
+      case "random":
+        return random();
+      case "greedy":
+        return greedy();
+      case "alphabeta":
+        return alphaBeta(parts.length > 1 ? Integer.parseInt(parts[1]) : 3);
+      default:
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+  }
+}
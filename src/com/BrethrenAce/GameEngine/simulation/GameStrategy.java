@@ -0,0 +1,24 @@
+package com.BrethrenAce.GameEngine.simulation;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+
+/**
+ * Interface of a move picking strategy of a headless game. A strategy instance
+ * plays a single game at a time, so it may keep state between its moves, e.g.
+ * a search transposition table, and need not be thread safe.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@FunctionalInterface
+public interface GameStrategy {
+
+  /**
+   * Picks the move of the side to move.
+   * @param position current board state, must be left untouched.
+   * @param side Alliance of the side to move.
+   * @return int packed move, else a negative value to resign.
+   */
+  int selectMove(BitBoard position, Alliance side);
+}
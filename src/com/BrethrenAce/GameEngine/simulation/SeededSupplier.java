@@ -0,0 +1,29 @@
+package com.BrethrenAce.GameEngine.simulation;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Supplier of per game objects, e.g. a GameStrategy or an initial arrangement,
+ * that takes its randomness from a passed in random source. Given the same
+ * seeded source it creates objects that behave the same, so a game is fully
+ * described by its seed and strategies. get() uses an unseeded source.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@FunctionalInterface
+public interface SeededSupplier<T> extends Supplier<T> {
+
+  /**
+   * Creates an object from a random source.
+   * @param random random source, owned by the created object.
+   * @return T created object.
+   */
+  T get(SplittableRandom random);
+
+  @Override
+  default T get() {
+    return get(new SplittableRandom());
+  }
+}
@@ -0,0 +1,246 @@
+package com.BrethrenAce.GameEngine.simulation;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Headless batch runner that plays complete games between two GameStrategy
+ * factories on a thread pool. Games are played on a BitBoard only, so no
+ * Board, BoardPanel or Swing dialog is involved and any number of games may
+ * run in parallel.
+ * Once seeded, every game gets its own random source derived from the seed
+ * and the game index, split into its setup and both strategies when they are
+ * SeededSupplier instances. Results then only depend on the seed, not on the
+ * number of threads or the machine.
+ * Usage: SelfPlaySimulator [games] [threads] [ally strategy] [axis strategy]
+ * [random|demo setup] [seed], strategies being named as in
+ * GameStrategies.fromName().
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class SelfPlaySimulator {
+
+  /** Default plies of a game before it is stopped as a draw */
+  public static final int DEFAULT_MAX_PLIES = 1000;
+
+  /** Creates the initial arrangement of each game */
+  private final Supplier<BitBoard> setup;
+
+  /** Creates the ALLY strategy of each game */
+  private final Supplier<GameStrategy> allyStrategy;
+
+  /** Creates the AXIS strategy of each game */
+  private final Supplier<GameStrategy> axisStrategy;
+
+  /** Alliance making the first move */
+  private Alliance firstMoveMaker = Alliance.ALLY;
+
+  /** Plies of a game before it is stopped as a draw */
+  private int maxPlies = DEFAULT_MAX_PLIES;
+
+  /** Number of worker threads */
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  /** Seed of the batch */
+  private long seed;
+
+  /** Whether games are seeded from the seed field */
+  private boolean seeded;
+
+  /**
+   * Constructor that takes in the initial arrangement and strategy factories.
+   * @param setup creates the initial arrangement of each game.
+   * @param allyStrategy creates the ALLY strategy of each game.
+   * @param axisStrategy creates the AXIS strategy of each game.
+   */
+  public SelfPlaySimulator(final Supplier<BitBoard> setup,
+                           final Supplier<GameStrategy> allyStrategy,
+                           final Supplier<GameStrategy> axisStrategy) {
+    this.setup = setup;
+    this.allyStrategy = allyStrategy;
+    this.axisStrategy = axisStrategy;
+  }
+
+  /**
+   * Creates initial arrangements from a BoardBuilder factory, e.g. a custom
+   * build of a variant with extra pieces.
+   * @param builder creates a filled BoardBuilder per game.
+   * @return Supplier of BitBoard initial arrangements.
+   */
+  public static Supplier<BitBoard> fromBuilder(final Supplier<BoardBuilder> builder) {
+    return () -> {
+      final BitBoard board = new BitBoard();
+      for (final Map.Entry<Integer, Piece> entry : builder.get().getBoardConfig().entrySet())
+        board.setPiece(entry.getKey(), entry.getValue());
+      return board;
+    };
+  }
+
+  /**
+   * Creates random initial arrangements from BoardBuilder.createRandomBuild().
+   * @return SeededSupplier of BitBoard initial arrangements.
+   */
+  public static SeededSupplier<BitBoard> randomSetup() {
+    return random -> fromBuilder(() -> new BoardBuilder().createRandomBuild(random)).get();
+  }
+
+  /**
+   * Plays a batch of games.
+   * @param games number of games to play.
+   * @return SimulationResult totals of the batch.
+   * @throws InterruptedException if interrupted while waiting for the games.
+   */
+  public SimulationResult run(final int games) throws InterruptedException {
+    final long startTime = System.nanoTime();
+    final AtomicInteger nextGame = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final SimulationResult result = new SimulationResult();
+
+    try {
+      final List<Future<SimulationResult>> workers = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        workers.add(executor.submit(() -> {
+          final SimulationResult workerResult = new SimulationResult();
+          int game;
+          while ((game = nextGame.getAndIncrement()) < games)
+            playGame(workerResult, seeded ? new SplittableRandom(getGameSeed(seed, game)) :
+                                   new SplittableRandom());
+          return workerResult;
+        }));
+      }
+      for (final Future<SimulationResult> worker : workers)
+        result.merge(worker.get());
+    } catch (final ExecutionException e) {
+      throw new RuntimeException("Simulated game failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    result.setElapsedNanos(System.nanoTime() - startTime);
+    return result;
+  }
+
+  /**
+   * Plays a single seeded game, e.g. to replay a game of a seeded batch.
+   * @param gameSeed seed of the game, from getGameSeed().
+   * @return SimulationResult of the single game.
+   */
+  public SimulationResult playGame(final long gameSeed) {
+    final SimulationResult result = new SimulationResult();
+    playGame(result, new SplittableRandom(gameSeed));
+    return result;
+  }
+
+  /**
+   * Gets the seed of a game of a seeded batch.
+   * @param seed seed of the batch.
+   * @param game index of the game, from 0.
+   * @return long seed of the game.
+   */
+  public static long getGameSeed(final long seed, final int game) {
+    return new SplittableRandom(seed + game).nextLong();
+  }
+
+  /**
+   * Plays a single game and adds it into a result.
+   */
+  private void playGame(final SimulationResult result, final SplittableRandom random) {
+    final BitBoard board = create(setup, random.split());
+    final GameStrategy ally = create(allyStrategy, random.split());
+    final GameStrategy axis = create(axisStrategy, random.split());
+    Alliance side = firstMoveMaker;
+
+    for (int ply = 0; ply < maxPlies; ply++) {
+      final Alliance opponent = side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+      final int move = (side == Alliance.ALLY ? ally : axis).selectMove(board, side);
+
+      // A side without any move has lost.
+      if (move < 0) {
+        result.addGame(opponent, ply);
+        return;
+      }
+
+      final Alliance winner = BitBoard.getRecordWinner(board.makeMove(move));
+      if (winner != null) {
+        result.addGame(winner, ply + 1);
+        return;
+      }
+      side = opponent;
+    }
+    result.addGame(null, maxPlies);
+  }
+
+  /**
+   * Creates a per game object, from the random source if supported.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T create(final Supplier<T> supplier, final SplittableRandom random) {
+    return supplier instanceof SeededSupplier ?
+      ((SeededSupplier<T>) supplier).get(random) : supplier.get();
+  }
+
+  /**
+   * Seeds the batch, so the same seed plays the same games.
+   * @param seed seed of the batch.
+   */
+  public void setSeed(final long seed) {
+    this.seed = seed;
+    this.seeded = true;
+  }
+
+  /**
+   * Sets the Alliance making the first move, ALLY by default.
+   * @param firstMoveMaker Alliance of the first move.
+   */
+  public void setFirstMoveMaker(final Alliance firstMoveMaker) {
+    this.firstMoveMaker = firstMoveMaker;
+  }
+
+  /**
+   * Sets the plies of a game before it is stopped as a draw.
+   * @param maxPlies ply limit.
+   */
+  public void setMaxPlies(final int maxPlies) {
+    this.maxPlies = maxPlies;
+  }
+
+  /**
+   * Sets the number of worker threads.
+   * @param threads worker threads, at least 1.
+   */
+  public void setThreads(final int threads) {
+    this.threads = Math.max(1, threads);
+  }
+
+  public static void main(final String[] args) throws InterruptedException {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    final Supplier<BitBoard> setup = args.length > 4 && args[4].equalsIgnoreCase("demo") ?
+      fromBuilder(() -> new BoardBuilder().createDemoBoardBuild()) :
+      randomSetup();
+    final SelfPlaySimulator simulator = new SelfPlaySimulator(
+      setup,
+      GameStrategies.fromName(args.length > 2 ? args[2] : "greedy"),
+      GameStrategies.fromName(args.length > 3 ? args[3] : "greedy"));
+    if (args.length > 1)
+      simulator.setThreads(Integer.parseInt(args[1]));
+    if (args.length > 5)
+      simulator.setSeed(Long.parseLong(args[5]));
+
+    System.out.println(simulator.run(games));
+  }
+}
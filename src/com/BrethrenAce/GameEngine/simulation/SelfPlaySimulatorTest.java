@@ -0,0 +1,66 @@
+package com.BrethrenAce.GameEngine.simulation;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.Board.BoardBuilder;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlaySimulatorTest {
+
+    @Test
+    void run() throws InterruptedException {
+        final SelfPlaySimulator simulator = new SelfPlaySimulator(
+            SelfPlaySimulator.fromBuilder(() -> new BoardBuilder().createRandomBuild()),
+            GameStrategies.random(), GameStrategies.greedy());
+        simulator.setThreads(2);
+        final SimulationResult result = simulator.run(20);
+
+        assertEquals(20, result.getGames());
+        assertEquals(20, result.getAllyWins() + result.getAxisWins() + result.getDraws());
+        assertTrue(result.getAverageGameLength() > 0);
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    void runFlagCapture() throws InterruptedException {
+        final SelfPlaySimulator simulator = new SelfPlaySimulator(() -> {
+            final BitBoard board = new BitBoard();
+            board.setPiece(40, Alliance.ALLY, (byte) 2);
+            board.setPiece(31, Alliance.AXIS, BitBoard.FLAG_RANK);
+            board.setPiece(71, Alliance.ALLY, BitBoard.FLAG_RANK);
+            return board;
+        }, () -> (position, side) -> Move.packMove(40, 31, MoveType.ATTACKING), GameStrategies.random());
+        simulator.setThreads(1);
+        final SimulationResult result = simulator.run(3);
+
+        assertEquals(3, result.getAllyWins());
+        assertEquals(1.0, result.getAverageGameLength());
+    }
+
+    @Test
+    void seededRun() throws InterruptedException {
+        final SimulationResult[] results = new SimulationResult[2];
+        for (int i = 0; i < results.length; i++) {
+            final SelfPlaySimulator simulator = new SelfPlaySimulator(
+                SelfPlaySimulator.randomSetup(), GameStrategies.random(), GameStrategies.greedy());
+            simulator.setSeed(42);
+            simulator.setThreads(i == 0 ? 1 : 3);
+            results[i] = simulator.run(12);
+        }
+        assertEquals(results[0].getAllyWins(), results[1].getAllyWins());
+        assertEquals(results[0].getAxisWins(), results[1].getAxisWins());
+        assertEquals(results[0].getAverageGameLength(), results[1].getAverageGameLength());
+
+        // A single game is replayed from its seed.
+        final SelfPlaySimulator simulator = new SelfPlaySimulator(
+            SelfPlaySimulator.randomSetup(), GameStrategies.random(), GameStrategies.greedy());
+        double totalPlies = 0;
+        for (int game = 0; game < 12; game++)
+            totalPlies += simulator.playGame(SelfPlaySimulator.getGameSeed(42, game)).getAverageGameLength();
+        assertEquals(results[0].getAverageGameLength() * 12, totalPlies, 1e-6);
+    }
+}
@@ -0,0 +1,170 @@
+package com.BrethrenAce.GameEngine.simulation;
+
+import com.BrethrenAce.GameEngine.Alliance;
+
+/**
+ * Totals of a batch of headless games played by SelfPlaySimulator.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class SimulationResult {
+
+  /** Number of games played */
+  private int games;
+
+  /** Games won by the ALLY */
+  private int allyWins;
+
+  /** Games won by the AXIS */
+  private int axisWins;
+
+  /** Games stopped at the ply limit */
+  private int draws;
+
+  /** Plies of all games */
+  private long totalPlies;
+
+  /** Wall clock time of the batch in nanoseconds */
+  private long elapsedNanos;
+
+  /**
+   * Counts a finished game.
+   * @param winner Alliance of the winner, else null if drawn.
+   * @param plies number of moves played.
+   */
+  void addGame(final Alliance winner, final int plies) {
+    games++;
+    totalPlies += plies;
+    if (winner == Alliance.ALLY)
+      allyWins++;
+    else if (winner == Alliance.AXIS)
+      axisWins++;
+    else
+      draws++;
+  }
+
+  /**
+   * Adds the games of another result into this one.
+   * @param other result of another batch.
+   */
+  void merge(final SimulationResult other) {
+    games += other.games;
+    allyWins += other.allyWins;
+    axisWins += other.axisWins;
+    draws += other.draws;
+    totalPlies += other.totalPlies;
+  }
+
+  /**
+   * Sets the wall clock time of the batch.
+   * @param elapsedNanos time in nanoseconds.
+   */
+  void setElapsedNanos(final long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the number of games played.
+   * @return int games field.
+   */
+  public int getGames() {
+    return this.games;
+  }
+
+  /**
+   * Gets the games won by the ALLY.
+   * @return int allyWins field.
+   */
+  public int getAllyWins() {
+    return this.allyWins;
+  }
+
+  /**
+   * Gets the games won by the AXIS.
+   * @return int axisWins field.
+   */
+  public int getAxisWins() {
+    return this.axisWins;
+  }
+
+  /**
+   * Gets the games stopped at the ply limit.
+   * @return int draws field.
+   */
+  public int getDraws() {
+    return this.draws;
+  }
+
+  /**
+   * Gets the plies of all games.
+   * @return long totalPlies field.
+   */
+  public long getTotalPlies() {
+    return this.totalPlies;
+  }
+
+  /**
+   * Gets the wall clock time of the batch.
+   * @return long elapsedNanos field.
+   */
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Gets the games played per second of wall clock time.
+   * @return double games per second.
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Gets the share of games won by the ALLY.
+   * @return double 0 to 1.
+   */
+  public double getAllyWinRate() {
+    return games == 0 ? 0 : (double) allyWins / games;
+  }
+
+  /**
+   * Gets the share of games won by the AXIS.
+   * @return double 0 to 1.
+   */
+  public double getAxisWinRate() {
+    return games == 0 ? 0 : (double) axisWins / games;
+  }
+
+  /**
+   * Gets the share of games stopped at the ply limit.
+   * @return double 0 to 1.
+   */
+  public double getDrawRate() {
+    return games == 0 ? 0 : (double) draws / games;
+  }
+
+  /**
+   * Gets the average plies of a game.
+   * @return double average game length.
+   */
+  public double getAverageGameLength() {
+    return games == 0 ? 0 : (double) totalPlies / games;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "Games: %d in %.2f s (%.1f games/s)%n" +
+      "ALLY wins: %d (%.1f%%)%n" +
+      "AXIS wins: %d (%.1f%%)%n" +
+      "Draws: %d (%.1f%%)%n" +
+      "Average length: %.1f plies",
+      games, elapsedNanos / 1e9, getGamesPerSecond(),
+      allyWins, getAllyWinRate() * 100,
+      axisWins, getAxisWinRate() * 100,
+      draws, getDrawRate() * 100,
+      getAverageGameLength());
+  }
+}
@@ -0,0 +1,238 @@
+package com.BrethrenAce.GameEngine.tablebase;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.Arrays;
+
+/**
+ * Pieces of an endgame tablebase: the rank codes of the ALLY pieces followed
+ * by the rank codes of the AXIS pieces, each sorted from the lowest code, so
+ * each side starts with its Flag. Pieces are numbered in that order.
+ * The name of a material is the hex rank codes of the ALLY pieces, "v", then
+ * those of the AXIS pieces, e.g. "12v1f" for Flag and Private against Flag
+ * and Agent.
+ * A position of a material is indexed by the side to move, then the tile of
+ * every piece in order, so a table has 2 * 72^n entries for n pieces.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class EndgameMaterial {
+
+  /** Most pieces of both sides in a table, Flags included */
+  public static final int MAX_PIECES = 4;
+
+  /** Alliances in piece order */
+  private static final Alliance[] SIDES = {Alliance.ALLY, Alliance.AXIS};
+
+  /** Rank codes of the ALLY then AXIS pieces */
+  private final byte[] ranks;
+
+  /** Number of ALLY pieces */
+  private final int allyCount;
+
+  /**
+   * Constructor that takes in the sorted rank codes of each side.
+   */
+  private EndgameMaterial(final byte[] allyRanks, final byte[] axisRanks) {
+    this.allyCount = allyRanks.length;
+    this.ranks = Arrays.copyOf(allyRanks, allyRanks.length + axisRanks.length);
+    System.arraycopy(axisRanks, 0, ranks, allyCount, axisRanks.length);
+  }
+
+  /**
+   * Creates a material from the rank codes of each side.
+   * @param allyRanks rank codes of the ALLY pieces, one Flag included.
+   * @param axisRanks rank codes of the AXIS pieces, one Flag included.
+   * @return EndgameMaterial of the pieces.
+   * @throws IllegalArgumentException if a side has no single Flag or there
+   * are more than MAX_PIECES pieces.
+   */
+  public static EndgameMaterial of(final byte[] allyRanks, final byte[] axisRanks) {
+    final byte[] ally = allyRanks.clone();
+    final byte[] axis = axisRanks.clone();
+    Arrays.sort(ally);
+    Arrays.sort(axis);
+    if (ally.length + axis.length > MAX_PIECES)
+      throw new IllegalArgumentException("More than " + MAX_PIECES + " pieces");
+    for (final byte[] side : new byte[][] {ally, axis}) {
+      if (side.length == 0 || side[0] != BitBoard.FLAG_RANK ||
+          (side.length > 1 && side[1] == BitBoard.FLAG_RANK))
+        throw new IllegalArgumentException("Each side needs a single Flag");
+      for (final byte rank : side) {
+        if (rank < BitBoard.FLAG_RANK || rank > BitBoard.AGENT_RANK)
+          throw new IllegalArgumentException("Invalid rank code " + rank);
+      }
+    }
+    return new EndgameMaterial(ally, axis);
+  }
+
+  /**
+   * Creates a material from its name.
+   * @param name name from getName(), e.g. "12v1f".
+   * @return EndgameMaterial of the name.
+   * @throws IllegalArgumentException if the name is not a valid material.
+   */
+  public static EndgameMaterial parse(final String name) {
+    final String[] sides = name.toLowerCase().split("v");
+    if (sides.length != 2)
+      throw new IllegalArgumentException("Invalid material name: " + name);
+
+    final byte[][] ranks = new byte[2][];
+    for (int i = 0; i < sides.length; i++) {
+      ranks[i] = new byte[sides[i].length()];
+      for (int j = 0; j < sides[i].length(); j++)
+        ranks[i][j] = (byte) Character.digit(sides[i].charAt(j), 16);
+    }
+    return of(ranks[0], ranks[1]);
+  }
+
+  /**
+   * Gets the key of the material of a board state without creating it.
+   * @param board BitBoard of the position.
+   * @return int key from getKey(), else -1 if the board state has more than
+   * MAX_PIECES pieces.
+   */
+  public static int keyOf(final BitBoard board) {
+    if (board.countPieces(Alliance.ALLY) + board.countPieces(Alliance.AXIS) > MAX_PIECES)
+      return -1;
+
+    int codes = 0;
+    for (final Alliance alliance : SIDES) {
+      for (byte rank = BitBoard.FLAG_RANK; rank <= BitBoard.AGENT_RANK; rank++) {
+        for (int i = board.countPieces(alliance, rank); i > 0; i--)
+          codes = codes << 4 | rank;
+      }
+    }
+    return board.countPieces(Alliance.ALLY) << 24 | codes;
+  }
+
+  /**
+   * Gets the material without some pieces, e.g. after an engagement.
+   * @param pieces numbers of the removed pieces, none of them a Flag.
+   * @return EndgameMaterial of the remaining pieces.
+   */
+  public EndgameMaterial without(final int... pieces) {
+    final byte[] ally = new byte[ranks.length];
+    final byte[] axis = new byte[ranks.length];
+    int allyRemaining = 0;
+    int axisRemaining = 0;
+    outer:
+    for (int i = 0; i < ranks.length; i++) {
+      for (final int piece : pieces) {
+        if (piece == i)
+          continue outer;
+      }
+      if (i < allyCount)
+        ally[allyRemaining++] = ranks[i];
+      else
+        axis[axisRemaining++] = ranks[i];
+    }
+    return of(Arrays.copyOf(ally, allyRemaining), Arrays.copyOf(axis, axisRemaining));
+  }
+
+  /**
+   * Gets the index of a position of this material.
+   * @param sideToMove Alliance of the side to move.
+   * @param tiles tile of each piece, in piece order.
+   * @return long index within getTableSize().
+   */
+  public long getIndex(final Alliance sideToMove, final int[] tiles) {
+    long index = sideToMove.ordinal();
+    for (int i = 0; i < ranks.length; i++)
+      index = index * BoardUtils.ALL_TILES_COUNT + tiles[i];
+    return index;
+  }
+
+  /**
+   * Gets the number of positions of a table of this material, including
+   * those with pieces sharing a tile, which are never probed.
+   * @return long 2 * 72^n for n pieces.
+   */
+  public long getTableSize() {
+    long size = 2;
+    for (int i = 0; i < ranks.length; i++)
+      size *= BoardUtils.ALL_TILES_COUNT;
+    return size;
+  }
+
+  /**
+   * Gets the key of this material, the same as keyOf() of its positions.
+   * @return int number of ALLY pieces in bits 24 and up, then 4 bits per
+   * rank code in piece order.
+   */
+  public int getKey() {
+    int codes = 0;
+    for (final byte rank : ranks)
+      codes = codes << 4 | rank;
+    return allyCount << 24 | codes;
+  }
+
+  /**
+   * Gets the number of pieces of both sides.
+   * @return int number of pieces.
+   */
+  public int getPieceCount() {
+    return ranks.length;
+  }
+
+  /**
+   * Gets the rank code of a piece.
+   * @param piece number of the piece.
+   * @return byte rank code.
+   */
+  public byte getRank(final int piece) {
+    return ranks[piece];
+  }
+
+  /**
+   * Gets the Alliance of a piece.
+   * @param piece number of the piece.
+   * @return Alliance of the piece.
+   */
+  public Alliance getAlliance(final int piece) {
+    return piece < allyCount ? Alliance.ALLY : Alliance.AXIS;
+  }
+
+  /**
+   * Gets the number of ALLY pieces, the first pieces in order.
+   * @return int allyCount field.
+   */
+  public int getAllyCount() {
+    return this.allyCount;
+  }
+
+  /**
+   * Gets the name of this material, e.g. "12v1f".
+   * @return String name of the material.
+   */
+  public String getName() {
+    final StringBuilder name = new StringBuilder();
+    for (int i = 0; i < ranks.length; i++) {
+      if (i == allyCount)
+        name.append('v');
+      name.append(Character.forDigit(ranks[i], 16));
+    }
+    return name.toString();
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return other instanceof EndgameMaterial &&
+           allyCount == ((EndgameMaterial) other).allyCount &&
+           Arrays.equals(ranks, ((EndgameMaterial) other).ranks);
+  }
+
+  @Override
+  public int hashCode() {
+    return getKey();
+  }
+
+  @Override
+  public String toString() {
+    return getName();
+  }
+}
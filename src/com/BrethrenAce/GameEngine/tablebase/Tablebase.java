@@ -0,0 +1,270 @@
+package com.BrethrenAce.GameEngine.tablebase;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only endgame tablebases of a directory, one file per EndgameMaterial
+ * named after the material plus FILE_SUFFIX, as written by
+ * TablebaseGenerator. Each file holds one signed byte per position index of
+ * its material, the result for the side to move under full information:
+ * positive n  = wins in n plies,
+ * negative -n = loses in n - 1 plies,
+ * 0           = neither side can force a win.
+ * Files are memory-mapped, so probing reads a single byte without loading the
+ * tables, and is thread safe.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class Tablebase {
+
+  /** Suffix of the tablebase file names */
+  public static final String FILE_SUFFIX = ".etb";
+
+  /** Returned by probe() if no table holds the position */
+  public static final int UNKNOWN = Integer.MIN_VALUE;
+
+  /** Result of a position neither side can force a win from */
+  public static final int DRAW = 0;
+
+  /** Most plies stored, longer distances are stored as MAX_PLIES */
+  public static final int MAX_PLIES = Byte.MAX_VALUE;
+
+  /** Directory of the tablebase files */
+  private final Path directory;
+
+  /** Mapped tables sorted by material key */
+  private volatile Table[] tables = new Table[0];
+
+  /**
+   * Constructor that maps the tablebases of a directory.
+   * @param directory directory of the tablebase files.
+   * @throws IOException if the directory cannot be read.
+   */
+  public Tablebase(final Path directory) throws IOException {
+    this.directory = directory;
+    reload();
+  }
+
+  /**
+   * Maps the tablebase files of the directory again, e.g. after generating
+   * more of them. Files with a size other than their table size are skipped.
+   * @throws IOException if the directory cannot be read.
+   */
+  public synchronized void reload() throws IOException {
+    final List<Table> loaded = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+      for (final Path file : files) {
+        final String name = file.getFileName().toString();
+        final EndgameMaterial material;
+        try {
+          material = EndgameMaterial.parse(name.substring(0, name.length() - FILE_SUFFIX.length()));
+        } catch (final IllegalArgumentException e) {
+          continue;
+        }
+        if (Files.size(file) == material.getTableSize())
+          loaded.add(new Table(material, map(file)));
+      }
+    }
+    loaded.sort(Comparator.comparingInt(table -> table.key));
+    this.tables = loaded.toArray(new Table[0]);
+  }
+
+  /**
+   * Maps a tablebase file read-only. The mapping stays valid after the
+   * channel is closed.
+   * @param file tablebase file.
+   * @return ByteBuffer of the whole file.
+   * @throws IOException if the file cannot be mapped.
+   */
+  static ByteBuffer map(final Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  /**
+   * Probes the result of a position.
+   * @param board BitBoard of the position.
+   * @param sideToMove Alliance of the side to move.
+   * @return int result for the side to move, else UNKNOWN if no table holds
+   * the position.
+   */
+  public int probe(final BitBoard board, final Alliance sideToMove) {
+    return probe(board, sideToMove, new int[EndgameMaterial.MAX_PIECES]);
+  }
+
+  /**
+   * Probes the result of a position into a caller owned buffer, so probing
+   * inside a search does not allocate.
+   * @param board BitBoard of the position.
+   * @param sideToMove Alliance of the side to move.
+   * @param tiles buffer of at least EndgameMaterial.MAX_PIECES length.
+   * @return int result for the side to move, else UNKNOWN if no table holds
+   * the position.
+   */
+  public int probe(final BitBoard board, final Alliance sideToMove, final int[] tiles) {
+    final Table table = findTable(EndgameMaterial.keyOf(board));
+    if (table == null)
+      return UNKNOWN;
+
+    final EndgameMaterial material = table.material;
+    Arrays.fill(tiles, 0, material.getPieceCount(), -1);
+    assignTiles(board, material, Alliance.ALLY, 0, tiles);
+    assignTiles(board, material, Alliance.AXIS, material.getAllyCount(), tiles);
+
+    return table.values.get((int) material.getIndex(sideToMove, tiles));
+  }
+
+  /**
+   * Sets the tiles of the pieces of an Alliance, each piece taking the first
+   * free number of its rank.
+   */
+  private static void assignTiles(final BitBoard board, final EndgameMaterial material,
+                                  final Alliance alliance, final int first, final int[] tiles) {
+    for (int word = 0; word < 2; word++) {
+      long bits = word == 0 ? board.getLowOccupancy(alliance) : board.getHighOccupancy(alliance);
+      while (bits != 0) {
+        final int tileId = word * 64 + Long.numberOfTrailingZeros(bits);
+        int piece = first;
+        while (material.getRank(piece) != board.getPieceRank(tileId) || tiles[piece] >= 0)
+          piece++;
+        tiles[piece] = tileId;
+        bits &= bits - 1;
+      }
+    }
+  }
+
+  /**
+   * Finds the table of a material key.
+   * @return Table of the key, else null if not loaded.
+   */
+  private Table findTable(final int key) {
+    final Table[] tables = this.tables;
+    int low = 0;
+    int high = tables.length - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      if (tables[middle].key < key)
+        low = middle + 1;
+      else if (tables[middle].key > key)
+        high = middle - 1;
+      else
+        return tables[middle];
+    }
+    return null;
+  }
+
+  /**
+   * Checks if the table of a material is loaded.
+   * @param material EndgameMaterial of the table.
+   * @return boolean true if loaded, else false.
+   */
+  public boolean contains(final EndgameMaterial material) {
+    return findTable(material.getKey()) != null;
+  }
+
+  /**
+   * Gets the number of loaded tables.
+   * @return int number of tables.
+   */
+  public int getTableCount() {
+    return tables.length;
+  }
+
+  /**
+   * Gets the directory of the tablebase files.
+   * @return Path directory field.
+   */
+  public Path getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Encodes a win of the side to move.
+   * @param plies plies to win, at least 1.
+   * @return byte stored result.
+   */
+  static byte encodeWin(final int plies) {
+    return (byte) Math.min(plies, MAX_PLIES);
+  }
+
+  /**
+   * Encodes a loss of the side to move.
+   * @param plies plies to lose, 0 if the side to move has no moves.
+   * @return byte stored result.
+   */
+  static byte encodeLoss(final int plies) {
+    return (byte) -(Math.min(plies, MAX_PLIES) + 1);
+  }
+
+  /**
+   * Checks if a probed result is a win of the side to move.
+   * @param result result from probe().
+   * @return boolean true if won, else false.
+   */
+  public static boolean isWin(final int result) {
+    return result > 0;
+  }
+
+  /**
+   * Checks if a probed result is a loss of the side to move.
+   * @param result result from probe().
+   * @return boolean true if lost, else false.
+   */
+  public static boolean isLoss(final int result) {
+    return result < 0 && result != UNKNOWN;
+  }
+
+  /**
+   * Gets the plies until a won or lost game ends with best play.
+   * @param result result from probe(), a win or loss.
+   * @return int plies, at most MAX_PLIES.
+   */
+  public static int getPlies(final int result) {
+    return result > 0 ? result : -result - 1;
+  }
+
+  /**
+   * Describes a probed result for the side to move, e.g. as a GUI hint.
+   * @param result result from probe().
+   * @return String description of the result.
+   */
+  public static String describe(final int result) {
+    if (result == UNKNOWN)
+      return "Not in tablebase";
+    else if (result == DRAW)
+      return "Draw with best play";
+    return (isWin(result) ? "Wins in " : "Loses in ") + getPlies(result) +
+           (getPlies(result) == MAX_PLIES ? "+" : "") + " plies";
+  }
+
+  /**
+   * Mapped table of a material.
+   */
+  private static final class Table {
+    final EndgameMaterial material;
+    final int key;
+    final ByteBuffer values;
+
+    Table(final EndgameMaterial material, final ByteBuffer values) {
+      this.material = material;
+      this.key = material.getKey();
+      this.values = values;
+    }
+  }
+}
@@ -0,0 +1,345 @@
+package com.BrethrenAce.GameEngine.tablebase;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.CombatOutcome;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates endgame tablebases by retrograde analysis under full
+ * information. The tables of the materials an engagement can lead to are
+ * generated first, then the positions of a material are solved in passes:
+ * pass p resolves the positions that are won or lost in p plies, using the
+ * positions resolved by earlier passes and the tables of smaller materials.
+ * Positions left unresolved once passes stop resolving any are draws.
+ * Each pass is split into chunks of position indexes solved in parallel.
+ * Usage: TablebaseGenerator [directory] [material names...] e.g.
+ * TablebaseGenerator tablebases 1v1 12v1 1v12.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class TablebaseGenerator {
+
+  /** Chunks of each pass per worker thread */
+  private static final int CHUNKS_PER_THREAD = 8;
+
+  /** Directory of the tablebase files */
+  private final Path directory;
+
+  /** Mapped table of each generated material */
+  private final Map<EndgameMaterial, ByteBuffer> tables = new HashMap<>();
+
+  /** Number of worker threads */
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Constructor that takes in the directory of the tablebase files.
+   * @param directory directory to write the tablebase files into.
+   */
+  public TablebaseGenerator(final Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Generates the table of a material and of every material it can lead to,
+   * skipping those already written into the directory.
+   * @param material EndgameMaterial to generate.
+   * @throws IOException if a table cannot be written.
+   * @throws InterruptedException if interrupted while solving.
+   */
+  public void generate(final EndgameMaterial material) throws IOException, InterruptedException {
+    if (tables.containsKey(material))
+      return;
+
+    final Path file = getFile(material);
+    if (Files.isRegularFile(file) && Files.size(file) == material.getTableSize()) {
+      tables.put(material, Tablebase.map(file));
+      return;
+    }
+
+    final ByteBuffer[][] subTables = new ByteBuffer[material.getPieceCount()][material.getPieceCount()];
+    for (int i = 0; i < material.getPieceCount(); i++) {
+      for (int j = i; j < material.getPieceCount(); j++) {
+        if (!isRemovable(material, i, j))
+          continue;
+        final EndgameMaterial subMaterial = i == j ? material.without(i) : material.without(i, j);
+        generate(subMaterial);
+        subTables[i][j] = subTables[j][i] = tables.get(subMaterial);
+      }
+    }
+
+    final byte[] values = solve(material, subTables);
+    Files.createDirectories(directory);
+    final Path temporary = directory.resolve(material.getName() + ".tmp");
+    Files.write(temporary, values);
+    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    tables.put(material, Tablebase.map(file));
+  }
+
+  /**
+   * Checks if an engagement can remove a piece, i == j, or a pair of
+   * opposing pieces of the same rank.
+   */
+  private static boolean isRemovable(final EndgameMaterial material, final int i, final int j) {
+    if (material.getRank(i) == BitBoard.FLAG_RANK)
+      return false;
+    return i == j || (material.getAlliance(i) != material.getAlliance(j) &&
+                      material.getRank(i) == material.getRank(j));
+  }
+
+  /**
+   * Solves every position of a material.
+   * @return byte[] result of each position index.
+   */
+  private byte[] solve(final EndgameMaterial material, final ByteBuffer[][] subTables)
+    throws InterruptedException {
+    final byte[] values = new byte[(int) material.getTableSize()];
+    int subPlies = 0;
+    for (final ByteBuffer[] row : subTables) {
+      for (final ByteBuffer subTable : row) {
+        for (int i = 0; subTable != null && i < subTable.capacity(); i++)
+          subPlies = Math.max(subPlies, Tablebase.getPlies(subTable.get(i)));
+      }
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final int chunkCount = threads * CHUNKS_PER_THREAD;
+      final int chunkSize = (values.length + chunkCount - 1) / chunkCount;
+      boolean changed = true;
+
+      // Smaller tables keep resolving positions until their longest result.
+      for (int pass = 0; changed || pass <= subPlies + 1; pass++) {
+        final List<Future<Integer>> chunks = new ArrayList<>(chunkCount);
+        for (int start = 0; start < values.length; start += chunkSize) {
+          final Pass task = new Pass(material, values, subTables, pass, start,
+                                     Math.min(values.length, start + chunkSize));
+          chunks.add(executor.submit(task::run));
+        }
+        int resolved = 0;
+        for (final Future<Integer> chunk : chunks)
+          resolved += chunk.get();
+        changed = resolved > 0;
+      }
+    } catch (final ExecutionException e) {
+      throw new RuntimeException("Tablebase generation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    return values;
+  }
+
+  /**
+   * Gets the file of the table of a material.
+   * @param material EndgameMaterial of the table.
+   * @return Path of the tablebase file.
+   */
+  public Path getFile(final EndgameMaterial material) {
+    return directory.resolve(material.getName() + Tablebase.FILE_SUFFIX);
+  }
+
+  /**
+   * Sets the number of worker threads.
+   * @param threads worker threads, at least 1.
+   */
+  public void setThreads(final int threads) {
+    this.threads = Math.max(1, threads);
+  }
+
+  /**
+   * One pass over a chunk of position indexes, with its own board and
+   * buffers.
+   */
+  private static final class Pass {
+    private final EndgameMaterial material;
+    private final byte[] values;
+    private final ByteBuffer[][] subTables;
+    private final int pass;
+    private final int start;
+    private final int end;
+    private final BitBoard board = new BitBoard();
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private final int[] tiles;
+    private final int[] childTiles;
+
+    Pass(final EndgameMaterial material, final byte[] values, final ByteBuffer[][] subTables,
+         final int pass, final int start, final int end) {
+      this.material = material;
+      this.values = values;
+      this.subTables = subTables;
+      this.pass = pass;
+      this.start = start;
+      this.end = end;
+      this.tiles = new int[material.getPieceCount()];
+      this.childTiles = new int[material.getPieceCount()];
+    }
+
+    /**
+     * Resolves the positions of the chunk won or lost in pass plies.
+     * @return int number of positions resolved.
+     */
+    int run() {
+      int resolved = 0;
+      for (int index = start; index < end; index++) {
+        if (values[index] == Tablebase.DRAW && decode(index)) {
+          final Alliance side = (index / (values.length / 2)) == 0 ? Alliance.ALLY : Alliance.AXIS;
+          for (int i = 0; i < tiles.length; i++)
+            board.setPiece(tiles[i], material.getAlliance(i), material.getRank(i));
+          final byte value = evaluate(side);
+          for (final int tileId : tiles)
+            board.clearPiece(tileId);
+
+          if (value != Tablebase.DRAW) {
+            values[index] = value;
+            resolved++;
+          }
+        }
+      }
+      return resolved;
+    }
+
+    /**
+     * Sets the tiles of a position index.
+     * @return boolean false if pieces share a tile.
+     */
+    private boolean decode(int index) {
+      for (int i = tiles.length - 1; i >= 0; i--) {
+        tiles[i] = index % BoardUtils.ALL_TILES_COUNT;
+        index /= BoardUtils.ALL_TILES_COUNT;
+        for (int j = i + 1; j < tiles.length; j++) {
+          if (tiles[i] == tiles[j])
+            return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Evaluates the position on the board, counting results of up to pass
+     * plies only.
+     * @return byte encoded result, DRAW if not resolved by this pass.
+     */
+    private byte evaluate(final Alliance side) {
+      final Alliance opponent = side == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+      final int moveCount = MoveGenerator.generateMoves(board, side, moves);
+      int winPlies = Integer.MAX_VALUE;
+      int lossPlies = 0;
+      boolean allLost = true;
+
+      for (int m = 0; m < moveCount; m++) {
+        final long undoRecord = board.makeMove(moves[m]);
+        final Alliance winner = BitBoard.getRecordWinner(undoRecord);
+        board.unmakeMove(undoRecord);
+
+        // Results of the move for side, a win or loss in plies, the same
+        // distances AlphaBetaSearch scores.
+        final boolean won;
+        final int plies;
+        if (winner != null) {
+          won = winner == side;
+          plies = 1;
+        } else {
+          final int childValue = probeChild(undoRecord, opponent);
+          if (childValue == Tablebase.DRAW) {
+            allLost = false;
+            continue;
+          }
+          won = Tablebase.isLoss(childValue);
+          plies = Tablebase.getPlies(childValue) + 1;
+        }
+
+        if (plies > pass && pass <= Tablebase.MAX_PLIES)
+          allLost = false;
+        else if (won)
+          winPlies = Math.min(winPlies, plies);
+        else
+          lossPlies = Math.max(lossPlies, plies);
+      }
+
+      if (winPlies != Integer.MAX_VALUE)
+        return Tablebase.encodeWin(winPlies);
+      else if (allLost)
+        return Tablebase.encodeLoss(lossPlies);
+      return Tablebase.DRAW;
+    }
+
+    /**
+     * Gets the stored result of the position after a move that does not end
+     * the game, for the opponent to move.
+     */
+    private int probeChild(final long undoRecord, final Alliance opponent) {
+      final int move = BitBoard.getRecordMove(undoRecord);
+      final int origin = Move.getPackedOrigin(move);
+      final int destination = Move.getPackedDestination(move);
+      final CombatOutcome outcome = BitBoard.getRecordOutcome(undoRecord);
+      int mover = -1;
+      int target = -1;
+      for (int i = 0; i < tiles.length; i++) {
+        if (tiles[i] == origin)
+          mover = i;
+        else if (tiles[i] == destination)
+          target = i;
+      }
+
+      final int removed;
+      final int otherRemoved;
+      if (outcome == null) {
+        removed = otherRemoved = -1;
+      } else if (outcome == CombatOutcome.ATTACKER_WINS) {
+        removed = otherRemoved = target;
+      } else if (outcome == CombatOutcome.DEFENDER_WINS) {
+        removed = otherRemoved = mover;
+      } else {
+        removed = mover;
+        otherRemoved = target;
+      }
+
+      int count = 0;
+      for (int i = 0; i < tiles.length; i++) {
+        if (i != removed && i != otherRemoved)
+          childTiles[count++] = i == mover ? destination : tiles[i];
+      }
+
+      // Removed pieces keep the order of the remaining ones in the smaller material.
+      if (removed < 0)
+        return values[(int) material.getIndex(opponent, childTiles)];
+      long index = opponent.ordinal();
+      for (int i = 0; i < count; i++)
+        index = index * BoardUtils.ALL_TILES_COUNT + childTiles[i];
+      return subTables[removed][otherRemoved].get((int) index);
+    }
+  }
+
+  public static void main(final String[] args) throws IOException, InterruptedException {
+    final TablebaseGenerator generator =
+      new TablebaseGenerator(Paths.get(args.length > 0 ? args[0] : "tablebases"));
+    final String[] names = args.length > 1 ?
+      Arrays.copyOfRange(args, 1, args.length) : new String[] {"1v1"};
+
+    for (final String name : names) {
+      final long startTime = System.nanoTime();
+      generator.generate(EndgameMaterial.parse(name));
+      System.out.printf("Generated %s in %.1f s%n", name, (System.nanoTime() - startTime) / 1e9);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.BrethrenAce.GameEngine.tablebase;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.BitBoard;
+import com.BrethrenAce.GameEngine.player.AlphaBetaSearch;
+import com.BrethrenAce.GameEngine.player.Evaluation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TablebaseTest {
+
+    /**
+     * Creates a board of the Flag and Private of ALLY against the Flag of AXIS.
+     */
+    private static BitBoard createBoard(final int allyFlag, final int allyPrivate, final int axisFlag) {
+        final BitBoard board = new BitBoard();
+        board.setPiece(allyFlag, Alliance.ALLY, BitBoard.FLAG_RANK);
+        board.setPiece(allyPrivate, Alliance.ALLY, (byte) 2);
+        board.setPiece(axisFlag, Alliance.AXIS, BitBoard.FLAG_RANK);
+        return board;
+    }
+
+    @Test
+    void material() {
+        final EndgameMaterial material = EndgameMaterial.parse("21v1F");
+        assertEquals("12v1f", material.getName());
+        assertEquals(4, material.getPieceCount());
+        assertEquals(2, material.getAllyCount());
+        assertEquals(Alliance.AXIS, material.getAlliance(3));
+        assertEquals(2L * 72 * 72 * 72 * 72, material.getTableSize());
+        assertEquals(EndgameMaterial.parse("1v1f"), material.without(1));
+        assertEquals(EndgameMaterial.parse("12v1"), material.without(3));
+
+        final BitBoard board = new BitBoard();
+        board.setPiece(70, Alliance.ALLY, (byte) 2);
+        board.setPiece(65, Alliance.ALLY, BitBoard.FLAG_RANK);
+        board.setPiece(3, Alliance.AXIS, BitBoard.AGENT_RANK);
+        board.setPiece(4, Alliance.AXIS, BitBoard.FLAG_RANK);
+        assertEquals(material.getKey(), EndgameMaterial.keyOf(board));
+        board.setPiece(5, Alliance.AXIS, BitBoard.AGENT_RANK);
+        assertEquals(-1, EndgameMaterial.keyOf(board));
+
+        assertThrows(IllegalArgumentException.class, () -> EndgameMaterial.parse("2v1"));
+        assertThrows(IllegalArgumentException.class, () -> EndgameMaterial.parse("11v1"));
+        assertThrows(IllegalArgumentException.class, () -> EndgameMaterial.parse("123v12"));
+    }
+
+    @Test
+    void generate(@TempDir final Path dir) throws IOException, InterruptedException {
+        final TablebaseGenerator generator = new TablebaseGenerator(dir);
+        generator.setThreads(2);
+        generator.generate(EndgameMaterial.parse("12v1"));
+        final Tablebase tablebase = new Tablebase(dir);
+        assertEquals(2, tablebase.getTableCount());
+        assertTrue(tablebase.contains(EndgameMaterial.parse("1v1")));
+
+        // Flags next to each other, either side to move captures.
+        final BitBoard board = createBoard(40, 60, 31);
+        assertEquals(1, tablebase.probe(board, Alliance.ALLY));
+        assertEquals(1, tablebase.probe(board, Alliance.AXIS));
+        assertEquals(Tablebase.UNKNOWN, tablebase.probe(new BitBoard(), Alliance.ALLY));
+
+        // Short results agree with a full width search of the same depth.
+        final SplittableRandom random = new SplittableRandom(3);
+        final AlphaBetaSearch search = new AlphaBetaSearch(16);
+        final int[] probeTiles = new int[EndgameMaterial.MAX_PIECES];
+        int checked = 0;
+        while (checked < 40) {
+            final int[] tiles = random.ints(0, 72).distinct().limit(3).toArray();
+            final Alliance side = random.nextBoolean() ? Alliance.ALLY : Alliance.AXIS;
+            final BitBoard position = createBoard(tiles[0], tiles[1], tiles[2]);
+            final int result = tablebase.probe(position, side);
+            assertNotEquals(Tablebase.UNKNOWN, result);
+            // A reused buffer still holding the previous tiles probes the same.
+            assertEquals(result, tablebase.probe(position, side, probeTiles));
+            final int plies = Tablebase.getPlies(result);
+            if (result == Tablebase.DRAW || plies == 0 || plies > 5)
+                continue;
+
+            search.clear();
+            search.findBestMove(position, side, 60_000, plies);
+            final int score = Evaluation.WIN_SCORE - plies;
+            assertEquals(Tablebase.isWin(result) ? score : -score, search.getBestScore());
+            checked++;
+        }
+
+        // Searching with the tablebase sees long results at depth 1.
+        search.setTablebase(tablebase);
+        int longWins = 0;
+        while (longWins < 10) {
+            final int[] tiles = random.ints(0, 72).distinct().limit(3).toArray();
+            final BitBoard position = createBoard(tiles[0], tiles[1], tiles[2]);
+            final int result = tablebase.probe(position, Alliance.ALLY);
+            if (!Tablebase.isWin(result) || Tablebase.getPlies(result) < 5)
+                continue;
+
+            search.clear();
+            assertNotEquals(AlphaBetaSearch.NO_MOVE, search.findBestMove(position, Alliance.ALLY, 60_000, 1));
+            assertEquals(Evaluation.WIN_SCORE - Tablebase.getPlies(result), search.getBestScore());
+            longWins++;
+        }
+    }
+
+    @Test
+    void reload(@TempDir final Path dir) throws IOException, InterruptedException {
+        final Tablebase tablebase = new Tablebase(dir);
+        assertEquals(0, tablebase.getTableCount());
+
+        // Tables cut short are skipped.
+        final EndgameMaterial material = EndgameMaterial.parse("1v1");
+        final TablebaseGenerator generator = new TablebaseGenerator(dir);
+        generator.setThreads(1);
+        Files.write(dir.resolve("12v1" + Tablebase.FILE_SUFFIX), new byte[100]);
+        generator.generate(material);
+        tablebase.reload();
+        assertEquals(1, tablebase.getTableCount());
+        assertEquals(material.getTableSize(), Files.size(generator.getFile(material)));
+
+        final BitBoard board = new BitBoard();
+        board.setPiece(0, Alliance.AXIS, BitBoard.FLAG_RANK);
+        board.setPiece(1, Alliance.ALLY, BitBoard.FLAG_RANK);
+        assertEquals(1, tablebase.probe(board, Alliance.AXIS));
+        assertEquals("Wins in 1 plies", Tablebase.describe(tablebase.probe(board, Alliance.AXIS)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.BrethrenAce.GameServer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Client socket of a MatchServer that reads and writes newline delimited JSON
+ * messages.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class ClientConnection implements Closeable {
+
+  /** Connected client socket */
+  private final Socket socket;
+
+  /** Reader of client lines */
+  private final BufferedReader reader;
+
+  /** Writer of server lines */
+  private final Writer writer;
+
+  /**
+   * Constructor that takes in a connected socket.
+   * @throws IOException if the socket streams cannot be opened.
+   */
+  public ClientConnection(final Socket socket) throws IOException {
+    this.socket = socket;
+    this.socket.setTcpNoDelay(true);
+    this.reader = new BufferedReader(
+      new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    this.writer = new BufferedWriter(
+      new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads the next message, replying with an error message to lines that are
+   * not flat JSON objects.
+   * @return Map of the message values, else null if the client disconnected.
+   */
+  public Map<String, String> readMessage() {
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank())
+          continue;
+        try {
+          return JsonLines.parse(line);
+        } catch (final IllegalArgumentException e) {
+          send(JsonLines.object("type", "error", "message", e.getMessage()));
+        }
+      }
+    } catch (final IOException e) {
+      // Treated as a disconnect.
+    }
+    return null;
+  }
+
+  /**
+   * Waits for the client to send something or disconnect, without consuming
+   * any of it, e.g. to notice a disconnect while the client has nothing to
+   * read.
+   * @param timeoutMillis longest wait in milliseconds, at least 1.
+   * @return boolean true if readMessage() has a line or the disconnect to
+   * return, else false if the wait timed out.
+   */
+  public boolean awaitInput(final int timeoutMillis) {
+    try {
+      socket.setSoTimeout(timeoutMillis);
+      reader.mark(1);
+      if (reader.read() != -1)
+        reader.reset();
+      return true;
+    } catch (final SocketTimeoutException e) {
+      return false;
+    } catch (final IOException e) {
+      // Treated as a disconnect by readMessage().
+      return true;
+    } finally {
+      try {
+        socket.setSoTimeout(0);
+      } catch (final IOException e) {
+        // Closed socket, readMessage() returns null.
+      }
+    }
+  }
+
+  /**
+   * Sends a message line, ignoring a disconnected client.
+   * @param json JSON object without line break.
+   */
+  public synchronized void send(final String json) {
+    try {
+      writer.write(json);
+      writer.write('\n');
+      writer.flush();
+    } catch (final IOException e) {
+      // The disconnect is noticed by the next readMessage().
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      socket.close();
+    } catch (final IOException e) {
+      // Already closed.
+    }
+  }
+}
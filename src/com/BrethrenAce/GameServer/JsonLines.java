@@ -0,0 +1,222 @@
+package com.BrethrenAce.GameServer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility functions of the newline delimited JSON protocol of MatchServer.
+ * Client messages are flat objects of string, number, boolean or null values,
+ * e.g. {"type":"move","from":40,"to":31}. Server messages may also nest Lists
+ * and Maps.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public final class JsonLines {
+
+  /**
+   * Throws RuntimeException when instantiated.
+   */
+  private JsonLines() {
+    throw new RuntimeException("You cannot instantiate JsonLines class");
+  }
+
+  /**
+   * Parses a flat JSON object line.
+   * @param line JSON object text.
+   * @return Map of each key to its value as text, null values are left out.
+   * @throws IllegalArgumentException if the line is not a flat JSON object.
+   */
+  public static Map<String, String> parse(final String line) {
+    final Map<String, String> values = new LinkedHashMap<>();
+    final int[] index = {skipSpaces(line, 0)};
+
+    expect(line, index, '{');
+    if (peek(line, index) == '}') {
+      index[0]++;
+      return values;
+    }
+
+    while (true) {
+      final String key = parseString(line, index);
+      expect(line, index, ':');
+      final String value;
+      if (peek(line, index) == '"') {
+        value = parseString(line, index);
+      } else {
+        final int start = index[0];
+        while (index[0] < line.length() && ",} \t\r".indexOf(line.charAt(index[0])) == -1)
+          index[0]++;
+        value = line.substring(start, index[0]);
+        if (value.isEmpty())
+          throw new IllegalArgumentException("Missing value of " + key);
+      }
+      if (!value.equals("null"))
+        values.put(key, value);
+
+      final char next = peek(line, index);
+      index[0]++;
+      if (next == '}')
+        return values;
+      else if (next != ',')
+        throw new IllegalArgumentException("Expected , or } at " + (index[0] - 1));
+    }
+  }
+
+  /**
+   * Writes key and value pairs into a single line JSON object.
+   * @param keyValues alternating String keys and their values.
+   * @return String JSON object without line break.
+   */
+  public static String object(final Object... keyValues) {
+    final Map<String, Object> values = new LinkedHashMap<>();
+    for (int i = 0; i + 1 < keyValues.length; i += 2)
+      values.put((String) keyValues[i], keyValues[i + 1]);
+    final StringBuilder builder = new StringBuilder();
+    write(builder, values);
+    return builder.toString();
+  }
+
+  /**
+   * Appends a value as JSON.
+   */
+  private static void write(final StringBuilder builder, final Object value) {
+    if (value == null) {
+      builder.append("null");
+    } else if (value instanceof Number || value instanceof Boolean) {
+      builder.append(value);
+    } else if (value instanceof Map) {
+      builder.append('{');
+      boolean first = true;
+      for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        if (!first)
+          builder.append(',');
+        first = false;
+        writeString(builder, String.valueOf(entry.getKey()));
+        builder.append(':');
+        write(builder, entry.getValue());
+      }
+      builder.append('}');
+    } else if (value instanceof List) {
+      builder.append('[');
+      boolean first = true;
+      for (final Object element : (List<?>) value) {
+        if (!first)
+          builder.append(',');
+        first = false;
+        write(builder, element);
+      }
+      builder.append(']');
+    } else {
+      writeString(builder, value.toString());
+    }
+  }
+
+  /**
+   * Appends an escaped JSON string.
+   */
+  private static void writeString(final StringBuilder builder, final String text) {
+    builder.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      switch (c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          if (c < 0x20)
+            builder.append(String.format("\\u%04x", (int) c));
+          else
+            builder.append(c);
+      }
+    }
+    builder.append('"');
+  }
+
+  /**
+   * Parses a JSON string starting at index, moving index past it.
+   */
+  private static String parseString(final String line, final int[] index) {
+    expect(line, index, '"');
+    final StringBuilder builder = new StringBuilder();
+    while (index[0] < line.length()) {
+      final char c = line.charAt(index[0]++);
+      if (c == '"')
+        return builder.toString();
+      if (c != '\\') {
+        builder.append(c);
+        continue;
+      }
+      if (index[0] >= line.length())
+        break;
+      final char escaped = line.charAt(index[0]++);
+      switch (escaped) {
+        case 'n':
+          builder.append('\n');
+          break;
+        case 't':
+          builder.append('\t');
+          break;
+        case 'r':
+          builder.append('\r');
+          break;
+        case 'b':
+          builder.append('\b');
+          break;
+        case 'f':
+          builder.append('\f');
+          break;
+        case 'u':
+          if (index[0] + 4 > line.length())
+            throw new IllegalArgumentException("Bad unicode escape");
+          builder.append((char) Integer.parseInt(line.substring(index[0], index[0] + 4), 16));
+          index[0] += 4;
+          break;
+        default:
+          builder.append(escaped);
+      }
+    }
+    throw new IllegalArgumentException("Unterminated string");
+  }
+
+  /**
+   * Skips spaces, then checks and moves past an expected character.
+   */
+  private static void expect(final String line, final int[] index, final char expected) {
+    if (peek(line, index) != expected)
+      throw new IllegalArgumentException("Expected " + expected + " at " + index[0]);
+    index[0]++;
+  }
+
+  /**
+   * Skips spaces and gets the next character without moving past it.
+   * @return char next character, else 0 at the end of the line.
+   */
+  private static char peek(final String line, final int[] index) {
+    index[0] = skipSpaces(line, index[0]);
+    return index[0] < line.length() ? line.charAt(index[0]) : 0;
+  }
+
+  /**
+   * Gets the index of the next non space character.
+   */
+  private static int skipSpaces(final String line, int index) {
+    while (index < line.length() && Character.isWhitespace(line.charAt(index)))
+      index++;
+    return index;
+  }
+}
@@ -0,0 +1,307 @@
+package com.BrethrenAce.GameServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Headless match host that accepts game sessions over a newline delimited
+ * JSON socket protocol. Every connection and every match runs on its own
+ * virtual thread when the JVM has them, Java 21 or later, else on a cached
+ * pool of platform threads.
+ *
+ * Client messages:
+ * {"type":"join","mode":"ai","alliance":"ALLY","budget":200} plays an AIPlayer,
+ * {"type":"join","mode":"pvp"} is paired with the next pvp client,
+ * {"type":"leave"} leaves the pvp lobby while waiting,
+ * {"type":"move","from":40,"to":31} moves a piece on its turn,
+ * {"type":"resign"} concedes, and {"type":"stats"} replies the ServerMetrics.
+ * Server messages are of type start, waiting, left, move, invalid, end, stats
+ * and error. A waiting pvp client is read by its own thread, which notices a
+ * disconnect or leave, and plays the match once paired.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class MatchServer implements Closeable {
+
+  /** Default port of the server */
+  public static final int DEFAULT_PORT = 7420;
+
+  /** Default time budget per AIPlayer turn in milliseconds */
+  public static final long DEFAULT_AI_TIME_BUDGET_MILLIS = 200;
+
+  /** Longest time budget per AIPlayer turn a client may ask for */
+  public static final long MAX_AI_TIME_BUDGET_MILLIS = 10_000;
+
+  /** Milliseconds between disconnect checks of a waiting pvp client */
+  private static final int LOBBY_POLL_MILLIS = 100;
+
+  /** Seconds between metrics printed by main() */
+  private static final int METRICS_INTERVAL_SECONDS = 30;
+
+  /** Listening socket */
+  private final ServerSocket serverSocket;
+
+  /** Runs the accept loop, connections and matches */
+  private final ExecutorService executor;
+
+  /** Whether executor creates virtual threads */
+  private final boolean virtualThreads;
+
+  /** Counters of this server */
+  private final ServerMetrics metrics = new ServerMetrics();
+
+  /** Open client connections, closed with the server */
+  private final Set<ClientConnection> clients = ConcurrentHashMap.newKeySet();
+
+  /** Guards waitingClient and waitingOpponent */
+  private final Object lobbyLock = new Object();
+
+  /** pvp client waiting for an opponent, null if none */
+  private ClientConnection waitingClient;
+
+  /** Completed with the opponent of waitingClient once paired */
+  private CompletableFuture<ClientConnection> waitingOpponent;
+
+  /**
+   * Constructor that binds the server to a port.
+   * @param port port to listen on, 0 for any free port.
+   * @throws IOException if the port cannot be bound.
+   */
+  public MatchServer(final int port) throws IOException {
+    this.serverSocket = new ServerSocket(port);
+    ExecutorService virtualExecutor;
+    try {
+      // Looked up reflectively so the project still builds on Java 14.
+      virtualExecutor = (ExecutorService) Executors.class
+        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final ReflectiveOperationException e) {
+      virtualExecutor = null;
+    }
+    this.virtualThreads = virtualExecutor != null;
+    this.executor = virtualThreads ? virtualExecutor : Executors.newCachedThreadPool();
+  }
+
+  /**
+   * Starts accepting connections in the background.
+   */
+  public void start() {
+    executor.execute(this::serve);
+  }
+
+  /**
+   * Accepts connections until the server is closed.
+   */
+  public void serve() {
+    while (!serverSocket.isClosed()) {
+      try {
+        final Socket socket = serverSocket.accept();
+        executor.execute(() -> handleConnection(socket));
+      } catch (final IOException e) {
+        if (!serverSocket.isClosed())
+          System.out.println("MatchServer E: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Reads the messages of a connection until it joins a match, then plays it
+   * unless it is handed over to the thread of a waiting pvp client.
+   */
+  private void handleConnection(final Socket socket) {
+    final ClientConnection client;
+    try {
+      client = new ClientConnection(socket);
+    } catch (final IOException e) {
+      return;
+    }
+    clients.add(client);
+
+    Map<String, String> message;
+    while ((message = client.readMessage()) != null) {
+      switch (message.getOrDefault("type", "")) {
+        case "stats":
+          client.send(JsonLines.object("type", "stats", "metrics", metrics.toMap()));
+          break;
+        case "join":
+          if (joinMatch(client, message))
+            return;
+          break;
+        default:
+          client.send(JsonLines.object("type", "error", "message",
+                                       "Expected join or stats message"));
+      }
+    }
+    closeClient(client);
+  }
+
+  /**
+   * Closes a client connection and forgets it.
+   */
+  private void closeClient(final ClientConnection client) {
+    clients.remove(client);
+    client.close();
+  }
+
+  /**
+   * Plays a match of a client on the current thread. A pvp client either
+   * pairs with the waiting client, whose thread then plays the match, or
+   * waits in the lobby for an opponent.
+   * @return boolean true if the client was played or handed over, else false
+   * if it left the lobby or disconnected while waiting.
+   */
+  private boolean joinMatch(final ClientConnection client, final Map<String, String> message) {
+    if ("pvp".equals(message.get("mode"))) {
+      final CompletableFuture<ClientConnection> opponent;
+      synchronized (lobbyLock) {
+        if (waitingClient != null) {
+          waitingOpponent.complete(client);
+          waitingClient = null;
+          waitingOpponent = null;
+          return true;
+        }
+        opponent = new CompletableFuture<>();
+        waitingClient = client;
+        waitingOpponent = opponent;
+      }
+
+      client.send(JsonLines.object("type", "waiting"));
+      if (!awaitOpponent(client, opponent))
+        return false;
+      new MatchSession(client, opponent.join(), metrics, DEFAULT_AI_TIME_BUDGET_MILLIS).run();
+      closeClient(opponent.join());
+      closeClient(client);
+      return true;
+    }
+
+    long budget = DEFAULT_AI_TIME_BUDGET_MILLIS;
+    try {
+      if (message.containsKey("budget"))
+        budget = Math.max(1, Math.min(MAX_AI_TIME_BUDGET_MILLIS,
+                                      Long.parseLong(message.get("budget"))));
+    } catch (final NumberFormatException e) {
+      // Keep the default budget.
+    }
+
+    if ("AXIS".equalsIgnoreCase(message.get("alliance")))
+      new MatchSession(null, client, metrics, budget).run();
+    else
+      new MatchSession(client, null, metrics, budget).run();
+    closeClient(client);
+    return true;
+  }
+
+  /**
+   * Reads the messages of the waiting pvp client until it is paired, leaves
+   * or disconnects, so neither a dead client is paired nor its lobby messages
+   * are read later as moves.
+   * @return boolean true if paired, else false if it left the lobby.
+   */
+  private boolean awaitOpponent(final ClientConnection client,
+                                final CompletableFuture<ClientConnection> opponent) {
+    while (!opponent.isDone()) {
+      if (!client.awaitInput(LOBBY_POLL_MILLIS))
+        continue;
+
+      final Map<String, String> message = client.readMessage();
+      final String type = message == null ? "leave" : message.getOrDefault("type", "");
+      switch (type) {
+        case "leave":
+          synchronized (lobbyLock) {
+            // Paired meanwhile, the match notices a disconnect itself.
+            if (opponent.isDone())
+              return true;
+            waitingClient = null;
+            waitingOpponent = null;
+          }
+          if (message != null)
+            client.send(JsonLines.object("type", "left"));
+          return false;
+        case "stats":
+          client.send(JsonLines.object("type", "stats", "metrics", metrics.toMap()));
+          break;
+        default:
+          client.send(JsonLines.object("type", "error", "message",
+                                       "Waiting for an opponent, expected leave or stats message"));
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if a pvp client is waiting for an opponent.
+   * @return boolean true if the lobby has a waiting client, else false.
+   */
+  public boolean hasWaitingClient() {
+    synchronized (lobbyLock) {
+      return waitingClient != null;
+    }
+  }
+
+  /**
+   * Gets the port the server listens on.
+   * @return int local port.
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Gets the counters of this server.
+   * @return ServerMetrics metrics field.
+   */
+  public ServerMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Checks if matches run on virtual threads.
+   * @return boolean virtualThreads field.
+   */
+  public boolean isVirtualThreads() {
+    return this.virtualThreads;
+  }
+
+  /**
+   * Stops accepting connections and disconnects all clients, which ends
+   * their matches.
+   */
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    for (final ClientConnection client : clients)
+      closeClient(client);
+    executor.shutdownNow();
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final MatchServer server = new MatchServer(
+      args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT);
+    System.out.println("MatchServer listening on port " + server.getPort() +
+                       (server.isVirtualThreads() ? " with virtual threads" : " with platform threads"));
+
+    final Thread metricsPrinter = new Thread(() -> {
+      try {
+        while (true) {
+          Thread.sleep(METRICS_INTERVAL_SECONDS * 1000L);
+          System.out.println(server.getMetrics());
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    metricsPrinter.setDaemon(true);
+    metricsPrinter.start();
+
+    server.serve();
+  }
+}
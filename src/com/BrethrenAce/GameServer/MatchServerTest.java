@@ -0,0 +1,150 @@
+package com.BrethrenAce.GameServer;
+
+import com.BrethrenAce.GameUtilities.BoardUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchServerTest {
+
+    private static final Pattern TILE = Pattern.compile("\\{\"tile\":(\\d+)");
+
+    @Test
+    void parse() {
+        final Map<String, String> message =
+            JsonLines.parse(" {\"type\":\"move\", \"from\":40,\"to\" : 31,\"note\":\"a\\\"b\",\"x\":null}");
+
+        assertEquals("move", message.get("type"));
+        assertEquals("40", message.get("from"));
+        assertEquals("31", message.get("to"));
+        assertEquals("a\"b", message.get("note"));
+        assertFalse(message.containsKey("x"));
+        assertThrows(IllegalArgumentException.class, () -> JsonLines.parse("{\"type\""));
+    }
+
+    /**
+     * Sends a message line and reads the parsed reply line.
+     */
+    private static Map<String, String> request(final Socket socket, final String json) throws IOException {
+        final PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+        out.println(json);
+        return readReply(socket);
+    }
+
+    /**
+     * Reads the next line byte by byte, so no later line is read ahead, and
+     * drops the piece lists of start messages.
+     */
+    private static Map<String, String> readReply(final Socket socket) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = socket.getInputStream().read()) != -1 && b != '\n')
+            line.write(b);
+        return JsonLines.parse(new String(line.toByteArray(), StandardCharsets.UTF_8)
+                                   .replaceAll(",\"pieces\".*", "}"));
+    }
+
+    @Test
+    void pvpLobby() throws IOException, InterruptedException {
+        try (final MatchServer server = new MatchServer(0)) {
+            server.start();
+
+            // Lines of a waiting client are answered and never read as moves.
+            try (final Socket socket = new Socket("localhost", server.getPort())) {
+                assertEquals("waiting", request(socket, "{\"type\":\"join\",\"mode\":\"pvp\"}").get("type"));
+                assertEquals("error", request(socket, "{\"type\":\"move\",\"from\":0,\"to\":9}").get("type"));
+                assertEquals("stats", request(socket, "{\"type\":\"stats\"}").get("type"));
+                assertTrue(server.hasWaitingClient());
+            }
+
+            // A client disconnected while waiting leaves the lobby.
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (server.hasWaitingClient() && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertFalse(server.hasWaitingClient());
+
+            try (final Socket ally = new Socket("localhost", server.getPort());
+                 final Socket axis = new Socket("localhost", server.getPort())) {
+                assertEquals("waiting", request(ally, "{\"type\":\"join\",\"mode\":\"pvp\"}").get("type"));
+                assertEquals("left", request(ally, "{\"type\":\"leave\"}").get("type"));
+                assertFalse(server.hasWaitingClient());
+
+                assertEquals("waiting", request(ally, "{\"type\":\"join\",\"mode\":\"pvp\"}").get("type"));
+                final Map<String, String> axisStart = request(axis, "{\"type\":\"join\",\"mode\":\"pvp\"}");
+                assertEquals("start", axisStart.get("type"));
+                assertEquals("AXIS", axisStart.get("alliance"));
+                final Map<String, String> allyStart = readReply(ally);
+                assertEquals("start", allyStart.get("type"));
+                assertEquals("ALLY", allyStart.get("alliance"));
+
+                final Socket moveMaker = "ALLY".equals(allyStart.get("first")) ? ally : axis;
+                final Map<String, String> end = request(moveMaker, "{\"type\":\"resign\"}");
+                assertEquals("end", end.get("type"));
+                assertEquals("resign", end.get("reason"));
+                assertEquals(0, server.getMetrics().getMoves());
+            }
+        }
+    }
+
+    @Test
+    void playAgainstAI() throws IOException {
+        try (final MatchServer server = new MatchServer(0)) {
+            server.start();
+            try (final Socket socket = new Socket("localhost", server.getPort())) {
+                final BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                final PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+
+                out.println("{\"type\":\"join\",\"mode\":\"ai\",\"budget\":1}");
+                final String start = in.readLine();
+                assertEquals("start", JsonLines.parse(start.replaceAll(",\"pieces\".*", "}")).get("type"));
+
+                // Move any piece into a neighbour Tile not occupied by an own piece.
+                final Set<Integer> ownTiles = new HashSet<>();
+                final Matcher matcher = TILE.matcher(start);
+                while (matcher.find())
+                    ownTiles.add(Integer.parseInt(matcher.group(1)));
+                int origin = -1;
+                int destination = -1;
+                for (final int tile : ownTiles) {
+                    for (int i = 0; i < BoardUtils.getNeighbourCount(tile) && origin == -1; i++) {
+                        if (!ownTiles.contains(BoardUtils.getNeighbour(tile, i))) {
+                            origin = tile;
+                            destination = BoardUtils.getNeighbour(tile, i);
+                        }
+                    }
+                }
+                out.println("{\"type\":\"move\",\"from\":" + origin + ",\"to\":" + destination + "}");
+                final Map<String, String> move = JsonLines.parse(in.readLine());
+                assertEquals("move", move.get("type"));
+                assertEquals("ALLY", move.get("alliance"));
+                assertEquals(String.valueOf(origin), move.get("from"));
+
+                out.println("{\"type\":\"resign\"}");
+                String line;
+                Map<String, String> end = null;
+                while ((line = in.readLine()) != null) {
+                    end = JsonLines.parse(line);
+                    if ("end".equals(end.get("type")))
+                        break;
+                }
+                assertNotNull(end);
+                assertEquals("end", end.get("type"));
+                assertTrue(server.getMetrics().getMoves() >= 1);
+            }
+        }
+    }
+}
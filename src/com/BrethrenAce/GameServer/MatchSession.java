@@ -0,0 +1,234 @@
+package com.BrethrenAce.GameServer;
+
+import com.BrethrenAce.GameEngine.Alliance;
+import com.BrethrenAce.GameEngine.Board;
+import com.BrethrenAce.GameEngine.Move;
+import com.BrethrenAce.GameEngine.MoveGenerator;
+import com.BrethrenAce.GameEngine.MoveType;
+import com.BrethrenAce.GameEngine.pieces.Rank;
+import com.BrethrenAce.GameEngine.player.AIPlayer;
+import com.BrethrenAce.GameEngine.player.ISMCTSPlayer;
+import com.BrethrenAce.GameEngine.player.Player;
+import com.BrethrenAce.GameUtilities.BoardUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single match of a MatchServer, driving its own headless Board with its
+ * Players and Moves on the thread that runs it. Each side is either a
+ * connected client or an ISMCTSPlayer, which like the clients does not see
+ * the hidden opposing ranks. Clients are told their own ranks and only the
+ * tiles of the opposing pieces, then the arbiter result of every move.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class MatchSession implements Runnable {
+
+  /** Clients indexed by Alliance ordinal, null for an AIPlayer side */
+  private final ClientConnection[] clients = new ClientConnection[Alliance.values().length];
+
+  /** Counters of the hosting server */
+  private final ServerMetrics metrics;
+
+  /** Time budget per AIPlayer turn in milliseconds */
+  private final long aiTimeBudgetMillis;
+
+  /** Board of this match */
+  private Board board;
+
+  /**
+   * Constructor that takes in the clients of each side.
+   * @param allyClient client playing ALLY, null for an AIPlayer.
+   * @param axisClient client playing AXIS, null for an AIPlayer.
+   * @param metrics counters of the hosting server.
+   * @param aiTimeBudgetMillis time budget per AIPlayer turn.
+   */
+  public MatchSession(final ClientConnection allyClient, final ClientConnection axisClient,
+                      final ServerMetrics metrics, final long aiTimeBudgetMillis) {
+    this.clients[Alliance.ALLY.ordinal()] = allyClient;
+    this.clients[Alliance.AXIS.ordinal()] = axisClient;
+    this.metrics = metrics;
+    this.aiTimeBudgetMillis = aiTimeBudgetMillis;
+  }
+
+  @Override
+  public void run() {
+    metrics.sessionStarted();
+    try {
+      play();
+    } finally {
+      for (final ClientConnection client : clients) {
+        if (client != null)
+          client.close();
+      }
+      metrics.sessionEnded();
+    }
+  }
+
+  /**
+   * Plays the match until a side wins, resigns or disconnects.
+   */
+  private void play() {
+    board = new Board(createPlayer(Alliance.AXIS), createPlayer(Alliance.ALLY));
+    board.setHeadless(true);
+    board.initGame();
+    board.startGame();
+
+    for (final Alliance alliance : Alliance.values())
+      sendTo(alliance, createStartMessage(alliance));
+
+    final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    while (!board.isEndGame()) {
+      final Alliance side = board.getMoveMaker();
+      final Player player = board.getPlayer(side);
+
+      // A side without any move has lost.
+      if (MoveGenerator.generateMoves(board, side, moves) == 0) {
+        endMatch(opponentOf(side), "no-moves");
+        return;
+      }
+
+      if (player instanceof AIPlayer) {
+        ((AIPlayer) player).makeBestMove();
+        broadcastMove(board.getLastMove());
+        continue;
+      }
+
+      final ClientConnection client = clients[side.ordinal()];
+      final Map<String, String> message = client.readMessage();
+      if (message == null) {
+        endMatch(opponentOf(side), "disconnect");
+        return;
+      }
+
+      final long startTime = System.nanoTime();
+      switch (message.getOrDefault("type", "")) {
+        case "move":
+          if (submitMove(player, client, message))
+            metrics.recordMove(System.nanoTime() - startTime);
+          break;
+        case "resign":
+          endMatch(opponentOf(side), "resign");
+          return;
+        case "stats":
+          client.send(JsonLines.object("type", "stats", "metrics", metrics.toMap()));
+          break;
+        default:
+          client.send(JsonLines.object("type", "error", "message",
+                                       "Unknown message type: " + message.get("type")));
+      }
+    }
+
+    endMatch(board.getEndGameWinner(), "flag");
+  }
+
+  /**
+   * Validates and executes a move message of a client.
+   * @return boolean true if the move was executed, else false.
+   */
+  private boolean submitMove(final Player player, final ClientConnection client,
+                             final Map<String, String> message) {
+    final int origin;
+    final int destination;
+    try {
+      origin = Integer.parseInt(message.get("from"));
+      destination = Integer.parseInt(message.get("to"));
+    } catch (final NumberFormatException e) {
+      client.send(JsonLines.object("type", "invalid", "reason", "from and to must be tile numbers"));
+      return false;
+    }
+
+    if (origin < 0 || origin >= BoardUtils.ALL_TILES_COUNT ||
+        destination < 0 || destination >= BoardUtils.ALL_TILES_COUNT ||
+        board.getPieceAlliance(origin) != player.getAlliance() ||
+        !player.makeMove(origin, destination)) {
+      client.send(JsonLines.object("type", "invalid", "from", origin, "to", destination));
+      return false;
+    }
+
+    broadcastMove(board.getLastMove());
+    return true;
+  }
+
+  /**
+   * Creates a client Player, or an ISMCTSPlayer if the side has no client.
+   * A full information AIPlayer would read the hidden ranks of the client.
+   */
+  private Player createPlayer(final Alliance alliance) {
+    if (clients[alliance.ordinal()] != null)
+      return new Player(null, alliance);
+    return new ISMCTSPlayer(null, alliance, aiTimeBudgetMillis);
+  }
+
+  /**
+   * Creates the start message of a side, with its own ranks and the tiles of
+   * the opposing pieces.
+   */
+  private String createStartMessage(final Alliance alliance) {
+    final List<Object> pieces = new ArrayList<>();
+    final List<Object> opponentTiles = new ArrayList<>();
+    for (int i = 0; i < BoardUtils.ALL_TILES_COUNT; i++) {
+      if (board.getPieceAlliance(i) == alliance) {
+        final Map<String, Object> piece = new LinkedHashMap<>();
+        piece.put("tile", i);
+        piece.put("rank", Rank.fromCode(board.getPieceRank(i)).getName());
+        pieces.add(piece);
+      } else if (board.isTileOccupied(i)) {
+        opponentTiles.add(i);
+      }
+    }
+    return JsonLines.object("type", "start", "alliance", alliance, "first", board.getMoveMaker(),
+                            "pieces", pieces, "opponent", opponentTiles);
+  }
+
+  /**
+   * Announces an executed move to both clients, without the ranks involved.
+   */
+  private void broadcastMove(final Move move) {
+    final String eliminated;
+    if (move.getMoveType() == MoveType.DRAW)
+      eliminated = "BOTH";
+    else if (move.getMoveType() == MoveType.ATTACKING)
+      eliminated = move.getEliminatedPiece().getPieceAlliance().toString();
+    else
+      eliminated = null;
+
+    final String json = JsonLines.object(
+      "type", "move", "turn", move.getTurnId(), "alliance", move.getPlayer().getAlliance(),
+      "from", move.getOriginCoords(), "to", move.getDestinationCoords(),
+      "result", move.getMoveType(), "eliminated", eliminated);
+    for (final Alliance alliance : Alliance.values())
+      sendTo(alliance, json);
+  }
+
+  /**
+   * Announces the end of the match to both clients.
+   */
+  private void endMatch(final Alliance winner, final String reason) {
+    final String json = JsonLines.object("type", "end", "winner", winner, "reason", reason,
+                                         "turns", board.getCurrentTurn() - 1);
+    for (final Alliance alliance : Alliance.values())
+      sendTo(alliance, json);
+  }
+
+  /**
+   * Sends a message to the client of a side, if any.
+   */
+  private void sendTo(final Alliance alliance, final String json) {
+    final ClientConnection client = clients[alliance.ordinal()];
+    if (client != null)
+      client.send(json);
+  }
+
+  /**
+   * Gets the opposing Alliance.
+   */
+  private static Alliance opponentOf(final Alliance alliance) {
+    return alliance == Alliance.AXIS ? Alliance.ALLY : Alliance.AXIS;
+  }
+}
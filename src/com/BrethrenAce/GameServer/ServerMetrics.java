@@ -0,0 +1,155 @@
+package com.BrethrenAce.GameServer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe counters of a MatchServer: running sessions and the latency of
+ * submitted moves, from receiving the move line until every client of the
+ * match has been sent the result.
+ *
+ * Author: Brethren de la Gente
+ * Date: 2026-10-18
+ */
+@SuppressWarnings("unused")
+public class ServerMetrics {
+
+  /** Sessions currently playing */
+  private final AtomicInteger activeSessions = new AtomicInteger();
+
+  /** Most sessions played at once */
+  private final AtomicInteger peakSessions = new AtomicInteger();
+
+  /** Sessions finished */
+  private final LongAdder completedSessions = new LongAdder();
+
+  /** Submitted moves applied */
+  private final LongAdder moves = new LongAdder();
+
+  /** Latency of all submitted moves in nanoseconds */
+  private final LongAdder totalMoveLatencyNanos = new LongAdder();
+
+  /** Highest latency of a submitted move in nanoseconds */
+  private final AtomicLong maxMoveLatencyNanos = new AtomicLong();
+
+  /**
+   * Counts a started session.
+   */
+  public void sessionStarted() {
+    final int active = activeSessions.incrementAndGet();
+    peakSessions.accumulateAndGet(active, Math::max);
+  }
+
+  /**
+   * Counts a finished session.
+   */
+  public void sessionEnded() {
+    activeSessions.decrementAndGet();
+    completedSessions.increment();
+  }
+
+  /**
+   * Counts an applied move.
+   * @param latencyNanos time taken to apply and announce the move.
+   */
+  public void recordMove(final long latencyNanos) {
+    moves.increment();
+    totalMoveLatencyNanos.add(latencyNanos);
+    maxMoveLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+
+  /**
+   * Gets the sessions currently playing.
+   * @return int active sessions.
+   */
+  public int getActiveSessions() {
+    return activeSessions.get();
+  }
+
+  /**
+   * Gets the most sessions played at once.
+   * @return int peak sessions.
+   */
+  public int getPeakSessions() {
+    return peakSessions.get();
+  }
+
+  /**
+   * Gets the sessions finished.
+   * @return long completed sessions.
+   */
+  public long getCompletedSessions() {
+    return completedSessions.sum();
+  }
+
+  /**
+   * Gets the submitted moves applied.
+   * @return long moves.
+   */
+  public long getMoves() {
+    return moves.sum();
+  }
+
+  /**
+   * Gets the average latency of a submitted move.
+   * @return double latency in microseconds, 0 if no moves yet.
+   */
+  public double getAverageMoveLatencyMicros() {
+    final long count = moves.sum();
+    return count == 0 ? 0 : totalMoveLatencyNanos.sum() / 1e3 / count;
+  }
+
+  /**
+   * Gets the highest latency of a submitted move.
+   * @return double latency in microseconds.
+   */
+  public double getMaxMoveLatencyMicros() {
+    return maxMoveLatencyNanos.get() / 1e3;
+  }
+
+  /**
+   * Gets the sessions currently playing per available processor.
+   * @return double sessions per core.
+   */
+  public double getSessionsPerCore() {
+    return (double) activeSessions.get() / Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Gets the peak sessions per available processor.
+   * @return double peak sessions per core.
+   */
+  public double getPeakSessionsPerCore() {
+    return (double) peakSessions.get() / Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Gets all counters by name, e.g. for a stats message.
+   * @return Map of counter names to values.
+   */
+  public Map<String, Object> toMap() {
+    final Map<String, Object> values = new LinkedHashMap<>();
+    values.put("activeSessions", getActiveSessions());
+    values.put("peakSessions", getPeakSessions());
+    values.put("completedSessions", getCompletedSessions());
+    values.put("cores", Runtime.getRuntime().availableProcessors());
+    values.put("sessionsPerCore", getSessionsPerCore());
+    values.put("peakSessionsPerCore", getPeakSessionsPerCore());
+    values.put("moves", getMoves());
+    values.put("avgMoveLatencyMicros", getAverageMoveLatencyMicros());
+    values.put("maxMoveLatencyMicros", getMaxMoveLatencyMicros());
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "Sessions: %d active (%.2f per core), %d peak, %d completed%n" +
+      "Moves: %d, latency avg %.1f us, max %.1f us",
+      getActiveSessions(), getSessionsPerCore(), getPeakSessions(), getCompletedSessions(),
+      getMoves(), getAverageMoveLatencyMicros(), getMaxMoveLatencyMicros());
+  }
+}
@@ -5,8 +5,12 @@ import com.BrethrenAce.GameEngine.Alliance;
 import com.BrethrenAce.GameEngine.Board;
 import com.BrethrenAce.GameEngine.Board.BoardBuilder;
 import com.BrethrenAce.GameEngine.player.Player;
+import com.BrethrenAce.GameEngine.tablebase.Tablebase;
 
 import javax.swing.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static com.TestClasses.EngineTests.BoardTest.builder;
 
@@ -35,6 +39,11 @@ public class Main {
         builder = builder.createRandomBuild();
         board.setBoardBuilder(builder);
 
+        // Endgame tablebases written by TablebaseGenerator, if any.
+        final Path tablebases = Paths.get("tablebases");
+        if (Files.isDirectory(tablebases))
+          board.setTablebase(new Tablebase(tablebases));
+
         board.setDebugMode(true);
         new MainFrame(board);
       } catch (Exception e) {
@@ -1,7 +1,8 @@
 package com.BrethrenAce.GameUtilities;
 
 import com.BrethrenAce.GameEngine.Alliance;
-import com.BrethrenAce.GameEngine.pieces.*;
+import com.BrethrenAce.GameEngine.pieces.Piece;
+import com.BrethrenAce.GameEngine.pieces.Rank;
 import com.BrethrenAce.GameEngine.player.Player;
 
 /**
@@ -63,49 +64,123 @@ public class BoardUtils {
   /** First tile index of the second to las board row */
   public static final int SECOND_TO_LAST_ROW_INIT = LAST_ROW_INIT - TILE_COLUMN_COUNT;
 
+  /** Maximum neighbour tiles of a single tile */
+  public static final int MAX_NEIGHBOUR_COUNT = 4;
+
+  /**
+   * Neighbour tiles of each tile in up, down, left and right order, indexed by
+   * tileId * MAX_NEIGHBOUR_COUNT. Only the first NEIGHBOUR_COUNTS[tileId]
+   * entries are valid.
+   */
+  private static final int[] NEIGHBOURS = new int[ALL_TILES_COUNT * MAX_NEIGHBOUR_COUNT];
+
+  /** Number of neighbour tiles of each tile */
+  private static final int[] NEIGHBOUR_COUNTS = new int[ALL_TILES_COUNT];
+
+  /** Neighbour tiles 0 to 63 of each tile as bitmask, same layout as BitBoard */
+  private static final long[] LOW_NEIGHBOUR_MASKS = new long[ALL_TILES_COUNT];
+
+  /** Neighbour tiles 64 to 71 of each tile as bitmask, same layout as BitBoard */
+  private static final long[] HIGH_NEIGHBOUR_MASKS = new long[ALL_TILES_COUNT];
+
+  static {
+    for (int tileId = 0; tileId < ALL_TILES_COUNT; tileId++) {
+      if (tileId >= SECOND_ROW_INIT)
+        addNeighbour(tileId, tileId - TILE_COLUMN_COUNT);
+      if (tileId < LAST_ROW_INIT)
+        addNeighbour(tileId, tileId + TILE_COLUMN_COUNT);
+      if (tileId % TILE_COLUMN_COUNT != 0)
+        addNeighbour(tileId, tileId - 1);
+      if ((tileId + 1) % TILE_COLUMN_COUNT != 0)
+        addNeighbour(tileId, tileId + 1);
+    }
+  }
+
+  /**
+   * Adds a neighbour tile into the neighbour tables of a tile.
+   * @param tileId tile index or ID.
+   * @param neighbourId adjacent tile index or ID.
+   */
+  private static void addNeighbour(final int tileId, final int neighbourId) {
+    NEIGHBOURS[tileId * MAX_NEIGHBOUR_COUNT + NEIGHBOUR_COUNTS[tileId]++] = neighbourId;
+    if (neighbourId < 64)
+      LOW_NEIGHBOUR_MASKS[tileId] |= 1L << neighbourId;
+    else
+      HIGH_NEIGHBOUR_MASKS[tileId] |= 1L << (neighbourId - 64);
+  }
+
+  /**
+   * Gets the number of neighbour tiles of a tile.
+   * @param tileId tile index or ID.
+   * @return int 2 for corners, 3 for edges, else 4.
+   */
+  public static int getNeighbourCount(final int tileId) {
+    return NEIGHBOUR_COUNTS[tileId];
+  }
+
+  /**
+   * Gets a neighbour tile of a tile, in up, down, left and right order.
+   * @param tileId tile index or ID.
+   * @param index index of the neighbour, less than getNeighbourCount(tileId).
+   * @return int neighbour tile index or ID.
+   */
+  public static int getNeighbour(final int tileId, final int index) {
+    return NEIGHBOURS[tileId * MAX_NEIGHBOUR_COUNT + index];
+  }
+
+  /**
+   * Gets the bitmask of the neighbour tiles 0 to 63 of a tile.
+   * @param tileId tile index or ID.
+   * @return long bitmask where bit n is set if tile n is adjacent.
+   */
+  public static long getLowNeighbourMask(final int tileId) {
+    return LOW_NEIGHBOUR_MASKS[tileId];
+  }
+
+  /**
+   * Gets the bitmask of the neighbour tiles 64 to 71 of a tile.
+   * @param tileId tile index or ID.
+   * @return long bitmask where bit n is set if tile 64 + n is adjacent.
+   */
+  public static long getHighNeighbourMask(final int tileId) {
+    return HIGH_NEIGHBOUR_MASKS[tileId];
+  }
+
   /**
    * Creates Piece instance of the passed in piece rank and alliance.
+   * @param rank Rank of the piece to be created.
+   * @param owner Player reference who will own the piece.
+   * @param alliance Alliance of the piece.
+   * @return the Piece created.
+   */
+  public static Piece pieceInstanceCreator(final Rank rank, final Player owner,
+                                           final Alliance alliance) {
+    return rank.createPiece(owner, alliance);
+  }
+
+  /**
+   * Creates Piece instance of the passed in piece rank name and alliance.
+   * Looks up the exact rank name first, then falls back to names containing
+   * a rank name, e.g. image file names.
    * @param pieceRankName name or rank of the piece to be created.
    * @param owner Player reference who will own the piece.
    * @param alliance Alliance of the piece.
    * @return the Piece created. Null unsuccessful.
    */
-  public static Piece pieceInstanceCreator(String pieceRankName, Player owner,
-                                           Alliance alliance) {
-    Piece piece = null;
-
-    if (pieceRankName.contains(GENERAL_FIVE_RANK))
-      piece = new GeneralFive(owner, alliance);
-    else if (pieceRankName.contains(GENERAL_FOUR_RANK))
-      piece = new GeneralFour(owner, alliance);
-    else if (pieceRankName.contains(GENERAL_THREE_RANK))
-      piece = new GeneralThree(owner, alliance);
-    else if (pieceRankName.contains(GENERAL_TWO_RANK))
-      piece = new GeneralTwo(owner, alliance);
-    else if (pieceRankName.contains(GENERAL_ONE_RANK))
-      piece = new GeneralOne(owner, alliance);
-    else if (pieceRankName.contains(COLONEL_RANK))
-      piece = new Colonel(owner, alliance);
-    else if (pieceRankName.contains(LT_COLONEL_RANK))
-      piece = new LtCol(owner, alliance);
-    else if (pieceRankName.contains(MAJOR_RANK))
-      piece = new Major(owner, alliance);
-    else if (pieceRankName.contains(CAPTAIN_RANK))
-      piece = new Captain(owner, alliance);
-    else if (pieceRankName.contains(LT_ONE_RANK))
-      piece = new LtOne(owner, alliance);
-    else if (pieceRankName.contains(LT_TWO_RANK))
-      piece = new LtTwo(owner, alliance);
-    else if (pieceRankName.contains(SERGEANT_RANK))
-      piece = new Sergeant(owner, alliance);
-    else if (pieceRankName.contains(PRIVATE_RANK))
-      piece = new Private(owner, alliance);
-    else if (pieceRankName.contains(FLAG_RANK))
-      piece = new Flag(owner, alliance);
-    else if (pieceRankName.contains(AGENT_RANK))
-      piece = new Agent(owner, alliance);
-
-    return piece;
+  public static Piece pieceInstanceCreator(final String pieceRankName, final Player owner,
+                                           final Alliance alliance) {
+    Rank rank = Rank.fromName(pieceRankName);
+
+    if (rank == null) {
+      for (final Rank candidate : Rank.values()) {
+        if (pieceRankName.contains(candidate.getName())) {
+          rank = candidate;
+          break;
+        }
+      }
+    }
+
+    return rank == null ? null : pieceInstanceCreator(rank, owner, alliance);
   }
 
   /**
@@ -0,0 +1,34 @@
+package com.BrethrenAce.GameUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardUtilsTest {
+
+    @Test
+    void getNeighbourCount() {
+        assertEquals(2, BoardUtils.getNeighbourCount(0));
+        assertEquals(2, BoardUtils.getNeighbourCount(71));
+        assertEquals(3, BoardUtils.getNeighbourCount(4));
+        assertEquals(4, BoardUtils.getNeighbourCount(40));
+    }
+
+    @Test
+    void getNeighbour() {
+        assertEquals(31, BoardUtils.getNeighbour(40, 0));
+        assertEquals(49, BoardUtils.getNeighbour(40, 1));
+        assertEquals(39, BoardUtils.getNeighbour(40, 2));
+        assertEquals(41, BoardUtils.getNeighbour(40, 3));
+        assertEquals(9, BoardUtils.getNeighbour(0, 0));
+        assertEquals(1, BoardUtils.getNeighbour(0, 1));
+    }
+
+    @Test
+    void getNeighbourMask() {
+        assertEquals(1L << 54, BoardUtils.getLowNeighbourMask(63));
+        assertEquals(1L, BoardUtils.getHighNeighbourMask(63));
+        assertEquals(1L << 62, BoardUtils.getLowNeighbourMask(71));
+        assertEquals(1L << 6, BoardUtils.getHighNeighbourMask(71));
+    }
+}